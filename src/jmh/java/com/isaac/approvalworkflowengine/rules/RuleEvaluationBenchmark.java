@@ -0,0 +1,101 @@
+package com.isaac.approvalworkflowengine.rules;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.rules.dsl.RuleDslParser;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleExpression;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleSet;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleCompiler;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleEvaluator;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleFieldResolver;
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.model.RuleExpression;
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the traced interpreter and the compiled predicate tree on a gateway-style rule, and the
+ * compiled predicate tree with each regex engine. Both sides reuse the tree compiled once in setup, so only
+ * evaluation is measured. Run with {@code ./gradlew jmh -PjmhArgs="RuleEvaluationBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RuleEvaluationBenchmark {
+
+    private static final String DSL = """
+        {
+          "all": [
+            {"field": "amount", "op": ">=", "value": 1000},
+            {"field": "department", "op": "in", "value": ["Finance", "HR", "Legal", "Operations"]},
+            {"any": [
+              {"field": "payload.metadata.region", "op": "==", "value": "NA"},
+              {"field": "payload.tags", "op": "contains", "value": "urgent"}
+            ]},
+            {"not": {"field": "currency", "op": "==", "value": "EUR"}},
+            {"field": "payload.code", "op": "matches", "value": "EXP-[0-9]{4}"}
+          ]
+        }
+        """;
+
+    private RuleEvaluator ruleEvaluator;
+    private CompiledRuleExpression compiledExpression;
+    private CompiledRuleSet compiledRuleSet;
+    private CompiledRuleSet linearRegexRuleSet;
+    private RuleEvaluationContext context;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        RuleRegexGuard ruleRegexGuard = new RuleRegexGuard();
+        RuleCompiler ruleCompiler = new RuleCompiler(objectMapper, new RuleFieldResolver(), ruleRegexGuard);
+
+        ruleEvaluator = new RuleEvaluator(ruleCompiler, ruleRegexGuard);
+        RuleExpression expression = new RuleDslParser(ruleRegexGuard).parse(objectMapper.readTree(DSL));
+        compiledRuleSet = ruleCompiler.compile("BENCHMARK", 1, expression);
+        compiledExpression = compiledRuleSet.compiled();
+        linearRegexRuleSet = ruleCompiler.compile("BENCHMARK", 1, expression, RuleRegexEngine.LINEAR);
+        context = new RuleEvaluationContext(
+            BigDecimal.valueOf(1500),
+            "Finance",
+            "EXPENSE",
+            "USD",
+            Map.of(
+                "tags", List.of("urgent", "capex"),
+                "code", "EXP-2026",
+                "metadata", Map.of("region", "NA")
+            )
+        );
+    }
+
+    @Benchmark
+    public boolean tracedInterpreter() {
+        return ruleEvaluator.evaluate(compiledExpression, context).matched();
+    }
+
+    @Benchmark
+    public boolean compiledPredicate() {
+        return compiledRuleSet.matches(context);
+    }
+
+    @Benchmark
+    public boolean compiledPredicateLinearRegex() {
+        return linearRegexRuleSet.matches(context);
+    }
+}
@@ -0,0 +1,91 @@
+package com.isaac.approvalworkflowengine.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.ApprovalWorkflowEngineApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Load comparison of platform-thread and virtual-thread request handling. Boots the application on a random
+ * port with the test profile and drives the request list endpoint, which does blocking JDBC on every call,
+ * from many concurrent clients. Non-200 responses (for example admission 503s) show up in the returned status.
+ * Run with {@code ./gradlew jmh -PjmhArgs="RequestThreadingBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private HttpRequest listRequest;
+
+    @Setup
+    public void startApplication() throws Exception {
+        context = new SpringApplicationBuilder(ApprovalWorkflowEngineApplication.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "app.security.rate-limit.enabled=false"
+            )
+            .run();
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder().executor(clientExecutor).build();
+
+        HttpResponse<String> login = httpClient.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"usernameOrEmail\":\"requestor\",\"password\":\"password\"}"))
+                .build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        String token = new ObjectMapper().readTree(login.body()).get("accessToken").asText();
+
+        listRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/requests?size=20"))
+            .header("Authorization", "Bearer " + token)
+            .GET()
+            .build();
+    }
+
+    @TearDown
+    public void stopApplication() {
+        clientExecutor.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int listRequests() throws Exception {
+        return httpClient.send(listRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,150 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-row task write pattern (merge-style select + insert, one versioned update per task)
+ * against batched inserts and a single set-based status update, on an in-memory H2 tasks table. This only prices
+ * the two statement shapes; {@code TaskFanOutBatchingTest} checks that the runtime's Hibernate flushes produce
+ * the batched shape. Run with {@code ./gradlew jmh -PjmhArgs="TaskWriteBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskWriteBenchmark {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO tasks (id, workflow_instance_id, step_key, assignee_role, status, version, created_at, updated_at)
+        VALUES (?, ?, ?, 'APPROVER', 'PENDING', 0, ?, ?)
+        """;
+
+    @Param({"10", "100"})
+    private int fanOut;
+
+    private Connection connection;
+    private UUID workflowInstanceId;
+    private List<UUID> taskIds;
+
+    @Setup(Level.Trial)
+    public void openDatabase() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:task_write_benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE IF NOT EXISTS tasks (
+                    id UUID PRIMARY KEY,
+                    workflow_instance_id UUID NOT NULL,
+                    step_key VARCHAR(80) NOT NULL,
+                    assignee_role VARCHAR(64),
+                    status VARCHAR(20) NOT NULL,
+                    version BIGINT NOT NULL DEFAULT 0,
+                    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+                )
+                """);
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_tasks_instance_status ON tasks (workflow_instance_id, status)");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void seedInstance() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM tasks");
+        }
+        workflowInstanceId = UUID.randomUUID();
+        taskIds = new ArrayList<>(fanOut);
+        for (int index = 0; index < fanOut; index++) {
+            taskIds.add(UUID.randomUUID());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int perRowInsertThenPerRowCancel() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (
+            PreparedStatement select = connection.prepareStatement("SELECT version FROM tasks WHERE id = ?");
+            PreparedStatement insert = connection.prepareStatement(INSERT_SQL)
+        ) {
+            for (int index = 0; index < fanOut; index++) {
+                select.setObject(1, taskIds.get(index));
+                try (ResultSet ignored = select.executeQuery()) {
+                    bindInsert(insert, index, now);
+                    insert.executeUpdate();
+                }
+            }
+        }
+
+        int updated = 0;
+        try (PreparedStatement update = connection.prepareStatement(
+            "UPDATE tasks SET status = 'CANCELLED', version = version + 1, updated_at = ? WHERE id = ? AND version = ?"
+        )) {
+            for (UUID taskId : taskIds) {
+                update.setTimestamp(1, now);
+                update.setObject(2, taskId);
+                update.setLong(3, 0L);
+                updated += update.executeUpdate();
+            }
+        }
+        return updated;
+    }
+
+    @Benchmark
+    public int batchedInsertThenSetBasedCancel() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (int index = 0; index < fanOut; index++) {
+                bindInsert(insert, index, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        try (PreparedStatement update = connection.prepareStatement("""
+            UPDATE tasks SET status = 'CANCELLED', version = version + 1, updated_at = ?
+            WHERE workflow_instance_id = ? AND status IN ('PENDING', 'CLAIMED')
+            """)) {
+            update.setTimestamp(1, now);
+            update.setObject(2, workflowInstanceId);
+            return update.executeUpdate();
+        }
+    }
+
+    private void bindInsert(PreparedStatement insert, int index, Timestamp now) throws SQLException {
+        insert.setObject(1, taskIds.get(index));
+        insert.setObject(2, workflowInstanceId);
+        insert.setString(3, "approve_" + index);
+        insert.setTimestamp(4, now);
+        insert.setTimestamp(5, now);
+    }
+}
@@ -1,6 +1,14 @@
 package com.isaac.approvalworkflowengine.rules;
 
+import java.util.Set;
+
 public interface RuleSetLookup {
 
     boolean exists(String ruleSetKey, int versionNo);
+
+    /**
+     * Branch labels a decision table version can select, including its default; empty for boolean rule sets and
+     * missing versions.
+     */
+    Set<String> decisionBranches(String ruleSetKey, int versionNo);
 }
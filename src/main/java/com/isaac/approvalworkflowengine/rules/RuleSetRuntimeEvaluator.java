@@ -5,4 +5,9 @@ import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
 public interface RuleSetRuntimeEvaluator {
 
     boolean matches(String ruleSetKey, int versionNo, RuleEvaluationContext context);
+
+    /**
+     * Branch label selected by a decision table rule set version.
+     */
+    String decide(String ruleSetKey, int versionNo, RuleEvaluationContext context);
 }
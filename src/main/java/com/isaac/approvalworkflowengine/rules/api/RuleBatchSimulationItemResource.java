@@ -0,0 +1,13 @@
+package com.isaac.approvalworkflowengine.rules.api;
+
+import java.util.List;
+import java.util.UUID;
+
+public record RuleBatchSimulationItemResource(
+    long index,
+    UUID requestId,
+    Boolean matched,
+    List<RuleEvaluationTraceResource> traces,
+    String error
+) {
+}
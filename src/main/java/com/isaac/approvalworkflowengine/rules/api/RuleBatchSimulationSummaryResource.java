@@ -0,0 +1,12 @@
+package com.isaac.approvalworkflowengine.rules.api;
+
+public record RuleBatchSimulationSummaryResource(
+    String ruleSetKey,
+    int versionNo,
+    long total,
+    long matched,
+    long unmatched,
+    long failed,
+    boolean truncated
+) {
+}
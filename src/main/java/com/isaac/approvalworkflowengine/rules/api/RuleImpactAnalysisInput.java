@@ -0,0 +1,17 @@
+package com.isaac.approvalworkflowengine.rules.api;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+
+public record RuleImpactAnalysisInput(
+    @Min(1) int baseVersionNo,
+    @Min(1) int candidateVersionNo,
+    @NotNull Instant from,
+    @NotNull Instant to,
+    @Size(max = 80) String requestType,
+    @Min(0) @Max(100) Integer sampleSize
+) {
+}
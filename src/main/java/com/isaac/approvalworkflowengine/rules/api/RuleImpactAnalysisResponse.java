@@ -0,0 +1,21 @@
+package com.isaac.approvalworkflowengine.rules.api;
+
+import java.time.Instant;
+import java.util.List;
+
+public record RuleImpactAnalysisResponse(
+    String ruleSetKey,
+    int baseVersionNo,
+    int candidateVersionNo,
+    Instant from,
+    Instant to,
+    String requestType,
+    long evaluated,
+    long baseMatched,
+    long candidateMatched,
+    long flippedToMatched,
+    long flippedToUnmatched,
+    long failed,
+    List<RuleImpactSampleResource> samples
+) {
+}
@@ -0,0 +1,13 @@
+package com.isaac.approvalworkflowengine.rules.api;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record RuleImpactSampleResource(
+    UUID requestId,
+    String requestType,
+    Instant createdAt,
+    boolean baseMatched,
+    boolean candidateMatched
+) {
+}
@@ -2,10 +2,16 @@ package com.isaac.approvalworkflowengine.rules.api;
 
 import com.isaac.approvalworkflowengine.rules.service.RuleSetActor;
 import com.isaac.approvalworkflowengine.rules.service.RuleSetService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -58,8 +64,41 @@ public class RuleSetController {
         return ruleSetService.listVersions(ruleSetKey, page, size);
     }
 
+    @PostMapping("/rule-sets/{ruleSetKey}/impact-analyses")
+    public RuleImpactAnalysisResponse analyzeImpact(
+        @PathVariable String ruleSetKey,
+        @Valid @RequestBody RuleImpactAnalysisInput input
+    ) {
+        return ruleSetService.analyzeImpact(ruleSetKey, input);
+    }
+
     @PostMapping("/rule-sets/simulations")
     public RuleSimulationResponse simulate(@Valid @RequestBody RuleSimulationRequest input) {
         return ruleSetService.simulate(input);
     }
+
+    @PostMapping(path = "/rule-sets/simulations/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void simulateBatch(
+        @RequestParam @NotBlank @Size(max = 100) String ruleSetKey,
+        @RequestParam @Min(1) int versionNo,
+        @RequestParam(defaultValue = "false") boolean includeTraces,
+        InputStream body,
+        HttpServletResponse response
+    ) throws IOException {
+        ruleSetService.simulateBatch(ruleSetKey, versionNo, includeTraces, body, () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            return response.getOutputStream();
+        });
+    }
+
+    @PostMapping(path = "/rule-sets/simulations/batch/requests", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public void simulateStoredRequests(
+        @Valid @RequestBody RuleStoredRequestSimulationInput input,
+        HttpServletResponse response
+    ) throws IOException {
+        ruleSetService.simulateStoredRequests(input, () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            return response.getOutputStream();
+        });
+    }
 }
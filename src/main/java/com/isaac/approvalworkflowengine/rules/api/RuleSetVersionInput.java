@@ -1,9 +1,11 @@
 package com.isaac.approvalworkflowengine.rules.api;
 
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
 import jakarta.validation.constraints.NotNull;
 import java.util.Map;
 
 public record RuleSetVersionInput(
-    @NotNull Map<String, Object> dsl
+    @NotNull Map<String, Object> dsl,
+    RuleRegexEngine regexEngine
 ) {
 }
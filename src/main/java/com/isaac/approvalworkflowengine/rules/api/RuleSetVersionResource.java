@@ -1,5 +1,7 @@
 package com.isaac.approvalworkflowengine.rules.api;
 
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
+import com.isaac.approvalworkflowengine.rules.model.RuleSetType;
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
@@ -8,6 +10,8 @@ public record RuleSetVersionResource(
     UUID id,
     String ruleSetKey,
     int versionNo,
+    RuleSetType type,
+    RuleRegexEngine regexEngine,
     Map<String, Object> dsl,
     String checksumSha256,
     Instant createdAt
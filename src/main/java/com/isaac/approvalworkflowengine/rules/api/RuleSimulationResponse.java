@@ -6,6 +6,7 @@ public record RuleSimulationResponse(
     String ruleSetKey,
     int versionNo,
     boolean matched,
+    String branch,
     List<RuleEvaluationTraceResource> traces
 ) {
 }
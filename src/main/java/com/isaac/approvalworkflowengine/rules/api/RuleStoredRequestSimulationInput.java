@@ -0,0 +1,17 @@
+package com.isaac.approvalworkflowengine.rules.api;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+
+public record RuleStoredRequestSimulationInput(
+    @NotBlank @Size(max = 100) String ruleSetKey,
+    @Min(1) int versionNo,
+    boolean includeTraces,
+    @NotNull Instant from,
+    @NotNull Instant to,
+    @Size(max = 80) String requestType
+) {
+}
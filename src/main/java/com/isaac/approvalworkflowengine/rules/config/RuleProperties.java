@@ -0,0 +1,100 @@
+package com.isaac.approvalworkflowengine.rules.config;
+
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.rules")
+public class RuleProperties {
+
+    private CompiledCache compiledCache = new CompiledCache();
+    private BatchSimulation batchSimulation = new BatchSimulation();
+    private Regex regex = new Regex();
+
+    public CompiledCache getCompiledCache() {
+        return compiledCache;
+    }
+
+    public void setCompiledCache(CompiledCache compiledCache) {
+        this.compiledCache = compiledCache;
+    }
+
+    public BatchSimulation getBatchSimulation() {
+        return batchSimulation;
+    }
+
+    public void setBatchSimulation(BatchSimulation batchSimulation) {
+        this.batchSimulation = batchSimulation;
+    }
+
+    public Regex getRegex() {
+        return regex;
+    }
+
+    public void setRegex(Regex regex) {
+        this.regex = regex;
+    }
+
+    public static class CompiledCache {
+
+        private int maxEntries = 512;
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    public static class BatchSimulation {
+
+        /**
+         * Evaluation threads; 0 uses the number of available processors.
+         */
+        private int parallelism = 0;
+        private int maxInFlight = 256;
+        private long maxItems = 100_000;
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public long getMaxItems() {
+            return maxItems;
+        }
+
+        public void setMaxItems(long maxItems) {
+            this.maxItems = maxItems;
+        }
+    }
+
+    public static class Regex {
+
+        /**
+         * Engine stored on rule set versions created without an explicit {@code regexEngine}. Existing versions keep
+         * the engine they were created with when this changes.
+         */
+        private RuleRegexEngine engine = RuleRegexEngine.JAVA;
+
+        public RuleRegexEngine getEngine() {
+            return engine;
+        }
+
+        public void setEngine(RuleRegexEngine engine) {
+            this.engine = engine;
+        }
+    }
+}
@@ -4,16 +4,21 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.isaac.approvalworkflowengine.rules.model.AllExpression;
 import com.isaac.approvalworkflowengine.rules.model.AnyExpression;
+import com.isaac.approvalworkflowengine.rules.model.DecisionTable;
 import com.isaac.approvalworkflowengine.rules.model.NotExpression;
 import com.isaac.approvalworkflowengine.rules.model.PredicateExpression;
 import com.isaac.approvalworkflowengine.rules.model.RuleExpression;
 import com.isaac.approvalworkflowengine.rules.model.RuleOperator;
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
 import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
 import com.isaac.approvalworkflowengine.shared.api.ApiErrorDetail;
 import com.isaac.approvalworkflowengine.shared.error.BadRequestException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.stereotype.Component;
@@ -21,6 +26,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class RuleDslParser {
 
+    public static final String DECISION_TABLE_KEY = "decisionTable";
+
     private static final Pattern FIELD_PATTERN = Pattern.compile(
         "^(amount|department|requestType|currency|payload(?:\\.[A-Za-z0-9_-]+)*)$"
     );
@@ -29,6 +36,11 @@ public class RuleDslParser {
     private static final Set<String> ANY_NODE_KEYS = Set.of("any");
     private static final Set<String> NOT_NODE_KEYS = Set.of("not");
     private static final Set<String> PREDICATE_KEYS = Set.of("field", "op", "value");
+    private static final Set<String> DECISION_TABLE_KEYS = Set.of("columns", "rows", "defaultBranch");
+    private static final Set<String> COLUMN_KEYS = Set.of("field", "match");
+    private static final Set<String> ROW_KEYS = Set.of("when", "branch");
+    private static final Set<String> RANGE_KEYS = Set.of("min", "max");
+    private static final Pattern BRANCH_PATTERN = Pattern.compile("^[A-Za-z0-9_-]{1,64}$");
 
     private final RuleRegexGuard ruleRegexGuard;
 
@@ -37,10 +49,55 @@ public class RuleDslParser {
     }
 
     public RuleExpression parse(JsonNode dsl) {
-        return parse(dsl, "dsl");
+        return parse(dsl, RuleRegexEngine.JAVA);
+    }
+
+    /**
+     * Parses a boolean expression and checks every {@code matches} pattern against the syntax of {@code regexEngine}.
+     */
+    public RuleExpression parse(JsonNode dsl, RuleRegexEngine regexEngine) {
+        return parse(dsl, "dsl", regexEngine);
+    }
+
+    public boolean isDecisionTable(JsonNode dsl) {
+        return dsl != null && dsl.isObject() && dsl.has(DECISION_TABLE_KEY);
+    }
+
+    public DecisionTable parseDecisionTable(JsonNode dsl) {
+        String path = "dsl";
+        if (!isDecisionTable(dsl)) {
+            throw invalid(path, "Expression must be a decision table");
+        }
+        ensureExactKeys(extractKeys((ObjectNode) dsl), Set.of(DECISION_TABLE_KEY), path);
+
+        path = path + "." + DECISION_TABLE_KEY;
+        JsonNode table = dsl.get(DECISION_TABLE_KEY);
+        if (!table.isObject()) {
+            throw invalid(path, "decisionTable must be a JSON object");
+        }
+        ensureExactKeys(extractKeys((ObjectNode) table), DECISION_TABLE_KEYS, path);
+
+        List<DecisionTable.Column> columns = parseColumns(table.get("columns"), path + ".columns");
+        Map<String, DecisionTable.MatchType> matchByField = new LinkedHashMap<>();
+        for (DecisionTable.Column column : columns) {
+            matchByField.put(column.field(), column.match());
+        }
+
+        JsonNode rows = table.get("rows");
+        if (!rows.isArray() || rows.isEmpty()) {
+            throw invalid(path + ".rows", "rows must be a non-empty array");
+        }
+
+        List<DecisionTable.Row> parsedRows = new ArrayList<>(rows.size());
+        for (int index = 0; index < rows.size(); index++) {
+            parsedRows.add(parseRow(rows.get(index), matchByField, path + ".rows[" + index + "]"));
+        }
+
+        String defaultBranch = parseBranch(table.get("defaultBranch"), path + ".defaultBranch");
+        return new DecisionTable(columns, List.copyOf(parsedRows), defaultBranch);
     }
 
-    private RuleExpression parse(JsonNode node, String path) {
+    private RuleExpression parse(JsonNode node, String path, RuleRegexEngine regexEngine) {
         if (node == null || node.isNull() || !node.isObject()) {
             throw invalid(path, "Expression must be a JSON object");
         }
@@ -67,7 +124,7 @@ public class RuleDslParser {
 
             List<RuleExpression> parsed = new ArrayList<>();
             for (int index = 0; index < expressions.size(); index++) {
-                parsed.add(parse(expressions.get(index), path + ".all[" + index + "]"));
+                parsed.add(parse(expressions.get(index), path + ".all[" + index + "]", regexEngine));
             }
             return new AllExpression(List.copyOf(parsed));
         }
@@ -81,7 +138,7 @@ public class RuleDslParser {
 
             List<RuleExpression> parsed = new ArrayList<>();
             for (int index = 0; index < expressions.size(); index++) {
-                parsed.add(parse(expressions.get(index), path + ".any[" + index + "]"));
+                parsed.add(parse(expressions.get(index), path + ".any[" + index + "]", regexEngine));
             }
             return new AnyExpression(List.copyOf(parsed));
         }
@@ -89,20 +146,12 @@ public class RuleDslParser {
         if (hasNot) {
             ensureExactKeys(keys, NOT_NODE_KEYS, path);
             JsonNode expression = objectNode.get("not");
-            return new NotExpression(parse(expression, path + ".not"));
+            return new NotExpression(parse(expression, path + ".not", regexEngine));
         }
 
         ensureExactKeys(keys, PREDICATE_KEYS, path);
 
-        JsonNode fieldNode = objectNode.get("field");
-        if (fieldNode == null || !fieldNode.isTextual() || fieldNode.asText().isBlank()) {
-            throw invalid(path + ".field", "field must be a non-blank string");
-        }
-
-        String field = fieldNode.asText().trim();
-        if (!FIELD_PATTERN.matcher(field).matches()) {
-            throw invalid(path + ".field", "field path is not allowed");
-        }
+        String field = parseField(objectNode.get("field"), path + ".field");
 
         JsonNode operatorNode = objectNode.get("op");
         if (operatorNode == null || !operatorNode.isTextual()) {
@@ -129,12 +178,136 @@ public class RuleDslParser {
             if (!valueNode.isTextual()) {
                 throw invalid(path + ".value", "matches operator requires a string pattern");
             }
-            ruleRegexGuard.validatePattern(valueNode.asText(), path + ".value");
+            ruleRegexGuard.compile(valueNode.asText(), path + ".value", regexEngine);
         }
 
         return new PredicateExpression(field, operator, valueNode.deepCopy());
     }
 
+    private List<DecisionTable.Column> parseColumns(JsonNode columns, String path) {
+        if (!columns.isArray() || columns.isEmpty()) {
+            throw invalid(path, "columns must be a non-empty array");
+        }
+
+        List<DecisionTable.Column> parsed = new ArrayList<>(columns.size());
+        Set<String> fields = new HashSet<>();
+        for (int index = 0; index < columns.size(); index++) {
+            String columnPath = path + "[" + index + "]";
+            JsonNode column = columns.get(index);
+            if (!column.isObject()) {
+                throw invalid(columnPath, "column must be a JSON object");
+            }
+            ensureExactKeys(extractKeys((ObjectNode) column), COLUMN_KEYS, columnPath);
+
+            String field = parseField(column.get("field"), columnPath + ".field");
+            if (!fields.add(field)) {
+                throw invalid(columnPath + ".field", "column field is declared more than once");
+            }
+
+            JsonNode matchNode = column.get("match");
+            String match = matchNode.isTextual() ? matchNode.asText().trim().toLowerCase(Locale.ROOT) : "";
+            DecisionTable.MatchType matchType = switch (match) {
+                case "equals" -> DecisionTable.MatchType.EQUALS;
+                case "range" -> DecisionTable.MatchType.RANGE;
+                default -> throw invalid(columnPath + ".match", "match must be equals or range");
+            };
+            parsed.add(new DecisionTable.Column(field, matchType));
+        }
+        return List.copyOf(parsed);
+    }
+
+    private DecisionTable.Row parseRow(JsonNode row, Map<String, DecisionTable.MatchType> matchByField, String path) {
+        if (row == null || !row.isObject()) {
+            throw invalid(path, "row must be a JSON object");
+        }
+        ensureExactKeys(extractKeys((ObjectNode) row), ROW_KEYS, path);
+
+        JsonNode when = row.get("when");
+        if (!when.isObject()) {
+            throw invalid(path + ".when", "when must be a JSON object keyed by column field");
+        }
+
+        Map<String, JsonNode> conditions = new LinkedHashMap<>();
+        for (Map.Entry<String, JsonNode> entry : when.properties()) {
+            String conditionPath = path + ".when." + entry.getKey();
+            DecisionTable.MatchType matchType = matchByField.get(entry.getKey());
+            if (matchType == null) {
+                throw invalid(conditionPath, "condition refers to an undeclared column");
+            }
+
+            if (matchType == DecisionTable.MatchType.EQUALS) {
+                validateEqualsCondition(entry.getValue(), conditionPath);
+            } else {
+                validateRangeCondition(entry.getValue(), conditionPath);
+            }
+            conditions.put(entry.getKey(), entry.getValue().deepCopy());
+        }
+
+        return new DecisionTable.Row(Map.copyOf(conditions), parseBranch(row.get("branch"), path + ".branch"));
+    }
+
+    private void validateEqualsCondition(JsonNode condition, String path) {
+        if (condition.isArray()) {
+            if (condition.isEmpty()) {
+                throw invalid(path, "equals condition array must not be empty");
+            }
+            for (JsonNode item : condition) {
+                if (!item.isValueNode() || item.isNull()) {
+                    throw invalid(path, "equals condition values must be non-null scalars");
+                }
+            }
+            return;
+        }
+
+        if (!condition.isValueNode() || condition.isNull()) {
+            throw invalid(path, "equals condition must be a non-null scalar or an array of scalars");
+        }
+    }
+
+    private void validateRangeCondition(JsonNode condition, String path) {
+        if (!condition.isObject() || condition.isEmpty()) {
+            throw invalid(path, "range condition must be an object with min and/or max");
+        }
+        if (!RANGE_KEYS.containsAll(extractKeys((ObjectNode) condition))) {
+            throw invalid(path, "Expression contains unexpected keys");
+        }
+
+        JsonNode min = condition.get("min");
+        JsonNode max = condition.get("max");
+        if ((min != null && !min.isNumber()) || (max != null && !max.isNumber())) {
+            throw invalid(path, "range bounds must be numbers");
+        }
+        if (min != null && max != null && min.decimalValue().compareTo(max.decimalValue()) >= 0) {
+            throw invalid(path, "range min must be below max");
+        }
+    }
+
+    private String parseField(JsonNode fieldNode, String path) {
+        if (fieldNode == null || !fieldNode.isTextual() || fieldNode.asText().isBlank()) {
+            throw invalid(path, "field must be a non-blank string");
+        }
+
+        String field = fieldNode.asText().trim();
+        if (!FIELD_PATTERN.matcher(field).matches()) {
+            throw invalid(path, "field path is not allowed");
+        }
+        return field;
+    }
+
+    /**
+     * Branch labels name gateway edges; {@code true}/{@code false} stay reserved for boolean gateways.
+     */
+    private String parseBranch(JsonNode branchNode, String path) {
+        String branch = branchNode != null && branchNode.isTextual() ? branchNode.asText().trim() : "";
+        if (!BRANCH_PATTERN.matcher(branch).matches()) {
+            throw invalid(path, "branch must be 1-64 letters, digits, '_' or '-'");
+        }
+        if ("true".equalsIgnoreCase(branch) || "false".equalsIgnoreCase(branch)) {
+            throw invalid(path, "branch cannot be true or false");
+        }
+        return branch;
+    }
+
     private void ensureExactKeys(Set<String> actualKeys, Set<String> allowedKeys, String path) {
         if (!actualKeys.equals(allowedKeys)) {
             throw invalid(path, "Expression contains unexpected keys");
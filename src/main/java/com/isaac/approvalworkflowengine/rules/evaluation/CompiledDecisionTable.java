@@ -0,0 +1,220 @@
+package com.isaac.approvalworkflowengine.rules.evaluation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.isaac.approvalworkflowengine.rules.model.DecisionTable;
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Index form of a {@link DecisionTable}. Every column maps a field value to the set of rows it satisfies:
+ * equality columns through a hash lookup, range columns through a binary search over the sorted interval
+ * boundaries. Rows without a condition in a column are folded into every entry of that column at compile time,
+ * so a lookup is one probe per column plus a bitset intersection, independent of how the rows are written.
+ * The lowest surviving row index is the first matching row.
+ */
+public final class CompiledDecisionTable {
+
+    private final ColumnIndex[] columns;
+    private final String[] rowBranches;
+    private final String defaultBranch;
+    private final Set<String> branches;
+
+    private CompiledDecisionTable(ColumnIndex[] columns, String[] rowBranches, String defaultBranch) {
+        this.columns = columns;
+        this.rowBranches = rowBranches;
+        this.defaultBranch = defaultBranch;
+
+        Set<String> branches = new LinkedHashSet<>(Arrays.asList(rowBranches));
+        branches.add(defaultBranch);
+        this.branches = Set.copyOf(branches);
+    }
+
+    static CompiledDecisionTable compile(
+        DecisionTable table,
+        RuleFieldResolver ruleFieldResolver,
+        Function<JsonNode, Object> valueConverter
+    ) {
+        List<DecisionTable.Row> rows = table.rows();
+        ColumnIndex[] columns = new ColumnIndex[table.columns().size()];
+        for (int index = 0; index < columns.length; index++) {
+            DecisionTable.Column column = table.columns().get(index);
+            RuleFieldAccessor accessor = ruleFieldResolver.accessor(column.field());
+            columns[index] = column.match() == DecisionTable.MatchType.EQUALS
+                ? EqualsIndex.build(column.field(), accessor, rows, valueConverter)
+                : RangeIndex.build(column.field(), accessor, rows);
+        }
+
+        String[] rowBranches = rows.stream().map(DecisionTable.Row::branch).toArray(String[]::new);
+        return new CompiledDecisionTable(columns, rowBranches, table.defaultBranch());
+    }
+
+    public String decide(RuleEvaluationContext context) {
+        return branchOf(matchingRow(context));
+    }
+
+    /**
+     * Index of the first row whose conditions all hold, or {@code -1} when the default branch applies.
+     */
+    public int matchingRow(RuleEvaluationContext context) {
+        BitSet first = columns[0].rowsFor(context);
+        if (columns.length == 1) {
+            return first.nextSetBit(0);
+        }
+
+        BitSet candidates = (BitSet) first.clone();
+        for (int index = 1; index < columns.length && !candidates.isEmpty(); index++) {
+            candidates.and(columns[index].rowsFor(context));
+        }
+        return candidates.nextSetBit(0);
+    }
+
+    public String branchOf(int row) {
+        return row < 0 ? defaultBranch : rowBranches[row];
+    }
+
+    /**
+     * Every branch label this table can select, including the default.
+     */
+    public Set<String> branches() {
+        return branches;
+    }
+
+    private sealed interface ColumnIndex permits EqualsIndex, RangeIndex {
+
+        BitSet rowsFor(RuleEvaluationContext context);
+    }
+
+    /**
+     * Keys are normalized like the {@code ==} operator: numbers by value, everything else by {@code equals}.
+     */
+    private record EqualsIndex(RuleFieldAccessor accessor, Map<Object, BitSet> rowsByValue, BitSet unconditioned)
+        implements ColumnIndex {
+
+        static EqualsIndex build(
+            String field,
+            RuleFieldAccessor accessor,
+            List<DecisionTable.Row> rows,
+            Function<JsonNode, Object> valueConverter
+        ) {
+            Map<Object, BitSet> rowsByValue = new HashMap<>();
+            BitSet unconditioned = new BitSet(rows.size());
+            for (int row = 0; row < rows.size(); row++) {
+                JsonNode condition = rows.get(row).when().get(field);
+                if (condition == null) {
+                    unconditioned.set(row);
+                    continue;
+                }
+
+                List<JsonNode> values = new ArrayList<>();
+                if (condition.isArray()) {
+                    condition.forEach(values::add);
+                } else {
+                    values.add(condition);
+                }
+                for (JsonNode value : values) {
+                    rowsByValue.computeIfAbsent(key(valueConverter.apply(value)), key -> new BitSet(rows.size())).set(row);
+                }
+            }
+
+            rowsByValue.values().forEach(matching -> matching.or(unconditioned));
+            return new EqualsIndex(accessor, Map.copyOf(rowsByValue), unconditioned);
+        }
+
+        @Override
+        public BitSet rowsFor(RuleEvaluationContext context) {
+            Object value = accessor.resolve(context);
+            if (value == null) {
+                return unconditioned;
+            }
+            return rowsByValue.getOrDefault(key(value), unconditioned);
+        }
+
+        private static Object key(Object value) {
+            BigDecimal numeric = RuleValues.asBigDecimal(value);
+            return numeric == null ? value : RuleValues.canonical(numeric);
+        }
+    }
+
+    /**
+     * The distinct {@code min}/{@code max} bounds split the number line into {@code bounds.length + 1} segments;
+     * {@code rowsBySegment[i]} holds the rows whose {@code [min, max)} interval covers segment {@code i}.
+     */
+    private record RangeIndex(
+        RuleFieldAccessor accessor,
+        BigDecimal[] bounds,
+        BitSet[] rowsBySegment,
+        BitSet unconditioned
+    ) implements ColumnIndex {
+
+        static RangeIndex build(String field, RuleFieldAccessor accessor, List<DecisionTable.Row> rows) {
+            TreeSet<BigDecimal> distinctBounds = new TreeSet<>();
+            for (DecisionTable.Row row : rows) {
+                JsonNode condition = row.when().get(field);
+                if (condition == null) {
+                    continue;
+                }
+                if (condition.has("min")) {
+                    distinctBounds.add(condition.get("min").decimalValue());
+                }
+                if (condition.has("max")) {
+                    distinctBounds.add(condition.get("max").decimalValue());
+                }
+            }
+            BigDecimal[] bounds = distinctBounds.toArray(BigDecimal[]::new);
+
+            BitSet[] rowsBySegment = new BitSet[bounds.length + 1];
+            for (int segment = 0; segment < rowsBySegment.length; segment++) {
+                rowsBySegment[segment] = new BitSet(rows.size());
+            }
+
+            BitSet unconditioned = new BitSet(rows.size());
+            for (int row = 0; row < rows.size(); row++) {
+                JsonNode condition = rows.get(row).when().get(field);
+                int from = 0;
+                int to = rowsBySegment.length;
+                if (condition == null) {
+                    unconditioned.set(row);
+                } else {
+                    if (condition.has("min")) {
+                        from = segmentOf(bounds, condition.get("min").decimalValue());
+                    }
+                    if (condition.has("max")) {
+                        to = segmentOf(bounds, condition.get("max").decimalValue());
+                    }
+                }
+                for (int segment = from; segment < to; segment++) {
+                    rowsBySegment[segment].set(row);
+                }
+            }
+
+            return new RangeIndex(accessor, bounds, rowsBySegment, unconditioned);
+        }
+
+        @Override
+        public BitSet rowsFor(RuleEvaluationContext context) {
+            BigDecimal value = RuleValues.asBigDecimal(accessor.resolve(context));
+            if (value == null) {
+                return unconditioned;
+            }
+            return rowsBySegment[segmentOf(bounds, value)];
+        }
+
+        /**
+         * Number of bounds at or below {@code value}, i.e. the segment that contains it.
+         */
+        private static int segmentOf(BigDecimal[] bounds, BigDecimal value) {
+            int position = Arrays.binarySearch(bounds, value);
+            return position >= 0 ? position + 1 : -(position + 1);
+        }
+    }
+}
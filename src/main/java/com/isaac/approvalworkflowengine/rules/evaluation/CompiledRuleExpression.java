@@ -0,0 +1,33 @@
+package com.isaac.approvalworkflowengine.rules.evaluation;
+
+import com.isaac.approvalworkflowengine.rules.model.PredicateExpression;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegex;
+import java.util.List;
+
+public sealed interface CompiledRuleExpression {
+
+    record AllNode(List<CompiledRuleExpression> expressions) implements CompiledRuleExpression {
+    }
+
+    record AnyNode(List<CompiledRuleExpression> expressions) implements CompiledRuleExpression {
+    }
+
+    record NotNode(CompiledRuleExpression expression) implements CompiledRuleExpression {
+    }
+
+    /**
+     * Only produced by optimization, for subtrees whose outcome does not depend on the request.
+     */
+    record ConstantNode(boolean value) implements CompiledRuleExpression {
+    }
+
+    record PredicateNode(
+        PredicateExpression source,
+        String path,
+        RuleFieldAccessor accessor,
+        Object expectedValue,
+        List<Object> candidates,
+        RuleRegex pattern
+    ) implements CompiledRuleExpression {
+    }
+}
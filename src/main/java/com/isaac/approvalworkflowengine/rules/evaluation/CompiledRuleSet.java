@@ -0,0 +1,40 @@
+package com.isaac.approvalworkflowengine.rules.evaluation;
+
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.model.RuleExpression;
+import com.isaac.approvalworkflowengine.rules.model.RuleSetType;
+import java.util.function.Predicate;
+
+/**
+ * A boolean rule set carries {@code expression}, {@code compiled} and {@code predicate}; a decision table rule set
+ * carries only {@code decisionTable}.
+ */
+public record CompiledRuleSet(
+    String ruleSetKey,
+    int versionNo,
+    RuleExpression expression,
+    CompiledRuleExpression compiled,
+    Predicate<RuleEvaluationContext> predicate,
+    CompiledDecisionTable decisionTable
+) {
+
+    public RuleSetType type() {
+        return decisionTable == null ? RuleSetType.BOOLEAN : RuleSetType.DECISION_TABLE;
+    }
+
+    public boolean matches(RuleEvaluationContext context) {
+        if (predicate == null) {
+            throw new IllegalStateException(
+                "Rule set " + ruleSetKey + " v" + versionNo + " is a decision table and has no boolean outcome"
+            );
+        }
+        return predicate.test(context);
+    }
+
+    public String decide(RuleEvaluationContext context) {
+        if (decisionTable == null) {
+            throw new IllegalStateException("Rule set " + ruleSetKey + " v" + versionNo + " is not a decision table");
+        }
+        return decisionTable.decide(context);
+    }
+}
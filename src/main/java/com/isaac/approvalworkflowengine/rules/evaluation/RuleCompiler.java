@@ -0,0 +1,148 @@
+package com.isaac.approvalworkflowengine.rules.evaluation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.rules.model.AllExpression;
+import com.isaac.approvalworkflowengine.rules.model.AnyExpression;
+import com.isaac.approvalworkflowengine.rules.model.DecisionTable;
+import com.isaac.approvalworkflowengine.rules.model.NotExpression;
+import com.isaac.approvalworkflowengine.rules.model.PredicateExpression;
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.model.RuleExpression;
+import com.isaac.approvalworkflowengine.rules.model.RuleOperator;
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegex;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts parsed rule expressions into evaluation-ready trees: expected values are converted from JSON and
+ * regex patterns are compiled through {@link RuleRegexGuard} once, with the requested {@link RuleRegexEngine}, instead
+ * of on every evaluation. The tree backs
+ * traced simulation; the predicate closure built from its optimized form backs runtime routing. Decision tables
+ * compile into a {@link CompiledDecisionTable} index instead.
+ */
+@Component
+public class RuleCompiler {
+
+    private final ObjectMapper objectMapper;
+    private final RuleFieldResolver ruleFieldResolver;
+    private final RuleRegexGuard ruleRegexGuard;
+    private final RulePredicateCompiler rulePredicateCompiler;
+    private final RuleExpressionOptimizer ruleExpressionOptimizer = new RuleExpressionOptimizer();
+
+    public RuleCompiler(ObjectMapper objectMapper, RuleFieldResolver ruleFieldResolver, RuleRegexGuard ruleRegexGuard) {
+        this.objectMapper = objectMapper;
+        this.ruleFieldResolver = ruleFieldResolver;
+        this.ruleRegexGuard = ruleRegexGuard;
+        this.rulePredicateCompiler = new RulePredicateCompiler(ruleRegexGuard);
+    }
+
+    public CompiledRuleSet compile(String ruleSetKey, int versionNo, RuleExpression expression) {
+        return compile(ruleSetKey, versionNo, expression, RuleRegexEngine.JAVA);
+    }
+
+    public CompiledRuleSet compile(String ruleSetKey, int versionNo, RuleExpression expression, RuleRegexEngine regexEngine) {
+        CompiledRuleExpression compiled = compile(expression, regexEngine);
+        return new CompiledRuleSet(ruleSetKey, versionNo, expression, compiled, compilePredicate(optimize(compiled)), null);
+    }
+
+    public CompiledRuleSet compile(String ruleSetKey, int versionNo, DecisionTable decisionTable) {
+        CompiledDecisionTable compiled = CompiledDecisionTable.compile(decisionTable, ruleFieldResolver, this::jsonNodeToObject);
+        return new CompiledRuleSet(ruleSetKey, versionNo, null, null, null, compiled);
+    }
+
+    /**
+     * Semantics-preserving rewrite for the boolean fast path; see {@link RuleExpressionOptimizer}.
+     */
+    public CompiledRuleExpression optimize(CompiledRuleExpression expression) {
+        return ruleExpressionOptimizer.optimize(expression);
+    }
+
+    public Predicate<RuleEvaluationContext> compilePredicate(CompiledRuleExpression expression) {
+        return rulePredicateCompiler.compile(expression);
+    }
+
+    public CompiledRuleExpression compile(RuleExpression expression) {
+        return compile(expression, RuleRegexEngine.JAVA);
+    }
+
+    public CompiledRuleExpression compile(RuleExpression expression, RuleRegexEngine regexEngine) {
+        return compile(expression, "$", regexEngine);
+    }
+
+    private CompiledRuleExpression compile(RuleExpression expression, String path, RuleRegexEngine regexEngine) {
+        if (expression instanceof AllExpression allExpression) {
+            return new CompiledRuleExpression.AllNode(
+                compileChildren(allExpression.expressions(), path + ".all", regexEngine)
+            );
+        }
+
+        if (expression instanceof AnyExpression anyExpression) {
+            return new CompiledRuleExpression.AnyNode(
+                compileChildren(anyExpression.expressions(), path + ".any", regexEngine)
+            );
+        }
+
+        if (expression instanceof NotExpression notExpression) {
+            return new CompiledRuleExpression.NotNode(compile(notExpression.expression(), path + ".not", regexEngine));
+        }
+
+        return compilePredicate((PredicateExpression) expression, path, regexEngine);
+    }
+
+    private List<CompiledRuleExpression> compileChildren(
+        List<RuleExpression> children,
+        String pathPrefix,
+        RuleRegexEngine regexEngine
+    ) {
+        List<CompiledRuleExpression> compiled = new ArrayList<>(children.size());
+        for (int index = 0; index < children.size(); index++) {
+            compiled.add(compile(children.get(index), pathPrefix + "[" + index + "]", regexEngine));
+        }
+        return List.copyOf(compiled);
+    }
+
+    private CompiledRuleExpression.PredicateNode compilePredicate(
+        PredicateExpression predicate,
+        String path,
+        RuleRegexEngine regexEngine
+    ) {
+        JsonNode expectedNode = predicate.value();
+        Object expectedValue = jsonNodeToObject(expectedNode);
+
+        List<Object> candidates = List.of();
+        if (predicate.operator() == RuleOperator.IN && expectedNode != null && expectedNode.isArray()) {
+            List<Object> converted = new ArrayList<>(expectedNode.size());
+            for (JsonNode item : expectedNode) {
+                converted.add(jsonNodeToObject(item));
+            }
+            candidates = Collections.unmodifiableList(converted);
+        }
+
+        RuleRegex pattern = null;
+        if (predicate.operator() == RuleOperator.MATCHES && expectedNode != null && expectedNode.isTextual()) {
+            pattern = ruleRegexGuard.compile(expectedNode.asText(), path + ".value", regexEngine);
+        }
+
+        return new CompiledRuleExpression.PredicateNode(
+            predicate,
+            path,
+            ruleFieldResolver.accessor(predicate.field()),
+            expectedValue,
+            candidates,
+            pattern
+        );
+    }
+
+    private Object jsonNodeToObject(JsonNode value) {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return objectMapper.convertValue(value, Object.class);
+    }
+}
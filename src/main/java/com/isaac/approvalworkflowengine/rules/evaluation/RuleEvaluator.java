@@ -1,163 +1,139 @@
 package com.isaac.approvalworkflowengine.rules.evaluation;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.isaac.approvalworkflowengine.rules.model.AllExpression;
-import com.isaac.approvalworkflowengine.rules.model.AnyExpression;
-import com.isaac.approvalworkflowengine.rules.model.NotExpression;
 import com.isaac.approvalworkflowengine.rules.model.PredicateExpression;
 import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
 import com.isaac.approvalworkflowengine.rules.model.RuleExpression;
 import com.isaac.approvalworkflowengine.rules.model.RuleOperator;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegex;
 import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.function.IntPredicate;
-import java.util.regex.Pattern;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RuleEvaluator {
 
-    private final ObjectMapper objectMapper;
-    private final RuleFieldResolver ruleFieldResolver;
+    private final RuleCompiler ruleCompiler;
     private final RuleRegexGuard ruleRegexGuard;
 
-    public RuleEvaluator(
-        ObjectMapper objectMapper,
-        RuleFieldResolver ruleFieldResolver,
-        RuleRegexGuard ruleRegexGuard
-    ) {
-        this.objectMapper = objectMapper;
-        this.ruleFieldResolver = ruleFieldResolver;
+    public RuleEvaluator(RuleCompiler ruleCompiler, RuleRegexGuard ruleRegexGuard) {
+        this.ruleCompiler = ruleCompiler;
         this.ruleRegexGuard = ruleRegexGuard;
     }
 
     public RuleEvaluationResult evaluate(RuleExpression expression, RuleEvaluationContext context) {
+        return evaluate(ruleCompiler.compile(expression), context);
+    }
+
+    public RuleEvaluationResult evaluate(CompiledRuleExpression expression, RuleEvaluationContext context) {
         List<RuleEvaluationTrace> traces = new ArrayList<>();
-        Map<String, Pattern> regexCache = new HashMap<>();
-        boolean matched = evaluateInternal(expression, context, "$", traces, regexCache);
+        boolean matched = evaluateInternal(expression, context, "$", traces);
         return new RuleEvaluationResult(matched, List.copyOf(traces));
     }
 
     private boolean evaluateInternal(
-        RuleExpression expression,
+        CompiledRuleExpression expression,
         RuleEvaluationContext context,
         String path,
-        List<RuleEvaluationTrace> traces,
-        Map<String, Pattern> regexCache
+        List<RuleEvaluationTrace> traces
     ) {
-        if (expression instanceof AllExpression allExpression) {
+        if (expression instanceof CompiledRuleExpression.AllNode allNode) {
             boolean result = true;
-            List<RuleExpression> children = allExpression.expressions();
+            List<CompiledRuleExpression> children = allNode.expressions();
             for (int index = 0; index < children.size(); index++) {
-                boolean child = evaluateInternal(children.get(index), context, path + ".all[" + index + "]", traces, regexCache);
+                boolean child = evaluateInternal(children.get(index), context, path + ".all[" + index + "]", traces);
                 result = result && child;
             }
             traces.add(new RuleEvaluationTrace(path, "all", result, null, null, null, null, "all children evaluated"));
             return result;
         }
 
-        if (expression instanceof AnyExpression anyExpression) {
+        if (expression instanceof CompiledRuleExpression.AnyNode anyNode) {
             boolean result = false;
-            List<RuleExpression> children = anyExpression.expressions();
+            List<CompiledRuleExpression> children = anyNode.expressions();
             for (int index = 0; index < children.size(); index++) {
-                boolean child = evaluateInternal(children.get(index), context, path + ".any[" + index + "]", traces, regexCache);
+                boolean child = evaluateInternal(children.get(index), context, path + ".any[" + index + "]", traces);
                 result = result || child;
             }
             traces.add(new RuleEvaluationTrace(path, "any", result, null, null, null, null, "all children evaluated"));
             return result;
         }
 
-        if (expression instanceof NotExpression notExpression) {
-            boolean child = evaluateInternal(notExpression.expression(), context, path + ".not", traces, regexCache);
+        if (expression instanceof CompiledRuleExpression.NotNode notNode) {
+            boolean child = evaluateInternal(notNode.expression(), context, path + ".not", traces);
             boolean result = !child;
             traces.add(new RuleEvaluationTrace(path, "not", result, null, null, null, null, "logical negation"));
             return result;
         }
 
-        PredicateExpression predicate = (PredicateExpression) expression;
-        return evaluatePredicate(predicate, context, path, traces, regexCache);
+        if (expression instanceof CompiledRuleExpression.ConstantNode constant) {
+            traces.add(new RuleEvaluationTrace(path, "constant", constant.value(), null, null, null, null, "folded constant"));
+            return constant.value();
+        }
+
+        CompiledRuleExpression.PredicateNode predicate = (CompiledRuleExpression.PredicateNode) expression;
+        return evaluatePredicate(predicate, context, path, traces);
     }
 
     private boolean evaluatePredicate(
-        PredicateExpression predicate,
+        CompiledRuleExpression.PredicateNode predicate,
         RuleEvaluationContext context,
         String path,
-        List<RuleEvaluationTrace> traces,
-        Map<String, Pattern> regexCache
+        List<RuleEvaluationTrace> traces
     ) {
-        Object fieldValue = ruleFieldResolver.resolve(predicate.field(), context);
-        JsonNode expectedNode = predicate.value();
-        Object expectedValue = jsonNodeToObject(expectedNode);
-
-        boolean result;
-        String reason;
-
-        switch (predicate.operator()) {
-            case EQ -> {
-                result = equalsNormalized(fieldValue, expectedValue);
-                reason = "strict equality";
-            }
-            case NE -> {
-                result = !equalsNormalized(fieldValue, expectedValue);
-                reason = "strict inequality";
-            }
-            case GT -> {
-                result = compareNumbers(fieldValue, expectedValue, comparison -> comparison > 0);
-                reason = "numeric greater-than";
-            }
-            case GTE -> {
-                result = compareNumbers(fieldValue, expectedValue, comparison -> comparison >= 0);
-                reason = "numeric greater-than-or-equal";
-            }
-            case LT -> {
-                result = compareNumbers(fieldValue, expectedValue, comparison -> comparison < 0);
-                reason = "numeric less-than";
-            }
-            case LTE -> {
-                result = compareNumbers(fieldValue, expectedValue, comparison -> comparison <= 0);
-                reason = "numeric less-than-or-equal";
-            }
-            case IN -> {
-                result = isIn(fieldValue, expectedNode);
-                reason = "membership check";
-            }
-            case CONTAINS -> {
-                result = contains(fieldValue, expectedValue);
-                reason = "contains check";
-            }
-            case MATCHES -> {
-                result = matchesRegex(fieldValue, expectedNode, regexCache, path + ".value");
-                reason = "regex match";
-            }
-            default -> {
-                result = false;
-                reason = "unsupported operator";
-            }
-        }
+        PredicateExpression source = predicate.source();
+        Object fieldValue = predicate.accessor().resolve(context);
+        boolean result = testPredicate(predicate, fieldValue);
 
         traces.add(new RuleEvaluationTrace(
             path,
             "predicate",
             result,
-            predicate.field(),
-            predicate.operator().token(),
+            source.field(),
+            source.operator().token(),
             fieldValue,
-            expectedValue,
-            reason
+            predicate.expectedValue(),
+            reason(source.operator())
         ));
 
         return result;
     }
 
+    private boolean testPredicate(CompiledRuleExpression.PredicateNode predicate, Object fieldValue) {
+        Object expectedValue = predicate.expectedValue();
+
+        return switch (predicate.source().operator()) {
+            case EQ -> RuleValues.equalsNormalized(fieldValue, expectedValue);
+            case NE -> !RuleValues.equalsNormalized(fieldValue, expectedValue);
+            case GT -> compareNumbers(fieldValue, expectedValue, comparison -> comparison > 0);
+            case GTE -> compareNumbers(fieldValue, expectedValue, comparison -> comparison >= 0);
+            case LT -> compareNumbers(fieldValue, expectedValue, comparison -> comparison < 0);
+            case LTE -> compareNumbers(fieldValue, expectedValue, comparison -> comparison <= 0);
+            case IN -> isIn(fieldValue, predicate.candidates());
+            case CONTAINS -> contains(fieldValue, expectedValue);
+            case MATCHES -> matchesRegex(fieldValue, predicate.pattern(), predicate.path() + ".value");
+        };
+    }
+
+    private String reason(RuleOperator operator) {
+        return switch (operator) {
+            case EQ -> "strict equality";
+            case NE -> "strict inequality";
+            case GT -> "numeric greater-than";
+            case GTE -> "numeric greater-than-or-equal";
+            case LT -> "numeric less-than";
+            case LTE -> "numeric less-than-or-equal";
+            case IN -> "membership check";
+            case CONTAINS -> "contains check";
+            case MATCHES -> "regex match";
+        };
+    }
+
     private boolean compareNumbers(Object left, Object right, IntPredicate comparisonPredicate) {
-        BigDecimal leftNumeric = asBigDecimal(left);
-        BigDecimal rightNumeric = asBigDecimal(right);
+        BigDecimal leftNumeric = RuleValues.asBigDecimal(left);
+        BigDecimal rightNumeric = RuleValues.asBigDecimal(right);
 
         if (leftNumeric == null || rightNumeric == null) {
             return false;
@@ -166,13 +142,9 @@ public class RuleEvaluator {
         return comparisonPredicate.test(leftNumeric.compareTo(rightNumeric));
     }
 
-    private boolean isIn(Object fieldValue, JsonNode expectedNode) {
-        if (expectedNode == null || !expectedNode.isArray()) {
-            return false;
-        }
-
-        for (JsonNode item : expectedNode) {
-            if (equalsNormalized(fieldValue, jsonNodeToObject(item))) {
+    private boolean isIn(Object fieldValue, List<Object> candidates) {
+        for (Object candidate : candidates) {
+            if (RuleValues.equalsNormalized(fieldValue, candidate)) {
                 return true;
             }
         }
@@ -187,7 +159,7 @@ public class RuleEvaluator {
 
         if (fieldValue instanceof Iterable<?> iterable) {
             for (Object item : iterable) {
-                if (equalsNormalized(item, expectedValue)) {
+                if (RuleValues.equalsNormalized(item, expectedValue)) {
                     return true;
                 }
             }
@@ -196,57 +168,12 @@ public class RuleEvaluator {
         return false;
     }
 
-    private boolean matchesRegex(
-        Object fieldValue,
-        JsonNode expectedNode,
-        Map<String, Pattern> regexCache,
-        String patternPath
-    ) {
-        if (!(fieldValue instanceof String inputValue) || expectedNode == null || !expectedNode.isTextual()) {
+    private boolean matchesRegex(Object fieldValue, RuleRegex pattern, String patternPath) {
+        if (!(fieldValue instanceof String inputValue) || pattern == null) {
             return false;
         }
 
-        String patternValue = expectedNode.asText();
-        Pattern pattern = regexCache.computeIfAbsent(patternValue, value -> ruleRegexGuard.compile(value, patternPath));
-        ruleRegexGuard.validateInput(inputValue, patternPath);
-        return pattern.matcher(inputValue).matches();
-    }
-
-    private boolean equalsNormalized(Object left, Object right) {
-        BigDecimal leftNumeric = asBigDecimal(left);
-        BigDecimal rightNumeric = asBigDecimal(right);
-
-        if (leftNumeric != null && rightNumeric != null) {
-            return leftNumeric.compareTo(rightNumeric) == 0;
-        }
-
-        return Objects.equals(left, right);
-    }
-
-    private BigDecimal asBigDecimal(Object value) {
-        if (value == null) {
-            return null;
-        }
-
-        if (value instanceof BigDecimal decimal) {
-            return decimal;
-        }
-
-        if (value instanceof Number number) {
-            try {
-                return new BigDecimal(number.toString());
-            } catch (NumberFormatException exception) {
-                return null;
-            }
-        }
-
-        return null;
-    }
-
-    private Object jsonNodeToObject(JsonNode value) {
-        if (value == null || value.isNull()) {
-            return null;
-        }
-        return objectMapper.convertValue(value, Object.class);
+        ruleRegexGuard.validateInput(inputValue, pattern, patternPath);
+        return pattern.matches(inputValue);
     }
 }
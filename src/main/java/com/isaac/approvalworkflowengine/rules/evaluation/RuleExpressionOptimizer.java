@@ -0,0 +1,183 @@
+package com.isaac.approvalworkflowengine.rules.evaluation;
+
+import com.isaac.approvalworkflowengine.rules.model.PredicateExpression;
+import com.isaac.approvalworkflowengine.rules.model.RuleOperator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites a compiled rule tree for the boolean fast path. Nested all/all and any/any are flattened, repeated
+ * children are dropped, {@code not(not(x))} becomes {@code x}, predicates that can never match (numeric
+ * comparisons against non-numeric values) fold to constants, and all/any children are reordered so cheap
+ * top-level field checks run before payload walks. Regex-bearing children are kept last and in author order:
+ * only {@code MATCHES} can throw (oversized input), so the optimized tree never evaluates a regex that the
+ * author-order tree would have skipped. Traced evaluation keeps using the unoptimized tree so trace paths
+ * still point into the DSL as written.
+ */
+final class RuleExpressionOptimizer {
+
+    private static final Set<String> DIRECT_FIELDS = Set.of("amount", "department", "requestType", "currency", "payload");
+    private static final String PAYLOAD_PREFIX = "payload.";
+
+    CompiledRuleExpression optimize(CompiledRuleExpression expression) {
+        if (expression instanceof CompiledRuleExpression.AllNode allNode) {
+            return optimizeGroup(allNode.expressions(), true);
+        }
+
+        if (expression instanceof CompiledRuleExpression.AnyNode anyNode) {
+            return optimizeGroup(anyNode.expressions(), false);
+        }
+
+        if (expression instanceof CompiledRuleExpression.NotNode notNode) {
+            CompiledRuleExpression child = optimize(notNode.expression());
+            if (child instanceof CompiledRuleExpression.NotNode nested) {
+                return nested.expression();
+            }
+            if (child instanceof CompiledRuleExpression.ConstantNode constant) {
+                return new CompiledRuleExpression.ConstantNode(!constant.value());
+            }
+            return new CompiledRuleExpression.NotNode(child);
+        }
+
+        if (expression instanceof CompiledRuleExpression.PredicateNode predicate && neverMatches(predicate)) {
+            return new CompiledRuleExpression.ConstantNode(false);
+        }
+
+        return expression;
+    }
+
+    /**
+     * For all ({@code conjunction}) the identity is true and the absorbing value false; any is the dual.
+     */
+    private CompiledRuleExpression optimizeGroup(List<CompiledRuleExpression> children, boolean conjunction) {
+        List<CompiledRuleExpression> flattened = new ArrayList<>(children.size());
+        for (CompiledRuleExpression child : children) {
+            CompiledRuleExpression optimized = optimize(child);
+            if (optimized instanceof CompiledRuleExpression.ConstantNode constant) {
+                if (constant.value() != conjunction) {
+                    return constant;
+                }
+                continue;
+            }
+            if (conjunction && optimized instanceof CompiledRuleExpression.AllNode nested) {
+                flattened.addAll(nested.expressions());
+            } else if (!conjunction && optimized instanceof CompiledRuleExpression.AnyNode nested) {
+                flattened.addAll(nested.expressions());
+            } else {
+                flattened.add(optimized);
+            }
+        }
+
+        Set<Object> seen = new HashSet<>();
+        List<CompiledRuleExpression> cheap = new ArrayList<>(flattened.size());
+        List<CompiledRuleExpression> regexBearing = new ArrayList<>();
+        for (CompiledRuleExpression child : flattened) {
+            if (!seen.add(structuralKey(child))) {
+                continue;
+            }
+            if (containsRegex(child)) {
+                regexBearing.add(child);
+            } else {
+                cheap.add(child);
+            }
+        }
+        cheap.sort(Comparator.comparingInt(this::cost));
+
+        List<CompiledRuleExpression> ordered = new ArrayList<>(cheap.size() + regexBearing.size());
+        ordered.addAll(cheap);
+        ordered.addAll(regexBearing);
+
+        if (ordered.isEmpty()) {
+            return new CompiledRuleExpression.ConstantNode(conjunction);
+        }
+        if (ordered.size() == 1) {
+            return ordered.get(0);
+        }
+        return conjunction
+            ? new CompiledRuleExpression.AllNode(List.copyOf(ordered))
+            : new CompiledRuleExpression.AnyNode(List.copyOf(ordered));
+    }
+
+    private boolean neverMatches(CompiledRuleExpression.PredicateNode predicate) {
+        return switch (predicate.source().operator()) {
+            case GT, GTE, LT, LTE -> RuleValues.asBigDecimal(predicate.expectedValue()) == null;
+            case MATCHES -> predicate.pattern() == null;
+            case IN -> predicate.candidates().isEmpty();
+            default -> false;
+        };
+    }
+
+    /**
+     * Predicates are keyed by their parsed source, whose JSON value compares structurally; compiled nodes
+     * themselves hold accessor lambdas and patterns that have no value equality.
+     */
+    private Object structuralKey(CompiledRuleExpression expression) {
+        if (expression instanceof CompiledRuleExpression.AllNode allNode) {
+            return List.of("all", allNode.expressions().stream().map(this::structuralKey).toList());
+        }
+        if (expression instanceof CompiledRuleExpression.AnyNode anyNode) {
+            return List.of("any", anyNode.expressions().stream().map(this::structuralKey).toList());
+        }
+        if (expression instanceof CompiledRuleExpression.NotNode notNode) {
+            return List.of("not", structuralKey(notNode.expression()));
+        }
+        if (expression instanceof CompiledRuleExpression.ConstantNode constant) {
+            return constant.value();
+        }
+        return ((CompiledRuleExpression.PredicateNode) expression).source();
+    }
+
+    private boolean containsRegex(CompiledRuleExpression expression) {
+        if (expression instanceof CompiledRuleExpression.AllNode allNode) {
+            return allNode.expressions().stream().anyMatch(this::containsRegex);
+        }
+        if (expression instanceof CompiledRuleExpression.AnyNode anyNode) {
+            return anyNode.expressions().stream().anyMatch(this::containsRegex);
+        }
+        if (expression instanceof CompiledRuleExpression.NotNode notNode) {
+            return containsRegex(notNode.expression());
+        }
+        return expression instanceof CompiledRuleExpression.PredicateNode predicate
+            && predicate.source().operator() == RuleOperator.MATCHES;
+    }
+
+    private int cost(CompiledRuleExpression expression) {
+        if (expression instanceof CompiledRuleExpression.AllNode allNode) {
+            return allNode.expressions().stream().mapToInt(this::cost).sum();
+        }
+        if (expression instanceof CompiledRuleExpression.AnyNode anyNode) {
+            return anyNode.expressions().stream().mapToInt(this::cost).sum();
+        }
+        if (expression instanceof CompiledRuleExpression.NotNode notNode) {
+            return cost(notNode.expression());
+        }
+        if (expression instanceof CompiledRuleExpression.ConstantNode) {
+            return 0;
+        }
+
+        PredicateExpression source = ((CompiledRuleExpression.PredicateNode) expression).source();
+        return fieldCost(source.field()) + operatorCost(source.operator());
+    }
+
+    private int fieldCost(String field) {
+        if (DIRECT_FIELDS.contains(field)) {
+            return 1;
+        }
+        if (field.startsWith(PAYLOAD_PREFIX)) {
+            return 2 + field.substring(PAYLOAD_PREFIX.length()).split("\\.").length;
+        }
+        return 0;
+    }
+
+    private int operatorCost(RuleOperator operator) {
+        return switch (operator) {
+            case EQ, NE, GT, GTE, LT, LTE -> 0;
+            case IN -> 1;
+            case CONTAINS -> 3;
+            case MATCHES -> 10;
+        };
+    }
+}
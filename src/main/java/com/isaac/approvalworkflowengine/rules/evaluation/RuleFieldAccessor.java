@@ -0,0 +1,9 @@
+package com.isaac.approvalworkflowengine.rules.evaluation;
+
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+
+@FunctionalInterface
+public interface RuleFieldAccessor {
+
+    Object resolve(RuleEvaluationContext context);
+}
@@ -5,39 +5,51 @@ import java.util.Map;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+/**
+ * Plans field access once per predicate at compile time: known fields map to direct record getters and
+ * {@code payload.*} paths are pre-split into segments, so evaluation is a plain map walk.
+ */
 @Component
 public class RuleFieldResolver {
 
-    Object resolve(String field, RuleEvaluationContext context) {
+    private static final String PAYLOAD_PREFIX = "payload.";
+    private static final RuleFieldAccessor MISSING = context -> null;
+
+    public RuleFieldAccessor accessor(String field) {
         if (!StringUtils.hasText(field)) {
-            return null;
+            return MISSING;
         }
 
         return switch (field) {
-            case "amount" -> context.amount();
-            case "department" -> context.department();
-            case "requestType" -> context.requestType();
-            case "currency" -> context.currency();
-            case "payload" -> context.payload();
-            default -> resolvePayloadPath(field, context.payload());
+            case "amount" -> RuleEvaluationContext::amount;
+            case "department" -> RuleEvaluationContext::department;
+            case "requestType" -> RuleEvaluationContext::requestType;
+            case "currency" -> RuleEvaluationContext::currency;
+            case "payload" -> RuleEvaluationContext::payload;
+            default -> payloadPathAccessor(field);
         };
     }
 
-    private Object resolvePayloadPath(String field, Map<String, Object> payload) {
-        if (!field.startsWith("payload.")) {
-            return null;
+    private RuleFieldAccessor payloadPathAccessor(String field) {
+        if (!field.startsWith(PAYLOAD_PREFIX)) {
+            return MISSING;
         }
 
-        String[] segments = field.substring("payload.".length()).split("\\.");
-        Object current = payload;
-
-        for (String segment : segments) {
-            if (!(current instanceof Map<?, ?> map)) {
-                return null;
-            }
-            current = map.get(segment);
+        String[] segments = field.substring(PAYLOAD_PREFIX.length()).split("\\.");
+        if (segments.length == 1) {
+            String key = segments[0];
+            return context -> context.payload().get(key);
         }
 
-        return current;
+        return context -> {
+            Object current = context.payload();
+            for (String segment : segments) {
+                if (!(current instanceof Map<?, ?> map)) {
+                    return null;
+                }
+                current = map.get(segment);
+            }
+            return current;
+        };
     }
 }
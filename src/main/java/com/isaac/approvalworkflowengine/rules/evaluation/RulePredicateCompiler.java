@@ -0,0 +1,170 @@
+package com.isaac.approvalworkflowengine.rules.evaluation;
+
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegex;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Turns a compiled rule tree into nested predicate closures. Operator dispatch, constant conversion and
+ * numeric parsing of expected values all happen here once, so evaluation only touches the request fields.
+ */
+final class RulePredicateCompiler {
+
+    private final RuleRegexGuard ruleRegexGuard;
+
+    RulePredicateCompiler(RuleRegexGuard ruleRegexGuard) {
+        this.ruleRegexGuard = ruleRegexGuard;
+    }
+
+    Predicate<RuleEvaluationContext> compile(CompiledRuleExpression expression) {
+        if (expression instanceof CompiledRuleExpression.AllNode allNode) {
+            Predicate<RuleEvaluationContext>[] children = compileChildren(allNode.expressions());
+            return context -> {
+                for (Predicate<RuleEvaluationContext> child : children) {
+                    if (!child.test(context)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        if (expression instanceof CompiledRuleExpression.AnyNode anyNode) {
+            Predicate<RuleEvaluationContext>[] children = compileChildren(anyNode.expressions());
+            return context -> {
+                for (Predicate<RuleEvaluationContext> child : children) {
+                    if (child.test(context)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        if (expression instanceof CompiledRuleExpression.NotNode notNode) {
+            return compile(notNode.expression()).negate();
+        }
+
+        if (expression instanceof CompiledRuleExpression.ConstantNode constant) {
+            boolean value = constant.value();
+            return context -> value;
+        }
+
+        CompiledRuleExpression.PredicateNode predicate = (CompiledRuleExpression.PredicateNode) expression;
+        RuleFieldAccessor accessor = predicate.accessor();
+        Predicate<Object> valueTest = compileValueTest(predicate);
+        return context -> valueTest.test(accessor.resolve(context));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<RuleEvaluationContext>[] compileChildren(List<CompiledRuleExpression> children) {
+        Predicate<RuleEvaluationContext>[] compiled = new Predicate[children.size()];
+        for (int index = 0; index < children.size(); index++) {
+            compiled[index] = compile(children.get(index));
+        }
+        return compiled;
+    }
+
+    private Predicate<Object> compileValueTest(CompiledRuleExpression.PredicateNode predicate) {
+        Object expectedValue = predicate.expectedValue();
+
+        return switch (predicate.source().operator()) {
+            case EQ -> equalTo(expectedValue);
+            case NE -> equalTo(expectedValue).negate();
+            case GT -> numericComparison(expectedValue, comparison -> comparison > 0);
+            case GTE -> numericComparison(expectedValue, comparison -> comparison >= 0);
+            case LT -> numericComparison(expectedValue, comparison -> comparison < 0);
+            case LTE -> numericComparison(expectedValue, comparison -> comparison <= 0);
+            case IN -> memberOf(predicate.candidates());
+            case CONTAINS -> contains(expectedValue);
+            case MATCHES -> matches(predicate.pattern(), predicate.path() + ".value");
+        };
+    }
+
+    private Predicate<Object> equalTo(Object expectedValue) {
+        BigDecimal expectedNumeric = RuleValues.asBigDecimal(expectedValue);
+        if (expectedNumeric == null) {
+            return fieldValue -> Objects.equals(fieldValue, expectedValue);
+        }
+
+        return fieldValue -> {
+            BigDecimal numeric = RuleValues.asBigDecimal(fieldValue);
+            return numeric == null ? Objects.equals(fieldValue, expectedValue) : numeric.compareTo(expectedNumeric) == 0;
+        };
+    }
+
+    private Predicate<Object> numericComparison(Object expectedValue, IntPredicate comparisonPredicate) {
+        BigDecimal expectedNumeric = RuleValues.asBigDecimal(expectedValue);
+        if (expectedNumeric == null) {
+            return fieldValue -> false;
+        }
+
+        return fieldValue -> {
+            BigDecimal numeric = RuleValues.asBigDecimal(fieldValue);
+            return numeric != null && comparisonPredicate.test(numeric.compareTo(expectedNumeric));
+        };
+    }
+
+    private Predicate<Object> memberOf(List<Object> candidates) {
+        Set<BigDecimal> numericCandidates = new HashSet<>();
+        Set<Object> otherCandidates = new HashSet<>();
+
+        for (Object candidate : candidates) {
+            BigDecimal numeric = RuleValues.asBigDecimal(candidate);
+            if (numeric != null) {
+                numericCandidates.add(RuleValues.canonical(numeric));
+            } else {
+                otherCandidates.add(candidate);
+            }
+        }
+
+        return fieldValue -> {
+            BigDecimal numeric = RuleValues.asBigDecimal(fieldValue);
+            return numeric == null
+                ? otherCandidates.contains(fieldValue)
+                : numericCandidates.contains(RuleValues.canonical(numeric));
+        };
+    }
+
+    private Predicate<Object> contains(Object expectedValue) {
+        String expectedText = expectedValue == null ? null : String.valueOf(expectedValue);
+        Predicate<Object> itemMatches = equalTo(expectedValue);
+
+        return fieldValue -> {
+            if (fieldValue instanceof String text) {
+                return expectedText != null && text.contains(expectedText);
+            }
+
+            if (fieldValue instanceof Iterable<?> iterable) {
+                for (Object item : iterable) {
+                    if (itemMatches.test(item)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        };
+    }
+
+    private Predicate<Object> matches(RuleRegex pattern, String patternPath) {
+        if (pattern == null) {
+            return fieldValue -> false;
+        }
+
+        return fieldValue -> {
+            if (!(fieldValue instanceof String input)) {
+                return false;
+            }
+            ruleRegexGuard.validateInput(input, pattern, patternPath);
+            return pattern.matches(input);
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.isaac.approvalworkflowengine.rules.evaluation;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+final class RuleValues {
+
+    private RuleValues() {
+    }
+
+    static boolean equalsNormalized(Object left, Object right) {
+        BigDecimal leftNumeric = asBigDecimal(left);
+        BigDecimal rightNumeric = asBigDecimal(right);
+
+        if (leftNumeric != null && rightNumeric != null) {
+            return leftNumeric.compareTo(rightNumeric) == 0;
+        }
+
+        return Objects.equals(left, right);
+    }
+
+    static BigDecimal asBigDecimal(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+
+        if (value instanceof Number number) {
+            try {
+                return new BigDecimal(number.toString());
+            } catch (NumberFormatException exception) {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Canonical form for hashing numbers so that values equal under {@code compareTo} share a hash bucket.
+     */
+    static BigDecimal canonical(BigDecimal value) {
+        return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+}
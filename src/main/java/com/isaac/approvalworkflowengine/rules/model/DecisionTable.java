@@ -0,0 +1,32 @@
+package com.isaac.approvalworkflowengine.rules.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-outcome rule set: rows are checked in author order and the first row whose conditions all hold selects
+ * its branch; {@code defaultBranch} applies when no row matches. A row without a condition for a column matches
+ * any value in that column.
+ */
+public record DecisionTable(
+    List<Column> columns,
+    List<Row> rows,
+    String defaultBranch
+) {
+
+    public enum MatchType {
+        EQUALS,
+        RANGE
+    }
+
+    public record Column(String field, MatchType match) {
+    }
+
+    /**
+     * {@code when} maps column fields to conditions: a scalar or array of scalars for {@code EQUALS} columns, and
+     * an object with inclusive {@code min} and/or exclusive {@code max} for {@code RANGE} columns.
+     */
+    public record Row(Map<String, JsonNode> when, String branch) {
+    }
+}
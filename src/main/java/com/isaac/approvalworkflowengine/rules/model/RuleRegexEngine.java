@@ -0,0 +1,10 @@
+package com.isaac.approvalworkflowengine.rules.model;
+
+/**
+ * Engine behind the {@code matches} operator. {@code JAVA} is the backtracking {@link java.util.regex} engine;
+ * {@code LINEAR} is an automaton engine (RE2 semantics) whose match time is linear in the input length.
+ */
+public enum RuleRegexEngine {
+    JAVA,
+    LINEAR
+}
@@ -0,0 +1,6 @@
+package com.isaac.approvalworkflowengine.rules.model;
+
+public enum RuleSetType {
+    BOOLEAN,
+    DECISION_TABLE
+}
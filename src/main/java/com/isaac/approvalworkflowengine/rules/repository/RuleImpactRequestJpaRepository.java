@@ -0,0 +1,50 @@
+package com.isaac.approvalworkflowengine.rules.repository;
+
+import com.isaac.approvalworkflowengine.rules.repository.entity.RuleImpactRequestEntity;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Forward-only row streams for rule impact analysis. Rows are constructor projections rather than entities,
+ * so they never enter the persistence context, and the fetch size lets PostgreSQL serve them through a cursor.
+ * Rows come in {@code (createdAt, id)} order so repeated analyses over one window report the same samples.
+ * Streams must be consumed and closed inside a transaction.
+ */
+public interface RuleImpactRequestJpaRepository extends Repository<RuleImpactRequestEntity, UUID> {
+
+    String FETCH_SIZE = "500";
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new com.isaac.approvalworkflowengine.rules.repository.RuleImpactRequestRow(
+            r.id, r.requestType, r.payloadJson, r.amount, r.currency, r.department, r.createdAt
+        )
+        from RuleImpactRequestEntity r
+        where r.createdAt >= :from and r.createdAt < :to
+        order by r.createdAt, r.id
+        """)
+    Stream<RuleImpactRequestRow> streamCreatedBetween(Instant from, Instant to);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        select new com.isaac.approvalworkflowengine.rules.repository.RuleImpactRequestRow(
+            r.id, r.requestType, r.payloadJson, r.amount, r.currency, r.department, r.createdAt
+        )
+        from RuleImpactRequestEntity r
+        where r.createdAt >= :from and r.createdAt < :to and r.requestType = :requestType
+        order by r.createdAt, r.id
+        """)
+    Stream<RuleImpactRequestRow> streamCreatedBetweenForType(Instant from, Instant to, String requestType);
+}
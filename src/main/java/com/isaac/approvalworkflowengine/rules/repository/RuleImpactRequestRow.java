@@ -0,0 +1,16 @@
+package com.isaac.approvalworkflowengine.rules.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record RuleImpactRequestRow(
+    UUID id,
+    String requestType,
+    String payloadJson,
+    BigDecimal amount,
+    String currency,
+    String department,
+    Instant createdAt
+) {
+}
@@ -0,0 +1,73 @@
+package com.isaac.approvalworkflowengine.rules.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Read-only view of the request columns a rule evaluation context is built from.
+ */
+@Entity
+@Immutable
+@Table(name = "requests")
+public class RuleImpactRequestEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "request_type", nullable = false, length = 80)
+    private String requestType;
+
+    @Lob
+    @Column(name = "payload_json", nullable = false)
+    private String payloadJson;
+
+    @Column(name = "amount", precision = 18, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    @Column(name = "department", length = 80)
+    private String department;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected RuleImpactRequestEntity() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getRequestType() {
+        return requestType;
+    }
+
+    public String getPayloadJson() {
+        return payloadJson;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,7 +1,10 @@
 package com.isaac.approvalworkflowengine.rules.repository.entity;
 
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
 import jakarta.persistence.PrePersist;
@@ -35,6 +38,10 @@ public class RuleSetEntity {
     @Column(name = "checksum_sha256", nullable = false, length = 64)
     private String checksumSha256;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "regex_engine", nullable = false, length = 20)
+    private RuleRegexEngine regexEngine;
+
     @Column(name = "created_by_user_id", nullable = false)
     private UUID createdByUserId;
 
@@ -88,6 +95,14 @@ public class RuleSetEntity {
         this.checksumSha256 = checksumSha256;
     }
 
+    public RuleRegexEngine getRegexEngine() {
+        return regexEngine;
+    }
+
+    public void setRegexEngine(RuleRegexEngine regexEngine) {
+        this.regexEngine = regexEngine;
+    }
+
     public UUID getCreatedByUserId() {
         return createdByUserId;
     }
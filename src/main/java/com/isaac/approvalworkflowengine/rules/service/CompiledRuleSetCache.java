@@ -0,0 +1,58 @@
+package com.isaac.approvalworkflowengine.rules.service;
+
+import com.isaac.approvalworkflowengine.rules.config.RuleProperties;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Process-wide LRU cache of compiled rule set versions. Rule set versions are immutable once persisted,
+ * so entries never need invalidation; the bound only protects memory.
+ */
+@Component
+public class CompiledRuleSetCache {
+
+    private final Map<RuleSetVersionKey, CompiledRuleSet> compiledRuleSets;
+    private final Counter hitsCounter;
+    private final Counter missesCounter;
+
+    public CompiledRuleSetCache(RuleProperties ruleProperties, MeterRegistry meterRegistry) {
+        int maxEntries = Math.max(ruleProperties.getCompiledCache().getMaxEntries(), 1);
+        this.compiledRuleSets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RuleSetVersionKey, CompiledRuleSet> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hitsCounter = meterRegistry.counter("rules_compiled_cache_hits_total");
+        this.missesCounter = meterRegistry.counter("rules_compiled_cache_misses_total");
+    }
+
+    public CompiledRuleSet getOrCompile(String ruleSetKey, int versionNo, Supplier<CompiledRuleSet> compiler) {
+        RuleSetVersionKey key = new RuleSetVersionKey(ruleSetKey, versionNo);
+
+        synchronized (compiledRuleSets) {
+            CompiledRuleSet cached = compiledRuleSets.get(key);
+            if (cached != null) {
+                hitsCounter.increment();
+                return cached;
+            }
+        }
+
+        missesCounter.increment();
+        CompiledRuleSet compiled = compiler.get();
+
+        synchronized (compiledRuleSets) {
+            compiledRuleSets.putIfAbsent(key, compiled);
+        }
+
+        return compiled;
+    }
+
+    private record RuleSetVersionKey(String ruleSetKey, int versionNo) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.isaac.approvalworkflowengine.rules.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.rules.api.RuleBatchSimulationItemResource;
+import com.isaac.approvalworkflowengine.rules.api.RuleBatchSimulationSummaryResource;
+import com.isaac.approvalworkflowengine.rules.config.RuleProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streams NDJSON rule simulations. Each input item, either an NDJSON line or a stored request row, is evaluated
+ * on a dedicated fork-join pool while at most {@code maxInFlight} items are outstanding, and results are written
+ * back in input order as the oldest one completes, so neither the input nor the response body is held in memory.
+ * The final line carries the aggregate summary.
+ */
+@Component
+class RuleBatchSimulator {
+
+    private static final byte NEWLINE = '\n';
+
+    private final ObjectMapper objectMapper;
+    private final RuleProperties.BatchSimulation settings;
+    private final ForkJoinPool evaluationPool;
+
+    RuleBatchSimulator(ObjectMapper objectMapper, RuleProperties ruleProperties) {
+        this.objectMapper = objectMapper;
+        this.settings = ruleProperties.getBatchSimulation();
+        this.evaluationPool = new ForkJoinPool(settings.getParallelism() > 0
+            ? settings.getParallelism()
+            : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        evaluationPool.shutdownNow();
+    }
+
+    RuleBatchSimulationSummaryResource simulate(
+        String ruleSetKey,
+        int versionNo,
+        InputStream input,
+        OutputStream output,
+        ItemEvaluator<String> evaluator
+    ) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            Iterator<String> lines = reader.lines().filter(line -> !line.isBlank()).iterator();
+            return simulate(ruleSetKey, versionNo, lines, output, evaluator);
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Pulls items from {@code items} on the calling thread and only evaluates them on the pool, so the iterator
+     * may be backed by a cursor bound to the caller's transaction.
+     */
+    <T> RuleBatchSimulationSummaryResource simulate(
+        String ruleSetKey,
+        int versionNo,
+        Iterator<T> items,
+        OutputStream output,
+        ItemEvaluator<T> evaluator
+    ) throws IOException {
+        int maxInFlight = Math.max(settings.getMaxInFlight(), 1);
+        Deque<ForkJoinTask<RuleBatchSimulationItemResource>> inFlight = new ArrayDeque<>(maxInFlight);
+        Tally tally = new Tally();
+        boolean truncated = false;
+
+        try {
+            long nextIndex = 0;
+            while (items.hasNext()) {
+                if (nextIndex >= settings.getMaxItems()) {
+                    truncated = true;
+                    break;
+                }
+
+                long index = nextIndex++;
+                T item = items.next();
+                inFlight.addLast(evaluationPool.submit(() -> evaluator.evaluate(index, item)));
+                if (inFlight.size() >= maxInFlight) {
+                    writeItem(inFlight.removeFirst().join(), output, tally, maxInFlight);
+                }
+            }
+
+            while (!inFlight.isEmpty()) {
+                writeItem(inFlight.removeFirst().join(), output, tally, maxInFlight);
+            }
+        } finally {
+            inFlight.forEach(task -> task.cancel(true));
+        }
+
+        RuleBatchSimulationSummaryResource summary = new RuleBatchSimulationSummaryResource(
+            ruleSetKey,
+            versionNo,
+            tally.total,
+            tally.matched,
+            tally.total - tally.matched - tally.failed,
+            tally.failed,
+            truncated
+        );
+        writeLine(Map.of("summary", summary), output);
+        output.flush();
+        return summary;
+    }
+
+    private void writeItem(RuleBatchSimulationItemResource item, OutputStream output, Tally tally, int flushEvery)
+        throws IOException {
+        tally.total++;
+        if (item.error() != null) {
+            tally.failed++;
+        } else if (Boolean.TRUE.equals(item.matched())) {
+            tally.matched++;
+        }
+
+        writeLine(item, output);
+        if (tally.total % flushEvery == 0) {
+            output.flush();
+        }
+    }
+
+    private void writeLine(Object value, OutputStream output) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(value));
+        output.write(NEWLINE);
+    }
+
+    @FunctionalInterface
+    interface ItemEvaluator<T> {
+
+        /**
+         * Converts and evaluates one input item; failures are reported through the item's non-null {@code error}.
+         */
+        RuleBatchSimulationItemResource evaluate(long index, T item);
+    }
+
+    private static final class Tally {
+
+        private long total;
+        private long matched;
+        private long failed;
+    }
+}
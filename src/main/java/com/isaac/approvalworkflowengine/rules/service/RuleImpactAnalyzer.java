@@ -0,0 +1,115 @@
+package com.isaac.approvalworkflowengine.rules.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.isaac.approvalworkflowengine.rules.api.RuleImpactAnalysisInput;
+import com.isaac.approvalworkflowengine.rules.api.RuleImpactAnalysisResponse;
+import com.isaac.approvalworkflowengine.rules.api.RuleImpactSampleResource;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleSet;
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.repository.RuleImpactRequestRow;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Replays stored requests through two compiled versions of one rule set and counts the requests whose
+ * outcome, and therefore the GATEWAY branch it selects, differs. Rows are consumed one at a time from a
+ * forward-only stream, so memory stays flat regardless of how many requests fall into the window.
+ */
+@Component
+class RuleImpactAnalyzer {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleImpactAnalyzer.class);
+    private static final int DEFAULT_SAMPLE_SIZE = 20;
+
+    private final RuleStoredRequestSource ruleStoredRequestSource;
+
+    RuleImpactAnalyzer(RuleStoredRequestSource ruleStoredRequestSource) {
+        this.ruleStoredRequestSource = ruleStoredRequestSource;
+    }
+
+    RuleImpactAnalysisResponse analyze(CompiledRuleSet base, CompiledRuleSet candidate, RuleImpactAnalysisInput input) {
+        String requestType = StringUtils.hasText(input.requestType()) ? input.requestType().trim() : null;
+        Tally tally = new Tally(input.sampleSize() == null ? DEFAULT_SAMPLE_SIZE : input.sampleSize());
+
+        try (Stream<RuleImpactRequestRow> rows = ruleStoredRequestSource.stream(input.from(), input.to(), requestType)) {
+            rows.forEach(row -> compare(row, base, candidate, tally));
+        }
+
+        return new RuleImpactAnalysisResponse(
+            base.ruleSetKey(),
+            base.versionNo(),
+            candidate.versionNo(),
+            input.from(),
+            input.to(),
+            requestType,
+            tally.evaluated,
+            tally.baseMatched,
+            tally.candidateMatched,
+            tally.flippedToMatched,
+            tally.flippedToUnmatched,
+            tally.failed,
+            List.copyOf(tally.samples)
+        );
+    }
+
+    private void compare(RuleImpactRequestRow row, CompiledRuleSet base, CompiledRuleSet candidate, Tally tally) {
+        boolean baseMatched;
+        boolean candidateMatched;
+        try {
+            RuleEvaluationContext context = ruleStoredRequestSource.toEvaluationContext(row);
+            baseMatched = base.matches(context);
+            candidateMatched = candidate.matches(context);
+        } catch (JsonProcessingException | RuntimeException exception) {
+            log.debug("Rule impact analysis of {} skipped request {}", base.ruleSetKey(), row.id(), exception);
+            tally.failed++;
+            return;
+        }
+
+        tally.evaluated++;
+        if (baseMatched) {
+            tally.baseMatched++;
+        }
+        if (candidateMatched) {
+            tally.candidateMatched++;
+        }
+        if (baseMatched == candidateMatched) {
+            return;
+        }
+
+        if (candidateMatched) {
+            tally.flippedToMatched++;
+        } else {
+            tally.flippedToUnmatched++;
+        }
+        if (tally.samples.size() < tally.sampleSize) {
+            tally.samples.add(new RuleImpactSampleResource(
+                row.id(),
+                row.requestType(),
+                row.createdAt(),
+                baseMatched,
+                candidateMatched
+            ));
+        }
+    }
+
+    private static final class Tally {
+
+        private final int sampleSize;
+        private final List<RuleImpactSampleResource> samples = new ArrayList<>();
+        private long evaluated;
+        private long baseMatched;
+        private long candidateMatched;
+        private long flippedToMatched;
+        private long flippedToUnmatched;
+        private long failed;
+
+        private Tally(int sampleSize) {
+            this.sampleSize = sampleSize;
+        }
+    }
+}
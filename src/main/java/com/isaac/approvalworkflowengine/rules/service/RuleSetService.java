@@ -7,27 +7,48 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.isaac.approvalworkflowengine.rules.RuleSetLookup;
 import com.isaac.approvalworkflowengine.rules.RuleSetRuntimeEvaluator;
 import com.isaac.approvalworkflowengine.rules.api.PagedRuleSetVersionResource;
+import com.isaac.approvalworkflowengine.rules.api.RuleBatchSimulationItemResource;
+import com.isaac.approvalworkflowengine.rules.api.RuleBatchSimulationSummaryResource;
 import com.isaac.approvalworkflowengine.rules.api.RuleEvaluationContextInput;
 import com.isaac.approvalworkflowengine.rules.api.RuleEvaluationTraceResource;
+import com.isaac.approvalworkflowengine.rules.api.RuleImpactAnalysisInput;
+import com.isaac.approvalworkflowengine.rules.api.RuleImpactAnalysisResponse;
 import com.isaac.approvalworkflowengine.rules.api.RulePageMetadata;
 import com.isaac.approvalworkflowengine.rules.api.RuleSetVersionInput;
 import com.isaac.approvalworkflowengine.rules.api.RuleSetVersionResource;
 import com.isaac.approvalworkflowengine.rules.api.RuleSimulationRequest;
 import com.isaac.approvalworkflowengine.rules.api.RuleSimulationResponse;
+import com.isaac.approvalworkflowengine.rules.api.RuleStoredRequestSimulationInput;
 import com.isaac.approvalworkflowengine.rules.checksum.RuleDslChecksumService;
+import com.isaac.approvalworkflowengine.rules.config.RuleProperties;
 import com.isaac.approvalworkflowengine.rules.dsl.RuleDslParser;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledDecisionTable;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleSet;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleCompiler;
 import com.isaac.approvalworkflowengine.rules.evaluation.RuleEvaluationResult;
 import com.isaac.approvalworkflowengine.rules.evaluation.RuleEvaluator;
 import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
+import com.isaac.approvalworkflowengine.rules.model.RuleSetType;
+import com.isaac.approvalworkflowengine.rules.repository.RuleImpactRequestRow;
 import com.isaac.approvalworkflowengine.rules.repository.RuleSetJpaRepository;
 import com.isaac.approvalworkflowengine.rules.repository.entity.RuleSetEntity;
+import com.isaac.approvalworkflowengine.shared.api.ApiErrorDetail;
+import com.isaac.approvalworkflowengine.shared.error.BadRequestException;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -38,6 +59,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.util.function.ThrowingSupplier;
 
 @Service
 public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
@@ -47,8 +69,14 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
     private final RuleSetJpaRepository ruleSetJpaRepository;
     private final RuleDslParser ruleDslParser;
     private final RuleEvaluator ruleEvaluator;
+    private final RuleCompiler ruleCompiler;
+    private final CompiledRuleSetCache compiledRuleSetCache;
     private final RuleDslChecksumService ruleDslChecksumService;
+    private final RuleBatchSimulator ruleBatchSimulator;
+    private final RuleImpactAnalyzer ruleImpactAnalyzer;
+    private final RuleStoredRequestSource ruleStoredRequestSource;
     private final ObjectMapper objectMapper;
+    private final RuleRegexEngine defaultRegexEngine;
     private final MeterRegistry meterRegistry;
     private final Counter evaluationsTotalCounter;
     private final Counter evaluationsFailedCounter;
@@ -58,15 +86,27 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
         RuleSetJpaRepository ruleSetJpaRepository,
         RuleDslParser ruleDslParser,
         RuleEvaluator ruleEvaluator,
+        RuleCompiler ruleCompiler,
+        CompiledRuleSetCache compiledRuleSetCache,
         RuleDslChecksumService ruleDslChecksumService,
+        RuleBatchSimulator ruleBatchSimulator,
+        RuleImpactAnalyzer ruleImpactAnalyzer,
+        RuleStoredRequestSource ruleStoredRequestSource,
         ObjectMapper objectMapper,
+        RuleProperties ruleProperties,
         MeterRegistry meterRegistry
     ) {
         this.ruleSetJpaRepository = ruleSetJpaRepository;
         this.ruleDslParser = ruleDslParser;
         this.ruleEvaluator = ruleEvaluator;
+        this.ruleCompiler = ruleCompiler;
+        this.compiledRuleSetCache = compiledRuleSetCache;
         this.ruleDslChecksumService = ruleDslChecksumService;
+        this.ruleBatchSimulator = ruleBatchSimulator;
+        this.ruleImpactAnalyzer = ruleImpactAnalyzer;
+        this.ruleStoredRequestSource = ruleStoredRequestSource;
         this.objectMapper = objectMapper;
+        this.defaultRegexEngine = ruleProperties.getRegex().getEngine();
         this.meterRegistry = meterRegistry;
         this.evaluationsTotalCounter = meterRegistry.counter("rules_evaluations_total");
         this.evaluationsFailedCounter = meterRegistry.counter("rules_evaluations_failed_total");
@@ -77,7 +117,12 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
     public RuleSetVersionResource createVersion(String ruleSetKey, RuleSetVersionInput input, RuleSetActor actor) {
         String normalizedRuleSetKey = normalizeUpper(ruleSetKey);
         JsonNode dslNode = objectMapper.valueToTree(input.dsl());
-        ruleDslParser.parse(dslNode);
+        RuleRegexEngine regexEngine = input.regexEngine() == null ? defaultRegexEngine : input.regexEngine();
+        if (ruleDslParser.isDecisionTable(dslNode)) {
+            ruleDslParser.parseDecisionTable(dslNode);
+        } else {
+            ruleDslParser.parse(dslNode, regexEngine);
+        }
 
         int nextVersionNo = ruleSetJpaRepository.findTopByRuleSetKeyOrderByVersionNoDesc(normalizedRuleSetKey)
             .map(existing -> existing.getVersionNo() + 1)
@@ -92,6 +137,7 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
         entity.setVersionNo(nextVersionNo);
         entity.setDslJson(canonicalDslJson);
         entity.setChecksumSha256(checksum);
+        entity.setRegexEngine(regexEngine);
         entity.setCreatedByUserId(actor.userId());
 
         try {
@@ -138,10 +184,7 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
     @Transactional(readOnly = true)
     public RuleSimulationResponse simulate(RuleSimulationRequest input) {
         String normalizedRuleSetKey = normalizeUpper(input.ruleSetKey());
-        RuleSetEntity entity = findByRuleSetKeyAndVersionNo(normalizedRuleSetKey, input.versionNo());
-
-        JsonNode dsl = readJsonNode(entity.getDslJson());
-        var expression = ruleDslParser.parse(dsl);
+        CompiledRuleSet compiledRuleSet = findCompiledRuleSet(normalizedRuleSetKey, input.versionNo());
 
         RuleEvaluationContext context = toEvaluationContext(input.context());
 
@@ -149,7 +192,11 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
         Timer.Sample sample = Timer.start(meterRegistry);
 
         try {
-            RuleEvaluationResult result = ruleEvaluator.evaluate(expression, context);
+            if (compiledRuleSet.type() == RuleSetType.DECISION_TABLE) {
+                return simulateDecisionTable(normalizedRuleSetKey, input.versionNo(), compiledRuleSet.decisionTable(), context);
+            }
+
+            RuleEvaluationResult result = ruleEvaluator.evaluate(compiledRuleSet.compiled(), context);
             log.info(
                 "Rule simulation evaluated ruleSetKey={} versionNo={} matched={}",
                 normalizedRuleSetKey,
@@ -157,20 +204,13 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
                 result.matched()
             );
 
-            List<RuleEvaluationTraceResource> traces = result.traces().stream()
-                .map(trace -> new RuleEvaluationTraceResource(
-                    trace.path(),
-                    trace.expressionType(),
-                    trace.result(),
-                    trace.field(),
-                    trace.operator(),
-                    trace.fieldValue(),
-                    trace.expectedValue(),
-                    trace.reason()
-                ))
-                .toList();
-
-            return new RuleSimulationResponse(normalizedRuleSetKey, input.versionNo(), result.matched(), traces);
+            return new RuleSimulationResponse(
+                normalizedRuleSetKey,
+                input.versionNo(),
+                result.matched(),
+                null,
+                toTraceResources(result)
+            );
         } catch (RuntimeException exception) {
             evaluationsFailedCounter.increment();
             log.warn(
@@ -185,6 +225,92 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
         }
     }
 
+    /**
+     * Evaluates NDJSON {@link RuleEvaluationContextInput} lines from {@code input} against one rule set version and
+     * streams one result line per context to {@code output}, followed by a summary line. The version is resolved
+     * before {@code output} is opened, so a missing version still fails as a regular error response.
+     */
+    public void simulateBatch(
+        String ruleSetKey,
+        int versionNo,
+        boolean includeTraces,
+        InputStream input,
+        ThrowingSupplier<OutputStream> output
+    ) throws IOException {
+        String normalizedRuleSetKey = normalizeUpper(ruleSetKey);
+        CompiledRuleSet compiledRuleSet = findCompiledRuleSet(normalizedRuleSetKey, versionNo);
+        requireBooleanRuleSet(compiledRuleSet, "Batch simulation");
+
+        RuleBatchSimulationSummaryResource summary = ruleBatchSimulator.simulate(
+            normalizedRuleSetKey,
+            versionNo,
+            input,
+            output.get(),
+            (index, line) -> evaluateBatchItem(compiledRuleSet, includeTraces, index, line)
+        );
+
+        recordBatchSummary(summary);
+    }
+
+    /**
+     * Same streamed output as {@link #simulateBatch}, but the contexts are the stored requests created in
+     * {@code [from, to)}, optionally limited to one request type, and each item carries its request id. Runs in one
+     * read-only transaction because the underlying row stream stays open until the last row is read.
+     */
+    @Transactional(readOnly = true)
+    public void simulateStoredRequests(RuleStoredRequestSimulationInput input, ThrowingSupplier<OutputStream> output)
+        throws IOException {
+        requireNonEmptyWindow(input.from(), input.to(), "Batch simulation");
+
+        String normalizedRuleSetKey = normalizeUpper(input.ruleSetKey());
+        CompiledRuleSet compiledRuleSet = findCompiledRuleSet(normalizedRuleSetKey, input.versionNo());
+        requireBooleanRuleSet(compiledRuleSet, "Batch simulation");
+
+        RuleBatchSimulationSummaryResource summary;
+        try (Stream<RuleImpactRequestRow> rows = ruleStoredRequestSource.stream(
+            input.from(),
+            input.to(),
+            trimToNull(input.requestType())
+        )) {
+            summary = ruleBatchSimulator.simulate(
+                normalizedRuleSetKey,
+                input.versionNo(),
+                rows.iterator(),
+                output.get(),
+                (index, row) -> evaluateStoredRequestItem(compiledRuleSet, input.includeTraces(), index, row)
+            );
+        }
+
+        recordBatchSummary(summary);
+    }
+
+    /**
+     * Compares two versions of a rule set over the requests created in {@code [from, to)}. Runs in one read-only
+     * transaction because the underlying row stream stays open until the last request is evaluated.
+     */
+    @Transactional(readOnly = true)
+    public RuleImpactAnalysisResponse analyzeImpact(String ruleSetKey, RuleImpactAnalysisInput input) {
+        requireNonEmptyWindow(input.from(), input.to(), "Impact analysis");
+
+        String normalizedRuleSetKey = normalizeUpper(ruleSetKey);
+        CompiledRuleSet base = findCompiledRuleSet(normalizedRuleSetKey, input.baseVersionNo());
+        CompiledRuleSet candidate = findCompiledRuleSet(normalizedRuleSetKey, input.candidateVersionNo());
+        requireBooleanRuleSet(base, "Impact analysis");
+        requireBooleanRuleSet(candidate, "Impact analysis");
+
+        RuleImpactAnalysisResponse response = ruleImpactAnalyzer.analyze(base, candidate, input);
+        log.info(
+            "Rule impact analysis ruleSetKey={} baseVersionNo={} candidateVersionNo={} evaluated={} flipped={} failed={}",
+            normalizedRuleSetKey,
+            input.baseVersionNo(),
+            input.candidateVersionNo(),
+            response.evaluated(),
+            response.flippedToMatched() + response.flippedToUnmatched(),
+            response.failed()
+        );
+        return response;
+    }
+
     @Transactional(readOnly = true)
     @Override
     public boolean exists(String ruleSetKey, int versionNo) {
@@ -195,13 +321,84 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
         return ruleSetJpaRepository.existsByRuleSetKeyAndVersionNo(normalizeUpper(ruleSetKey), versionNo);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Set<String> decisionBranches(String ruleSetKey, int versionNo) {
+        if (!exists(ruleSetKey, versionNo)) {
+            return Set.of();
+        }
+
+        CompiledRuleSet compiledRuleSet = findCompiledRuleSet(normalizeUpper(ruleSetKey), versionNo);
+        return compiledRuleSet.type() == RuleSetType.DECISION_TABLE ? compiledRuleSet.decisionTable().branches() : Set.of();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public boolean matches(String ruleSetKey, int versionNo, RuleEvaluationContext context) {
-        RuleSetEntity entity = findByRuleSetKeyAndVersionNo(ruleSetKey, versionNo);
-        JsonNode dsl = readJsonNode(entity.getDslJson());
-        var expression = ruleDslParser.parse(dsl);
-        return ruleEvaluator.evaluate(expression, context).matched();
+        CompiledRuleSet compiledRuleSet = findCompiledRuleSet(normalizeUpper(ruleSetKey), versionNo);
+        return compiledRuleSet.matches(context);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String decide(String ruleSetKey, int versionNo, RuleEvaluationContext context) {
+        CompiledRuleSet compiledRuleSet = findCompiledRuleSet(normalizeUpper(ruleSetKey), versionNo);
+        return compiledRuleSet.decide(context);
+    }
+
+    private CompiledRuleSet findCompiledRuleSet(String normalizedRuleSetKey, int versionNo) {
+        return compiledRuleSetCache.getOrCompile(normalizedRuleSetKey, versionNo, () -> {
+            RuleSetEntity entity = findByRuleSetKeyAndVersionNo(normalizedRuleSetKey, versionNo);
+            JsonNode dslNode = readJsonNode(entity.getDslJson());
+            if (ruleDslParser.isDecisionTable(dslNode)) {
+                return ruleCompiler.compile(
+                    entity.getRuleSetKey(),
+                    entity.getVersionNo(),
+                    ruleDslParser.parseDecisionTable(dslNode)
+                );
+            }
+            return ruleCompiler.compile(
+                entity.getRuleSetKey(),
+                entity.getVersionNo(),
+                ruleDslParser.parse(dslNode, entity.getRegexEngine()),
+                entity.getRegexEngine()
+            );
+        });
+    }
+
+    private RuleSimulationResponse simulateDecisionTable(
+        String ruleSetKey,
+        int versionNo,
+        CompiledDecisionTable decisionTable,
+        RuleEvaluationContext context
+    ) {
+        int row = decisionTable.matchingRow(context);
+        String branch = decisionTable.branchOf(row);
+        log.info(
+            "Rule simulation evaluated ruleSetKey={} versionNo={} decisionRow={} branch={}",
+            ruleSetKey,
+            versionNo,
+            row,
+            branch
+        );
+
+        RuleEvaluationTraceResource trace = new RuleEvaluationTraceResource(
+            row < 0 ? "$.decisionTable.defaultBranch" : "$.decisionTable.rows[" + row + "]",
+            "decisionTable",
+            row >= 0,
+            null,
+            null,
+            null,
+            branch,
+            row < 0 ? "no row matched; default branch" : "first matching row"
+        );
+        return new RuleSimulationResponse(ruleSetKey, versionNo, row >= 0, branch, List.of(trace));
+    }
+
+    private void requireBooleanRuleSet(CompiledRuleSet compiledRuleSet, String operation) {
+        if (compiledRuleSet.type() != RuleSetType.BOOLEAN) {
+            throw new IllegalStateException(operation + " supports boolean rule sets only");
+        }
     }
 
     private RuleSetEntity findByRuleSetKeyAndVersionNo(String ruleSetKey, int versionNo) {
@@ -210,23 +407,133 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
     }
 
     private RuleSetVersionResource toVersionResource(RuleSetEntity entity) {
+        Map<String, Object> dsl = readJsonMap(entity.getDslJson());
         return new RuleSetVersionResource(
             entity.getId(),
             entity.getRuleSetKey(),
             entity.getVersionNo(),
-            readJsonMap(entity.getDslJson()),
+            dsl.containsKey(RuleDslParser.DECISION_TABLE_KEY) ? RuleSetType.DECISION_TABLE : RuleSetType.BOOLEAN,
+            entity.getRegexEngine(),
+            dsl,
             entity.getChecksumSha256(),
             entity.getCreatedAt()
         );
     }
 
+    private RuleBatchSimulationItemResource evaluateBatchItem(
+        CompiledRuleSet compiledRuleSet,
+        boolean includeTraces,
+        long index,
+        String line
+    ) {
+        try {
+            RuleEvaluationContext context = toEvaluationContext(
+                objectMapper.readValue(line, RuleEvaluationContextInput.class)
+            );
+            return evaluateBatchContext(compiledRuleSet, includeTraces, index, null, context);
+        } catch (JsonProcessingException exception) {
+            return new RuleBatchSimulationItemResource(
+                index,
+                null,
+                null,
+                null,
+                "Invalid context JSON: " + exception.getOriginalMessage()
+            );
+        } catch (RuntimeException exception) {
+            return new RuleBatchSimulationItemResource(index, null, null, null, batchErrorMessage(exception));
+        }
+    }
+
+    private RuleBatchSimulationItemResource evaluateStoredRequestItem(
+        CompiledRuleSet compiledRuleSet,
+        boolean includeTraces,
+        long index,
+        RuleImpactRequestRow row
+    ) {
+        try {
+            RuleEvaluationContext context = ruleStoredRequestSource.toEvaluationContext(row);
+            return evaluateBatchContext(compiledRuleSet, includeTraces, index, row.id(), context);
+        } catch (JsonProcessingException exception) {
+            return new RuleBatchSimulationItemResource(
+                index,
+                row.id(),
+                null,
+                null,
+                "Invalid stored payload JSON: " + exception.getOriginalMessage()
+            );
+        } catch (RuntimeException exception) {
+            return new RuleBatchSimulationItemResource(index, row.id(), null, null, batchErrorMessage(exception));
+        }
+    }
+
+    private RuleBatchSimulationItemResource evaluateBatchContext(
+        CompiledRuleSet compiledRuleSet,
+        boolean includeTraces,
+        long index,
+        UUID requestId,
+        RuleEvaluationContext context
+    ) {
+        if (!includeTraces) {
+            return new RuleBatchSimulationItemResource(index, requestId, compiledRuleSet.matches(context), null, null);
+        }
+        RuleEvaluationResult result = ruleEvaluator.evaluate(compiledRuleSet.compiled(), context);
+        return new RuleBatchSimulationItemResource(index, requestId, result.matched(), toTraceResources(result), null);
+    }
+
+    /**
+     * The summary counts an item as failed only when its error is set, so a message-less exception still needs one.
+     */
+    private String batchErrorMessage(RuntimeException exception) {
+        return StringUtils.hasText(exception.getMessage())
+            ? exception.getMessage()
+            : exception.getClass().getSimpleName();
+    }
+
+    private void recordBatchSummary(RuleBatchSimulationSummaryResource summary) {
+        evaluationsTotalCounter.increment(summary.total());
+        evaluationsFailedCounter.increment(summary.failed());
+        log.info(
+            "Rule batch simulation evaluated ruleSetKey={} versionNo={} total={} matched={} failed={} truncated={}",
+            summary.ruleSetKey(),
+            summary.versionNo(),
+            summary.total(),
+            summary.matched(),
+            summary.failed(),
+            summary.truncated()
+        );
+    }
+
+    private void requireNonEmptyWindow(Instant from, Instant to, String operation) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException(
+                operation + " window is empty",
+                List.of(new ApiErrorDetail("to", "must be after from"))
+            );
+        }
+    }
+
+    private List<RuleEvaluationTraceResource> toTraceResources(RuleEvaluationResult result) {
+        return result.traces().stream()
+            .map(trace -> new RuleEvaluationTraceResource(
+                trace.path(),
+                trace.expressionType(),
+                trace.result(),
+                trace.field(),
+                trace.operator(),
+                trace.fieldValue(),
+                trace.expectedValue(),
+                trace.reason()
+            ))
+            .toList();
+    }
+
     private RuleEvaluationContext toEvaluationContext(RuleEvaluationContextInput input) {
         return new RuleEvaluationContext(
             input.amount(),
             trimToNull(input.department()),
             trimToNull(input.requestType()),
             normalizeCurrency(input.currency()),
-            input.payload() == null ? java.util.Map.of() : input.payload()
+            input.payload() == null ? Map.of() : input.payload()
         );
     }
 
@@ -238,7 +545,7 @@ public class RuleSetService implements RuleSetLookup, RuleSetRuntimeEvaluator {
         }
     }
 
-    private java.util.Map<String, Object> readJsonMap(String json) {
+    private Map<String, Object> readJsonMap(String json) {
         try {
             return objectMapper.readValue(json, new TypeReference<>() {});
         } catch (JsonProcessingException exception) {
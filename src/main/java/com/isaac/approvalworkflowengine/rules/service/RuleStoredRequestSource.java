@@ -0,0 +1,47 @@
+package com.isaac.approvalworkflowengine.rules.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.repository.RuleImpactRequestJpaRepository;
+import com.isaac.approvalworkflowengine.rules.repository.RuleImpactRequestRow;
+import java.time.Instant;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Selects stored requests by creation window and optional request type, and turns each row into a rule
+ * evaluation context. Shared by impact analysis and stored-request batch simulation so both see the same rows.
+ */
+@Component
+class RuleStoredRequestSource {
+
+    private final RuleImpactRequestJpaRepository ruleImpactRequestJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    RuleStoredRequestSource(RuleImpactRequestJpaRepository ruleImpactRequestJpaRepository, ObjectMapper objectMapper) {
+        this.ruleImpactRequestJpaRepository = ruleImpactRequestJpaRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Opens a forward-only row stream; callers must close it inside the surrounding transaction.
+     */
+    Stream<RuleImpactRequestRow> stream(Instant from, Instant to, String requestType) {
+        return requestType == null
+            ? ruleImpactRequestJpaRepository.streamCreatedBetween(from, to)
+            : ruleImpactRequestJpaRepository.streamCreatedBetweenForType(from, to, requestType);
+    }
+
+    RuleEvaluationContext toEvaluationContext(RuleImpactRequestRow row) throws JsonProcessingException {
+        return new RuleEvaluationContext(
+            row.amount(),
+            row.department(),
+            row.requestType(),
+            row.currency(),
+            objectMapper.readValue(row.payloadJson(), new TypeReference<Map<String, Object>>() {})
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.isaac.approvalworkflowengine.rules.validation;
+
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
+
+/**
+ * A {@code matches} pattern compiled once at rule-compile time by {@link RuleRegexGuard}.
+ */
+public sealed interface RuleRegex {
+
+    /**
+     * The pattern source as written in the rule DSL.
+     */
+    String pattern();
+
+    RuleRegexEngine engine();
+
+    /**
+     * Longest input the guard lets this engine match against.
+     */
+    int maxInputLength();
+
+    boolean matches(String input);
+
+    record JavaRegex(java.util.regex.Pattern compiled, int maxInputLength) implements RuleRegex {
+
+        @Override
+        public String pattern() {
+            return compiled.pattern();
+        }
+
+        @Override
+        public RuleRegexEngine engine() {
+            return RuleRegexEngine.JAVA;
+        }
+
+        @Override
+        public boolean matches(String input) {
+            return compiled.matcher(input).matches();
+        }
+    }
+
+    record LinearRegex(com.google.re2j.Pattern compiled, int maxInputLength) implements RuleRegex {
+
+        @Override
+        public String pattern() {
+            return compiled.pattern();
+        }
+
+        @Override
+        public RuleRegexEngine engine() {
+            return RuleRegexEngine.LINEAR;
+        }
+
+        @Override
+        public boolean matches(String input) {
+            return compiled.matcher(input).matches();
+        }
+    }
+}
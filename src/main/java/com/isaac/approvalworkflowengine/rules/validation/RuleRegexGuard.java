@@ -1,5 +1,6 @@
 package com.isaac.approvalworkflowengine.rules.validation;
 
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
 import com.isaac.approvalworkflowengine.shared.api.ApiErrorDetail;
 import com.isaac.approvalworkflowengine.shared.error.BadRequestException;
 import java.util.List;
@@ -7,24 +8,42 @@ import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import org.springframework.stereotype.Component;
 
+/**
+ * Bounds regex cost for the {@code matches} operator. The backtracking {@code JAVA} engine relies on pattern
+ * restrictions and a tight input cap; the {@code LINEAR} engine matches in time linear in the input, so its input
+ * cap is raised.
+ */
 @Component
 public class RuleRegexGuard {
 
     private static final int MAX_PATTERN_LENGTH = 256;
     private static final int MAX_INPUT_LENGTH = 4_000;
+    private static final int MAX_LINEAR_INPUT_LENGTH = 100_000;
 
-    public Pattern compile(String pattern, String fieldPath) {
+    public RuleRegex compile(String pattern, String fieldPath) {
+        return compile(pattern, fieldPath, RuleRegexEngine.JAVA);
+    }
+
+    public RuleRegex compile(String pattern, String fieldPath, RuleRegexEngine engine) {
         validatePattern(pattern, fieldPath);
+        if (engine == RuleRegexEngine.LINEAR) {
+            try {
+                return new RuleRegex.LinearRegex(com.google.re2j.Pattern.compile(pattern), MAX_LINEAR_INPUT_LENGTH);
+            } catch (com.google.re2j.PatternSyntaxException exception) {
+                throw badRequest(fieldPath, "Invalid regex syntax for the linear regex engine");
+            }
+        }
+
         try {
-            return Pattern.compile(pattern);
+            return new RuleRegex.JavaRegex(Pattern.compile(pattern), MAX_INPUT_LENGTH);
         } catch (PatternSyntaxException exception) {
             throw badRequest(fieldPath, "Invalid regex syntax");
         }
     }
 
-    public void validateInput(String value, String fieldPath) {
-        if (value != null && value.length() > MAX_INPUT_LENGTH) {
-            throw badRequest(fieldPath, "Regex input exceeds max length of " + MAX_INPUT_LENGTH);
+    public void validateInput(String value, RuleRegex regex, String fieldPath) {
+        if (value != null && value.length() > regex.maxInputLength()) {
+            throw badRequest(fieldPath, "Regex input exceeds max length of " + regex.maxInputLength());
         }
     }
 
@@ -0,0 +1,41 @@
+package com.isaac.approvalworkflowengine.shared.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Admission limits applied when {@code spring.threads.virtual.enabled=true}. Virtual threads remove the
+ * Tomcat worker pool as the natural bound on concurrent requests, so in-flight requests are capped at a
+ * multiple of the JDBC pool size instead.
+ */
+@ConfigurationProperties(prefix = "app.threads.virtual")
+public class VirtualThreadProperties {
+
+    private int requestsPerConnection = 4;
+    private int maxConcurrentRequests;
+    private Duration admissionTimeout = Duration.ofSeconds(2);
+
+    public int getRequestsPerConnection() {
+        return requestsPerConnection;
+    }
+
+    public void setRequestsPerConnection(int requestsPerConnection) {
+        this.requestsPerConnection = requestsPerConnection;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public Duration getAdmissionTimeout() {
+        return admissionTimeout;
+    }
+
+    public void setAdmissionTimeout(Duration admissionTimeout) {
+        this.admissionTimeout = admissionTimeout;
+    }
+}
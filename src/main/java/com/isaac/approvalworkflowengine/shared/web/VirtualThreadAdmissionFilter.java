@@ -0,0 +1,111 @@
+package com.isaac.approvalworkflowengine.shared.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.shared.api.ApiError;
+import com.isaac.approvalworkflowengine.shared.config.VirtualThreadProperties;
+import com.isaac.approvalworkflowengine.shared.context.CorrelationIdContext;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Caps in-flight requests when request handling runs on virtual threads. Without it every accepted connection
+ * gets its own thread, and a burst queues unbounded work on the Hikari pool until callers time out deep inside
+ * a transaction. Requests that cannot be admitted within the admission timeout get a 503 before any work starts.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class VirtualThreadAdmissionFilter extends OncePerRequestFilter {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final VirtualThreadProperties properties;
+    private final ObjectMapper objectMapper;
+    private final int maxConcurrentRequests;
+    private final Semaphore permits;
+
+    public VirtualThreadAdmissionFilter(VirtualThreadProperties properties, ObjectMapper objectMapper, DataSource dataSource) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.maxConcurrentRequests = properties.getMaxConcurrentRequests() > 0
+            ? properties.getMaxConcurrentRequests()
+            : poolSize(dataSource) * Math.max(1, properties.getRequestsPerConnection());
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+    }
+
+    public int maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        boolean admitted;
+        try {
+            admitted = permits.tryAcquire(properties.getAdmissionTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+
+        if (!admitted) {
+            reject(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Object correlationId = request.getAttribute(CorrelationIdContext.REQUEST_ATTRIBUTE);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+            response.getOutputStream(),
+            new ApiError(
+                "SERVER_BUSY",
+                "Too many concurrent requests",
+                correlationId instanceof String value ? value : null,
+                List.of()
+            )
+        );
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException exception) {
+            throw new IllegalStateException("Unable to inspect the JDBC pool size", exception);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,12 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+
+public record BulkTaskClaimItemInput(
+    @NotNull UUID taskId,
+    @NotBlank @Size(min = 8, max = 120) String idempotencyKey
+) {
+}
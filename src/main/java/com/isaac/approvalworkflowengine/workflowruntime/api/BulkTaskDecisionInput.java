@@ -0,0 +1,12 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BulkTaskDecisionInput(
+    @NotEmpty @Size(max = 100) List<@Valid @NotNull BulkTaskDecisionItemInput> items
+) {
+}
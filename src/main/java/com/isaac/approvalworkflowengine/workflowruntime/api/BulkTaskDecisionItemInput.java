@@ -0,0 +1,19 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskDecisionAction;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+
+public record BulkTaskDecisionItemInput(
+    @NotNull UUID taskId,
+    @NotBlank @Size(min = 8, max = 120) String idempotencyKey,
+    @NotNull TaskDecisionAction action,
+    @Size(max = 4000) String comment
+) {
+
+    public TaskDecisionInput toDecisionInput() {
+        return new TaskDecisionInput(action, comment, null);
+    }
+}
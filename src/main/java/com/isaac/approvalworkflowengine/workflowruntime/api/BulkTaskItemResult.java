@@ -0,0 +1,31 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one bulk item. {@code status} is the HTTP status the matching single-task call would have returned;
+ * {@code result} is set on success, {@code errorCode}/{@code errorMessage} on failure.
+ */
+public record BulkTaskItemResult<T>(
+    UUID taskId,
+    String idempotencyKey,
+    int status,
+    T result,
+    String errorCode,
+    String errorMessage
+) {
+
+    public static <T> BulkTaskItemResult<T> succeeded(UUID taskId, String idempotencyKey, T result) {
+        return new BulkTaskItemResult<>(taskId, idempotencyKey, 200, result, null, null);
+    }
+
+    public static <T> BulkTaskItemResult<T> failed(
+        UUID taskId,
+        String idempotencyKey,
+        int status,
+        String errorCode,
+        String errorMessage
+    ) {
+        return new BulkTaskItemResult<>(taskId, idempotencyKey, status, null, errorCode, errorMessage);
+    }
+}
@@ -0,0 +1,8 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+import java.util.List;
+
+public record BulkTaskResultResource<T>(
+    List<BulkTaskItemResult<T>> items
+) {
+}
@@ -0,0 +1,9 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+import java.util.List;
+
+public record PagedWorkflowInstanceResource(
+    List<WorkflowInstanceResource> items,
+    WorkflowInstancePageMetadata page
+) {
+}
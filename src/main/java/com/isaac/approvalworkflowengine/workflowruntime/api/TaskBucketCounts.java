@@ -0,0 +1,8 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+public record TaskBucketCounts(
+    long pending,
+    long claimed,
+    long overdue
+) {
+}
@@ -38,6 +38,7 @@ public class TaskController {
         @RequestParam(defaultValue = "0") @Min(0) int page,
         @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size,
         @RequestParam(defaultValue = "createdAt,desc") String sort,
+        @RequestParam(required = false) @Size(max = 256) String after,
         @AuthenticationPrincipal Jwt jwt
     ) {
         return workflowRuntimeService.listTasks(
@@ -46,10 +47,16 @@ public class TaskController {
             status,
             page,
             size,
-            sort
+            sort,
+            after
         );
     }
 
+    @GetMapping("/counts")
+    public TaskCountsResource countTasks(@AuthenticationPrincipal Jwt jwt) {
+        return workflowRuntimeService.countTasks(TaskActor.fromJwt(jwt));
+    }
+
     @PostMapping("/{taskId}/claim")
     public TaskResource claimTask(
         @PathVariable UUID taskId,
@@ -59,6 +66,14 @@ public class TaskController {
         return workflowRuntimeService.claimTask(taskId, idempotencyKey, TaskActor.fromJwt(jwt));
     }
 
+    @PostMapping("/bulk/claims")
+    public BulkTaskResultResource<TaskResource> claimTasks(
+        @Valid @RequestBody BulkTaskClaimInput input,
+        @AuthenticationPrincipal Jwt jwt
+    ) {
+        return workflowRuntimeService.claimTasks(input.items(), TaskActor.fromJwt(jwt));
+    }
+
     @PostMapping("/{taskId}/decisions")
     public TaskDecisionResource decideTask(
         @PathVariable UUID taskId,
@@ -68,4 +83,12 @@ public class TaskController {
     ) {
         return workflowRuntimeService.decideTask(taskId, idempotencyKey, input, TaskActor.fromJwt(jwt));
     }
+
+    @PostMapping("/bulk/decisions")
+    public BulkTaskResultResource<TaskDecisionResource> decideTasks(
+        @Valid @RequestBody BulkTaskDecisionInput input,
+        @AuthenticationPrincipal Jwt jwt
+    ) {
+        return workflowRuntimeService.decideTasks(input.items(), TaskActor.fromJwt(jwt));
+    }
 }
@@ -0,0 +1,8 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+public record TaskCountsResource(
+    TaskBucketCounts me,
+    TaskBucketCounts role,
+    TaskBucketCounts total
+) {
+}
@@ -1,9 +1,10 @@
 package com.isaac.approvalworkflowengine.workflowruntime.api;
 
 public record TaskPageMetadata(
-    int number,
+    Integer number,
     int size,
-    long totalElements,
-    int totalPages
+    Long totalElements,
+    Integer totalPages,
+    String nextCursor
 ) {
 }
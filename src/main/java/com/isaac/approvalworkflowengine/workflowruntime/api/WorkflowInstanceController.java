@@ -0,0 +1,37 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+import com.isaac.approvalworkflowengine.workflowruntime.service.WorkflowRuntimeService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Validated
+@RestController
+@RequestMapping(path = "/api/workflow-instances", version = "1.0")
+@PreAuthorize("hasRole('WORKFLOW_ADMIN')")
+public class WorkflowInstanceController {
+
+    private final WorkflowRuntimeService workflowRuntimeService;
+
+    public WorkflowInstanceController(WorkflowRuntimeService workflowRuntimeService) {
+        this.workflowRuntimeService = workflowRuntimeService;
+    }
+
+    @GetMapping
+    public PagedWorkflowInstanceResource listInstancesAtStep(
+        @RequestParam @NotBlank @Size(max = 80) String stepKey,
+        @RequestParam(required = false) UUID workflowVersionId,
+        @RequestParam(defaultValue = "0") @Min(0) int page,
+        @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size
+    ) {
+        return workflowRuntimeService.listInstancesAtStep(stepKey, workflowVersionId, page, size);
+    }
+}
@@ -0,0 +1,9 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+public record WorkflowInstancePageMetadata(
+    int page,
+    int size,
+    long totalElements,
+    int totalPages
+) {
+}
@@ -0,0 +1,17 @@
+package com.isaac.approvalworkflowengine.workflowruntime.api;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowInstanceStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record WorkflowInstanceResource(
+    UUID id,
+    UUID requestId,
+    UUID workflowVersionId,
+    WorkflowInstanceStatus status,
+    List<String> currentStepKeys,
+    Instant createdAt,
+    Instant updatedAt
+) {
+}
@@ -0,0 +1,134 @@
+package com.isaac.approvalworkflowengine.workflowruntime.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.runtime")
+public class WorkflowRuntimeProperties {
+
+    private GraphCache graphCache = new GraphCache();
+    private Advancement advancement = new Advancement();
+    private InstanceExecutor instanceExecutor = new InstanceExecutor();
+
+    public GraphCache getGraphCache() {
+        return graphCache;
+    }
+
+    public void setGraphCache(GraphCache graphCache) {
+        this.graphCache = graphCache;
+    }
+
+    public Advancement getAdvancement() {
+        return advancement;
+    }
+
+    public void setAdvancement(Advancement advancement) {
+        this.advancement = advancement;
+    }
+
+    public InstanceExecutor getInstanceExecutor() {
+        return instanceExecutor;
+    }
+
+    public void setInstanceExecutor(InstanceExecutor instanceExecutor) {
+        this.instanceExecutor = instanceExecutor;
+    }
+
+    public static class GraphCache {
+
+        private int maxEntries = 256;
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    public enum AdvancementMode {
+        SYNC,
+        ASYNC
+    }
+
+    public static class Advancement {
+
+        private AdvancementMode mode = AdvancementMode.SYNC;
+        private boolean workerEnabled = true;
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private int batchSize = 50;
+        private int maxAttempts = 5;
+        private Duration retryBackoff = Duration.ofSeconds(5);
+
+        public AdvancementMode getMode() {
+            return mode;
+        }
+
+        public void setMode(AdvancementMode mode) {
+            this.mode = mode;
+        }
+
+        public boolean isWorkerEnabled() {
+            return workerEnabled;
+        }
+
+        public void setWorkerEnabled(boolean workerEnabled) {
+            this.workerEnabled = workerEnabled;
+        }
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getRetryBackoff() {
+            return retryBackoff;
+        }
+
+        public void setRetryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+        }
+    }
+
+    public static class InstanceExecutor {
+
+        private boolean enabled = true;
+        private Duration queueTimeout = Duration.ofSeconds(10);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getQueueTimeout() {
+            return queueTimeout;
+        }
+
+        public void setQueueTimeout(Duration queueTimeout) {
+            this.queueTimeout = queueTimeout;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.isaac.approvalworkflowengine.workflowruntime.execution;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskEntity;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory view of one workflow instance's tasks for the duration of a single runtime traversal.
+ * Reads are answered from the loaded set and writes are collected until {@link #pendingWrites()} is flushed.
+ * Loading indexes the tasks by step and keeps a readiness counter per JOIN (distinct approved predecessor steps),
+ * so step lookups and join checks do not rescan the task list. It also carries the instance's fired joins: a
+ * satisfied JOIN fires once, and creating a new task at one of its predecessor steps (a loopback) re-arms it.
+ */
+public final class RuntimeTaskSnapshot {
+
+    private static final Set<TaskStatus> ACTIVE_STATUSES = EnumSet.of(TaskStatus.PENDING, TaskStatus.CLAIMED);
+
+    private final List<TaskEntity> tasks;
+    private final Map<UUID, TaskEntity> pendingWrites = new LinkedHashMap<>();
+    private final WorkflowRuntimeGraph graph;
+    private final Map<String, Integer> activeTasksByStep = new HashMap<>();
+    private final Set<String> approvedSteps = new HashSet<>();
+    private final Map<String, Integer> approvedPredecessorsByJoin = new HashMap<>();
+    private final Set<String> firedJoinKeys;
+
+    public RuntimeTaskSnapshot(Collection<TaskEntity> tasks, Collection<String> firedJoinKeys, WorkflowRuntimeGraph graph) {
+        this.tasks = new ArrayList<>(tasks);
+        this.firedJoinKeys = new HashSet<>(firedJoinKeys);
+        this.graph = graph;
+        for (TaskEntity task : this.tasks) {
+            index(task);
+        }
+    }
+
+    public boolean hasActiveTaskAt(String stepKey) {
+        return activeTasksByStep.getOrDefault(stepKey, 0) > 0;
+    }
+
+    public void add(TaskEntity task) {
+        tasks.add(task);
+        index(task);
+        pendingWrites.put(task.getId(), task);
+        if (ACTIVE_STATUSES.contains(task.getStatus())) {
+            firedJoinKeys.removeAll(graph.joinsFedBy(task.getStepKey()));
+        }
+    }
+
+    public int approvedPredecessorCount(String joinNodeKey) {
+        return approvedPredecessorsByJoin.getOrDefault(joinNodeKey, 0);
+    }
+
+    /**
+     * Records that a satisfied JOIN fires; returns {@code false} when it already fired for this instance.
+     */
+    public boolean fireJoin(String joinNodeKey) {
+        return firedJoinKeys.add(joinNodeKey);
+    }
+
+    public List<String> firedJoinKeys() {
+        return firedJoinKeys.stream().sorted().toList();
+    }
+
+    public void transitionActiveTasks(Collection<String> stepKeys, TaskStatus targetStatus) {
+        for (TaskEntity task : tasks) {
+            if (ACTIVE_STATUSES.contains(task.getStatus()) && stepKeys.contains(task.getStepKey())) {
+                transition(task, targetStatus);
+            }
+        }
+    }
+
+    /**
+     * Moves one loaded active task, such as the task whose decision starts the traversal, to {@code targetStatus}.
+     */
+    public void transition(TaskEntity task, TaskStatus targetStatus) {
+        if (ACTIVE_STATUSES.contains(task.getStatus())) {
+            activeTasksByStep.merge(task.getStepKey(), -1, Integer::sum);
+        }
+        task.setStatus(targetStatus);
+        index(task);
+        pendingWrites.put(task.getId(), task);
+    }
+
+    public Set<String> activeStepKeys() {
+        Set<String> stepKeys = new LinkedHashSet<>();
+        for (TaskEntity task : tasks) {
+            if (ACTIVE_STATUSES.contains(task.getStatus())) {
+                stepKeys.add(task.getStepKey());
+            }
+        }
+        return stepKeys;
+    }
+
+    public List<TaskEntity> pendingWrites() {
+        return List.copyOf(pendingWrites.values());
+    }
+
+    private void index(TaskEntity task) {
+        if (ACTIVE_STATUSES.contains(task.getStatus())) {
+            activeTasksByStep.merge(task.getStepKey(), 1, Integer::sum);
+        } else if (task.getStatus() == TaskStatus.APPROVED && approvedSteps.add(task.getStepKey())) {
+            for (String joinNodeKey : graph.joinsFedBy(task.getStepKey())) {
+                approvedPredecessorsByJoin.merge(joinNodeKey, 1, Integer::sum);
+            }
+        }
+    }
+}
@@ -2,30 +2,77 @@ package com.isaac.approvalworkflowengine.workflowruntime.execution;
 
 import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowEdgeInput;
 import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowGraphInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowJoinInput;
 import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowNodeInput;
 import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowNodeType;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import org.springframework.util.StringUtils;
 
 public final class WorkflowRuntimeGraph {
 
     private final Map<String, WorkflowNodeInput> nodesById;
     private final Map<String, List<RuntimeEdge>> outgoing;
-    private final Map<String, List<RuntimeEdge>> incoming;
+    private final Map<String, List<String>> successorKeys;
+    private final Map<String, List<String>> predecessorKeys;
+    private final WorkflowNodeInput startNode;
+    private final Set<String> joinFeedingApprovalKeys;
+    private final Map<String, List<String>> joinsByPredecessor;
+    private final Map<String, Integer> distinctJoinPredecessors;
+    private final Map<String, Map<String, String>> decisionTargets;
 
     private WorkflowRuntimeGraph(
         Map<String, WorkflowNodeInput> nodesById,
         Map<String, List<RuntimeEdge>> outgoing,
         Map<String, List<RuntimeEdge>> incoming
     ) {
-        this.nodesById = nodesById;
-        this.outgoing = outgoing;
-        this.incoming = incoming;
+        this.nodesById = Map.copyOf(nodesById);
+        this.outgoing = copyEdges(outgoing);
+        this.successorKeys = collectKeys(outgoing, RuntimeEdge::to);
+        this.predecessorKeys = collectKeys(incoming, RuntimeEdge::from);
+        this.startNode = nodesById.values().stream()
+            .filter(node -> node.type() == WorkflowNodeType.START)
+            .findFirst()
+            .orElse(null);
+        this.joinFeedingApprovalKeys = collectJoinFeedingApprovals();
+
+        Map<String, List<String>> joinsByPredecessor = new HashMap<>();
+        Map<String, Integer> distinctJoinPredecessors = new HashMap<>();
+        nodesById.forEach((nodeKey, node) -> {
+            if (node.type() != WorkflowNodeType.JOIN) {
+                return;
+            }
+            Set<String> predecessors = new LinkedHashSet<>(predecessorKeys(nodeKey));
+            distinctJoinPredecessors.put(nodeKey, predecessors.size());
+            for (String predecessor : predecessors) {
+                joinsByPredecessor.computeIfAbsent(predecessor, key -> new ArrayList<>()).add(nodeKey);
+            }
+        });
+        this.joinsByPredecessor = collectLists(joinsByPredecessor);
+        this.distinctJoinPredecessors = Map.copyOf(distinctJoinPredecessors);
+
+        Map<String, Map<String, String>> decisionTargets = new HashMap<>();
+        this.outgoing.forEach((nodeKey, edges) -> {
+            Map<String, String> targetsByLabel = new HashMap<>();
+            for (RuntimeEdge edge : edges) {
+                if (edge.label() != null) {
+                    targetsByLabel.put(edge.label(), edge.to());
+                }
+            }
+            if (!targetsByLabel.isEmpty()) {
+                decisionTargets.put(nodeKey, Map.copyOf(targetsByLabel));
+            }
+        });
+        this.decisionTargets = Map.copyOf(decisionTargets);
     }
 
     public static WorkflowRuntimeGraph from(WorkflowGraphInput graph) {
@@ -43,7 +90,8 @@ public final class WorkflowRuntimeGraph {
         for (WorkflowEdgeInput edge : graph.edges()) {
             String from = normalizeKey(edge.from());
             String to = normalizeKey(edge.to());
-            RuntimeEdge runtimeEdge = new RuntimeEdge(from, to, readBranch(edge.condition()));
+            Object branch = edge.condition() == null ? null : edge.condition().get("branch");
+            RuntimeEdge runtimeEdge = new RuntimeEdge(from, to, readBranch(branch), readLabel(branch));
             outgoing.computeIfAbsent(from, key -> new ArrayList<>()).add(runtimeEdge);
             incoming.computeIfAbsent(to, key -> new ArrayList<>()).add(runtimeEdge);
         }
@@ -52,10 +100,10 @@ public final class WorkflowRuntimeGraph {
     }
 
     public WorkflowNodeInput startNode() {
-        return nodesById.values().stream()
-            .filter(node -> node.type() == WorkflowNodeType.START)
-            .findFirst()
-            .orElseThrow(() -> new IllegalStateException("Workflow graph missing START node"));
+        if (startNode == null) {
+            throw new IllegalStateException("Workflow graph missing START node");
+        }
+        return startNode;
     }
 
     public WorkflowNodeInput node(String nodeKey) {
@@ -67,15 +115,11 @@ public final class WorkflowRuntimeGraph {
     }
 
     public List<String> successorKeys(String nodeKey) {
-        return outgoing.getOrDefault(nodeKey, List.of()).stream()
-            .map(RuntimeEdge::to)
-            .toList();
+        return successorKeys.getOrDefault(nodeKey, List.of());
     }
 
     public List<String> predecessorKeys(String nodeKey) {
-        return incoming.getOrDefault(nodeKey, List.of()).stream()
-            .map(RuntimeEdge::from)
-            .toList();
+        return predecessorKeys.getOrDefault(nodeKey, List.of());
     }
 
     public String resolveGatewayTarget(String gatewayNodeKey, boolean branchOutcome) {
@@ -90,12 +134,110 @@ public final class WorkflowRuntimeGraph {
         return matched.to();
     }
 
+    /**
+     * Whether this gateway routes on decision table branch labels rather than a boolean outcome.
+     */
+    public boolean isDecisionGateway(String gatewayNodeKey) {
+        return decisionTargets.containsKey(gatewayNodeKey);
+    }
+
+    public String resolveDecisionTarget(String gatewayNodeKey, String branch) {
+        String target = decisionTargets.getOrDefault(gatewayNodeKey, Map.of()).get(branch);
+        if (target == null) {
+            throw new IllegalStateException("Gateway node " + gatewayNodeKey + " has no branch " + branch);
+        }
+        return target;
+    }
+
+    /**
+     * Whether approving this node can reach a JOIN through automatic nodes alone, i.e. whether its traversal
+     * may evaluate a join against sibling branches. Gateways count every branch.
+     */
+    public boolean approvalFeedsJoin(String approvalNodeKey) {
+        return joinFeedingApprovalKeys.contains(approvalNodeKey);
+    }
+
+    /**
+     * JOIN nodes that count an approval at this step toward their readiness.
+     */
+    public List<String> joinsFedBy(String stepKey) {
+        return joinsByPredecessor.getOrDefault(stepKey, List.of());
+    }
+
+    /**
+     * Number of distinct approved predecessor steps this JOIN needs before it fires. Joins that can never fire
+     * (no predecessors, or a quorum below one) report {@link Integer#MAX_VALUE}.
+     */
+    public int requiredJoinApprovals(String joinNodeKey) {
+        WorkflowJoinInput join = node(joinNodeKey).join();
+        if (join == null || join.policy() == null) {
+            throw new IllegalStateException("JOIN node requires a join policy");
+        }
+
+        int predecessors = distinctJoinPredecessors.getOrDefault(joinNodeKey, 0);
+        if (predecessors == 0) {
+            return Integer.MAX_VALUE;
+        }
+
+        return switch (join.policy()) {
+            case ALL -> predecessors;
+            case ANY -> 1;
+            case QUORUM -> join.quorum() == null || join.quorum() < 1 ? Integer.MAX_VALUE : join.quorum();
+        };
+    }
+
     public List<RuntimeEdge> outgoingEdges(String nodeKey) {
-        return List.copyOf(outgoing.getOrDefault(nodeKey, List.of()));
+        return outgoing.getOrDefault(nodeKey, List.of());
     }
 
     public Collection<WorkflowNodeInput> nodes() {
-        return List.copyOf(nodesById.values());
+        return nodesById.values();
+    }
+
+    private Set<String> collectJoinFeedingApprovals() {
+        Set<String> approvalKeys = new HashSet<>();
+        nodesById.forEach((nodeKey, node) -> {
+            if (node.type() != WorkflowNodeType.APPROVAL) {
+                return;
+            }
+
+            ArrayDeque<String> queue = new ArrayDeque<>(successorKeys(nodeKey));
+            Set<String> visited = new HashSet<>();
+            while (!queue.isEmpty()) {
+                String next = queue.removeFirst();
+                WorkflowNodeInput nextNode = nodesById.get(next);
+                if (nextNode == null || nextNode.type() == WorkflowNodeType.APPROVAL || !visited.add(next)) {
+                    continue;
+                }
+                if (nextNode.type() == WorkflowNodeType.JOIN) {
+                    approvalKeys.add(nodeKey);
+                    return;
+                }
+                queue.addAll(successorKeys(next));
+            }
+        });
+        return Set.copyOf(approvalKeys);
+    }
+
+    private static Map<String, List<RuntimeEdge>> copyEdges(Map<String, List<RuntimeEdge>> edgesByNode) {
+        Map<String, List<RuntimeEdge>> copy = new HashMap<>();
+        edgesByNode.forEach((nodeKey, edges) -> copy.put(nodeKey, List.copyOf(edges)));
+        return Map.copyOf(copy);
+    }
+
+    private static Map<String, List<String>> collectKeys(
+        Map<String, List<RuntimeEdge>> edgesByNode,
+        Function<RuntimeEdge, String> keyExtractor
+    ) {
+        Map<String, List<String>> keys = new HashMap<>();
+        edgesByNode.forEach((nodeKey, edges) -> keys.put(nodeKey, edges.stream().map(keyExtractor).toList()));
+        return Map.copyOf(keys);
+    }
+
+    private static Map<String, List<String>> collectLists(Map<String, List<String>> listsByKey) {
+        Map<String, List<String>> copy = new HashMap<>();
+        listsByKey.forEach((key, values) -> copy.put(key, List.copyOf(values)));
+        return Map.copyOf(copy);
     }
 
     private static String normalizeKey(String value) {
@@ -105,12 +247,7 @@ public final class WorkflowRuntimeGraph {
         return value.trim();
     }
 
-    private static Boolean readBranch(Map<String, Object> condition) {
-        if (condition == null || condition.isEmpty()) {
-            return null;
-        }
-
-        Object value = condition.get("branch");
+    private static Boolean readBranch(Object value) {
         if (value == null) {
             return null;
         }
@@ -127,11 +264,22 @@ public final class WorkflowRuntimeGraph {
             if ("false".equals(normalized)) {
                 return false;
             }
+            return null;
         }
 
-        throw new IllegalStateException("Gateway branch condition must be boolean");
+        throw new IllegalStateException("Gateway branch condition must be boolean or a branch label");
+    }
+
+    private static String readLabel(Object value) {
+        if (value instanceof String stringValue && StringUtils.hasText(stringValue) && readBranch(value) == null) {
+            return stringValue.trim();
+        }
+        return null;
     }
 
-    public record RuntimeEdge(String from, String to, Boolean branch) {
+    /**
+     * {@code branch} is set on boolean gateway edges and {@code label} on decision table gateway edges.
+     */
+    public record RuntimeEdge(String from, String to, Boolean branch, String label) {
     }
 }
@@ -0,0 +1,61 @@
+package com.isaac.approvalworkflowengine.workflowruntime.execution;
+
+import com.isaac.approvalworkflowengine.workflowruntime.config.WorkflowRuntimeProperties;
+import com.isaac.approvalworkflowengine.workflowtemplate.WorkflowTemplateRuntimeLookup;
+import com.isaac.approvalworkflowengine.workflowtemplate.WorkflowTemplateRuntimeLookup.WorkflowTemplateRuntimeVersion;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded LRU cache of compiled runtime graphs keyed by workflow version id.
+ * Only ACTIVE/RETIRED versions are cached; DRAFT versions can still be rewritten and are compiled on every lookup.
+ */
+@Component
+public class WorkflowRuntimeGraphCache {
+
+    private final WorkflowTemplateRuntimeLookup workflowTemplateRuntimeLookup;
+    private final Map<UUID, WorkflowRuntimeGraph> graphs;
+
+    public WorkflowRuntimeGraphCache(
+        WorkflowTemplateRuntimeLookup workflowTemplateRuntimeLookup,
+        WorkflowRuntimeProperties properties
+    ) {
+        this.workflowTemplateRuntimeLookup = workflowTemplateRuntimeLookup;
+        int maxEntries = Math.max(properties.getGraphCache().getMaxEntries(), 1);
+        this.graphs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, WorkflowRuntimeGraph> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Optional<WorkflowRuntimeGraph> findGraph(UUID workflowVersionId) {
+        if (workflowVersionId == null) {
+            return Optional.empty();
+        }
+
+        synchronized (graphs) {
+            WorkflowRuntimeGraph cached = graphs.get(workflowVersionId);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        return workflowTemplateRuntimeLookup.findRuntimeWorkflowVersion(workflowVersionId)
+            .map(this::compile);
+    }
+
+    private WorkflowRuntimeGraph compile(WorkflowTemplateRuntimeVersion runtimeVersion) {
+        WorkflowRuntimeGraph graph = WorkflowRuntimeGraph.from(runtimeVersion.graph());
+        if (runtimeVersion.immutable()) {
+            synchronized (graphs) {
+                graphs.putIfAbsent(runtimeVersion.workflowVersionId(), graph);
+            }
+        }
+        return graph;
+    }
+}
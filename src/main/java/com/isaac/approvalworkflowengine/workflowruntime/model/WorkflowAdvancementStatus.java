@@ -0,0 +1,6 @@
+package com.isaac.approvalworkflowengine.workflowruntime.model;
+
+public enum WorkflowAdvancementStatus {
+    PENDING,
+    FAILED
+}
@@ -1,6 +1,8 @@
 package com.isaac.approvalworkflowengine.workflowruntime.repository;
 
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.RuntimeIdempotencyKeyEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,4 +10,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface RuntimeIdempotencyKeyJpaRepository extends JpaRepository<RuntimeIdempotencyKeyEntity, UUID> {
 
     Optional<RuntimeIdempotencyKeyEntity> findByScopeAndKeyValue(String scope, String keyValue);
+
+    List<RuntimeIdempotencyKeyEntity> findByScopeAndKeyValueIn(String scope, Collection<String> keyValues);
 }
@@ -1,6 +1,8 @@
 package com.isaac.approvalworkflowengine.workflowruntime.repository;
 
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.RuntimeRequestEntity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,4 +16,8 @@ public interface RuntimeRequestJpaRepository extends JpaRepository<RuntimeReques
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select r from RuntimeRequestEntity r where r.id = :requestId")
     Optional<RuntimeRequestEntity> findByIdForUpdate(UUID requestId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RuntimeRequestEntity r where r.id in :requestIds order by r.id")
+    List<RuntimeRequestEntity> findAllByIdInForUpdate(Collection<UUID> requestIds);
 }
@@ -2,13 +2,23 @@ package com.isaac.approvalworkflowengine.workflowruntime.repository;
 
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskDecisionEntity;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface TaskDecisionJpaRepository extends JpaRepository<TaskDecisionEntity, UUID> {
 
     Optional<TaskDecisionEntity> findByTaskIdAndIdempotencyKey(UUID taskId, String idempotencyKey);
 
-    void deleteByTaskIdIn(Collection<UUID> taskIds);
+    List<TaskDecisionEntity> findByTaskIdInAndIdempotencyKeyIn(Collection<UUID> taskIds, Collection<String> idempotencyKeys);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        delete from TaskDecisionEntity d
+        where d.taskId in (select t.id from TaskEntity t where t.workflowInstanceId = :workflowInstanceId)
+        """)
+    int deleteAllByWorkflowInstanceId(UUID workflowInstanceId);
 }
@@ -0,0 +1,15 @@
+package com.isaac.approvalworkflowengine.workflowruntime.repository;
+
+import java.util.UUID;
+
+/**
+ * Row ids a task decision has to lock, read without taking any lock so the locks can be acquired in hierarchy order.
+ */
+public record TaskDecisionRoute(
+    UUID taskId,
+    UUID requestId,
+    UUID workflowInstanceId,
+    UUID workflowVersionId,
+    String stepKey
+) {
+}
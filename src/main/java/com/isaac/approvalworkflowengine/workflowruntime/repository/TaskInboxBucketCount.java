@@ -0,0 +1,13 @@
+package com.isaac.approvalworkflowengine.workflowruntime.repository;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import java.time.Instant;
+
+public record TaskInboxBucketCount(
+    String principalType,
+    String principalId,
+    TaskStatus status,
+    Instant dueAt,
+    long taskCount
+) {
+}
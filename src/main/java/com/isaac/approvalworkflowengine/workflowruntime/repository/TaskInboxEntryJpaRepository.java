@@ -0,0 +1,56 @@
+package com.isaac.approvalworkflowengine.workflowruntime.repository;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskInboxEntryEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TaskInboxEntryJpaRepository
+    extends JpaRepository<TaskInboxEntryEntity, UUID>, JpaSpecificationExecutor<TaskInboxEntryEntity> {
+
+    List<TaskInboxEntryEntity> findByTaskIdIn(Collection<UUID> taskIds);
+
+    @Query("""
+        select new com.isaac.approvalworkflowengine.workflowruntime.repository.TaskInboxBucketCount(
+            e.principalType, e.principalId, e.status, e.dueAt, count(e))
+        from TaskInboxEntryEntity e
+        where e.workflowInstanceId = :workflowInstanceId and e.status in :statuses
+        group by e.principalType, e.principalId, e.status, e.dueAt
+        """)
+    List<TaskInboxBucketCount> countBucketsByWorkflowInstanceIdAndStatusIn(
+        UUID workflowInstanceId,
+        Collection<TaskStatus> statuses
+    );
+
+    @Query("""
+        select new com.isaac.approvalworkflowengine.workflowruntime.repository.TaskInboxBucketCount(
+            e.principalType, e.principalId, e.status, e.dueAt, count(e))
+        from TaskInboxEntryEntity e
+        where e.status in :statuses
+        group by e.principalType, e.principalId, e.status, e.dueAt
+        """)
+    List<TaskInboxBucketCount> countBucketsByStatusIn(Collection<TaskStatus> statuses);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TaskInboxEntryEntity e
+        set e.status = :targetStatus, e.updatedAt = :updatedAt
+        where e.workflowInstanceId = :workflowInstanceId and e.status in :statuses
+        """)
+    int updateStatusByWorkflowInstanceIdAndStatusIn(
+        UUID workflowInstanceId,
+        Collection<TaskStatus> statuses,
+        TaskStatus targetStatus,
+        Instant updatedAt
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from TaskInboxEntryEntity e where e.workflowInstanceId = :workflowInstanceId")
+    int deleteAllByWorkflowInstanceId(UUID workflowInstanceId);
+}
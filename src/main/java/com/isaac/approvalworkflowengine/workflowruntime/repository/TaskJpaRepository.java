@@ -2,6 +2,7 @@ package com.isaac.approvalworkflowengine.workflowruntime.repository;
 
 import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskEntity;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -9,6 +10,7 @@ import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import jakarta.persistence.LockModeType;
@@ -19,15 +21,34 @@ public interface TaskJpaRepository extends JpaRepository<TaskEntity, UUID>, JpaS
     @Query("select t from TaskEntity t where t.id = :taskId")
     Optional<TaskEntity> findByIdForUpdate(UUID taskId);
 
-    List<TaskEntity> findByWorkflowInstanceIdAndStatusIn(UUID workflowInstanceId, Collection<TaskStatus> statuses);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TaskEntity t where t.id in :taskIds order by t.id")
+    List<TaskEntity> findAllByIdInForUpdate(Collection<UUID> taskIds);
 
-    List<TaskEntity> findByWorkflowInstanceIdAndStepKeyInAndStatusIn(
-        UUID workflowInstanceId,
-        Collection<String> stepKeys,
-        Collection<TaskStatus> statuses
-    );
+    @Query("""
+        select new com.isaac.approvalworkflowengine.workflowruntime.repository.TaskDecisionRoute(
+            t.id, t.requestId, t.workflowInstanceId, wi.workflowVersionId, t.stepKey)
+        from TaskEntity t join WorkflowInstanceEntity wi on wi.id = t.workflowInstanceId
+        where t.id in :taskIds
+        """)
+    List<TaskDecisionRoute> findDecisionRoutes(Collection<UUID> taskIds);
 
     List<TaskEntity> findByWorkflowInstanceId(UUID workflowInstanceId);
 
-    void deleteByWorkflowInstanceId(UUID workflowInstanceId);
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update TaskEntity t
+        set t.status = :targetStatus, t.version = t.version + 1, t.updatedAt = :updatedAt
+        where t.workflowInstanceId = :workflowInstanceId and t.status in :statuses
+        """)
+    int updateStatusByWorkflowInstanceIdAndStatusIn(
+        UUID workflowInstanceId,
+        Collection<TaskStatus> statuses,
+        TaskStatus targetStatus,
+        Instant updatedAt
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from TaskEntity t where t.workflowInstanceId = :workflowInstanceId")
+    int deleteAllByWorkflowInstanceId(UUID workflowInstanceId);
 }
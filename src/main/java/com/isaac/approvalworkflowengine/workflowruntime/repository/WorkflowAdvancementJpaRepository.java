@@ -0,0 +1,29 @@
+package com.isaac.approvalworkflowengine.workflowruntime.repository;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowAdvancementStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.WorkflowAdvancementEntity;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface WorkflowAdvancementJpaRepository extends JpaRepository<WorkflowAdvancementEntity, UUID> {
+
+    @Query("""
+        select a from WorkflowAdvancementEntity a
+        where a.status = :status and a.nextAttemptAt <= :now
+        order by a.createdAt asc, a.id asc
+        """)
+    List<WorkflowAdvancementEntity> findDue(WorkflowAdvancementStatus status, Instant now, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from WorkflowAdvancementEntity a where a.id = :id")
+    int deleteByIdReturningCount(UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from WorkflowAdvancementEntity a where a.workflowInstanceId = :workflowInstanceId")
+    int deleteAllByWorkflowInstanceId(UUID workflowInstanceId);
+}
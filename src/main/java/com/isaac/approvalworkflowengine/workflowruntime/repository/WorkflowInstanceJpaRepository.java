@@ -1,10 +1,16 @@
 package com.isaac.approvalworkflowengine.workflowruntime.repository;
 
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.WorkflowInstanceEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import jakarta.persistence.LockModeType;
@@ -20,4 +26,61 @@ public interface WorkflowInstanceJpaRepository extends JpaRepository<WorkflowIns
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select wi from WorkflowInstanceEntity wi where wi.id = :workflowInstanceId")
     Optional<WorkflowInstanceEntity> findByIdForUpdate(UUID workflowInstanceId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select wi from WorkflowInstanceEntity wi where wi.id in :workflowInstanceIds order by wi.id")
+    List<WorkflowInstanceEntity> findAllByIdInForUpdate(Collection<UUID> workflowInstanceIds);
+
+    @Query("select wi from WorkflowInstanceEntity wi where array_contains(wi.currentStepKeys, :stepKey)")
+    Page<WorkflowInstanceEntity> findAllAtStep(String stepKey, Pageable pageable);
+
+    @Query("""
+        select wi from WorkflowInstanceEntity wi
+        where array_contains(wi.currentStepKeys, :stepKey)
+          and wi.workflowVersionId = :workflowVersionId
+        """)
+    Page<WorkflowInstanceEntity> findAllAtStepInVersion(String stepKey, UUID workflowVersionId, Pageable pageable);
+
+    // The step-key updates below neither flush pending task writes nor bump the version: the optimistic decision
+    // path runs them first so the instance row lock precedes its task row locks. Bulk updates skip @PreUpdate, so
+    // each one sets updated_at itself.
+    @Modifying
+    @Query("""
+        update WorkflowInstanceEntity wi
+        set wi.currentStepKeys = array_remove(wi.currentStepKeys, :stepKey), wi.updatedAt = :updatedAt
+        where wi.id = :workflowInstanceId
+          and wi.status = com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowInstanceStatus.ACTIVE
+          and array_contains(wi.currentStepKeys, :stepKey)
+        """)
+    int removeCurrentStepKey(UUID workflowInstanceId, String stepKey, Instant updatedAt);
+
+    @Modifying
+    @Query("""
+        update WorkflowInstanceEntity wi
+        set wi.currentStepKeys = array_append(wi.currentStepKeys, :stepKey), wi.updatedAt = :updatedAt
+        where wi.id = :workflowInstanceId
+          and wi.status = com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowInstanceStatus.ACTIVE
+          and not array_contains(wi.currentStepKeys, :stepKey)
+        """)
+    int addCurrentStepKey(UUID workflowInstanceId, String stepKey, Instant updatedAt);
+
+    @Modifying
+    @Query("""
+        update WorkflowInstanceEntity wi
+        set wi.firedJoinKeys = array_remove(wi.firedJoinKeys, :joinNodeKey), wi.updatedAt = :updatedAt
+        where wi.id = :workflowInstanceId
+          and array_contains(wi.firedJoinKeys, :joinNodeKey)
+        """)
+    int removeFiredJoinKey(UUID workflowInstanceId, String joinNodeKey, Instant updatedAt);
+
+    @Modifying
+    @Query("""
+        update WorkflowInstanceEntity wi
+        set wi.status = com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowInstanceStatus.COMPLETED,
+            wi.updatedAt = :updatedAt
+        where wi.id = :workflowInstanceId
+          and wi.status = com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowInstanceStatus.ACTIVE
+          and array_length(wi.currentStepKeys) = 0
+        """)
+    int completeIfNoCurrentSteps(UUID workflowInstanceId, Instant updatedAt);
 }
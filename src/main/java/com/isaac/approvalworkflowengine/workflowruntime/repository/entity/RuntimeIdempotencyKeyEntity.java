@@ -50,6 +50,10 @@ public class RuntimeIdempotencyKeyEntity {
         this.createdAt = createdAt;
     }
 
+    public String getKeyValue() {
+        return keyValue;
+    }
+
     public String getRequestHash() {
         return requestHash;
     }
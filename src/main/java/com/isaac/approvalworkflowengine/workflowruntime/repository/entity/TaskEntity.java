@@ -6,16 +6,24 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.Version;
 import java.time.Instant;
 import java.util.UUID;
+import org.springframework.data.domain.Persistable;
 
+/**
+ * Ids are assigned by the application, so newness is tracked explicitly: fresh tasks go through
+ * {@code persist} (and JDBC insert batching) instead of a {@code merge} that selects each row first.
+ */
 @Entity
 @Table(name = "tasks")
-public class TaskEntity {
+public class TaskEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -64,6 +72,9 @@ public class TaskEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Transient
+    private boolean newEntity = true;
+
     @PrePersist
     void onCreate() {
         Instant now = Instant.now();
@@ -76,6 +87,18 @@ public class TaskEntity {
         this.updatedAt = Instant.now();
     }
 
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @Override
     public UUID getId() {
         return id;
     }
@@ -0,0 +1,138 @@
+package com.isaac.approvalworkflowengine.workflowruntime.repository.entity;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowAdvancementStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Queued downstream traversal for one approved task. The row is deleted in the transaction that performs the
+ * advancement, so a committed advancement can never run again.
+ */
+@Entity
+@Table(name = "workflow_advancements")
+public class WorkflowAdvancementEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "workflow_instance_id", nullable = false)
+    private UUID workflowInstanceId;
+
+    @Column(name = "request_id", nullable = false)
+    private UUID requestId;
+
+    @Column(name = "from_step_key", nullable = false, length = 80)
+    private String fromStepKey;
+
+    @Column(name = "actor_subject", nullable = false, length = 128)
+    private String actorSubject;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WorkflowAdvancementStatus status;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Lob
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    void onCreate() {
+        this.createdAt = Instant.now();
+        if (this.nextAttemptAt == null) {
+            this.nextAttemptAt = this.createdAt;
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getWorkflowInstanceId() {
+        return workflowInstanceId;
+    }
+
+    public void setWorkflowInstanceId(UUID workflowInstanceId) {
+        this.workflowInstanceId = workflowInstanceId;
+    }
+
+    public UUID getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(UUID requestId) {
+        this.requestId = requestId;
+    }
+
+    public String getFromStepKey() {
+        return fromStepKey;
+    }
+
+    public void setFromStepKey(String fromStepKey) {
+        this.fromStepKey = fromStepKey;
+    }
+
+    public String getActorSubject() {
+        return actorSubject;
+    }
+
+    public void setActorSubject(String actorSubject) {
+        this.actorSubject = actorSubject;
+    }
+
+    public WorkflowAdvancementStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(WorkflowAdvancementStatus status) {
+        this.status = status;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(int attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
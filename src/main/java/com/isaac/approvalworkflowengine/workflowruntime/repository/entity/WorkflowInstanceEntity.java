@@ -6,13 +6,15 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Table(name = "workflow_instances")
@@ -31,9 +33,13 @@ public class WorkflowInstanceEntity {
     @Column(name = "status", nullable = false, length = 30)
     private WorkflowInstanceStatus status;
 
-    @Lob
-    @Column(name = "current_step_keys")
-    private String currentStepKeys;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "current_step_keys", nullable = false)
+    private List<String> currentStepKeys = List.of();
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "fired_join_keys", nullable = false)
+    private List<String> firedJoinKeys = List.of();
 
     @Version
     @Column(name = "version", nullable = false)
@@ -89,12 +95,20 @@ public class WorkflowInstanceEntity {
         this.status = status;
     }
 
-    public String getCurrentStepKeys() {
+    public List<String> getCurrentStepKeys() {
         return currentStepKeys;
     }
 
-    public void setCurrentStepKeys(String currentStepKeys) {
-        this.currentStepKeys = currentStepKeys;
+    public void setCurrentStepKeys(List<String> currentStepKeys) {
+        this.currentStepKeys = List.copyOf(currentStepKeys);
+    }
+
+    public List<String> getFiredJoinKeys() {
+        return firedJoinKeys;
+    }
+
+    public void setFiredJoinKeys(List<String> firedJoinKeys) {
+        this.firedJoinKeys = List.copyOf(firedJoinKeys);
     }
 
     public long getVersion() {
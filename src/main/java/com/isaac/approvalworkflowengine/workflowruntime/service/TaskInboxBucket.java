@@ -0,0 +1,10 @@
+package com.isaac.approvalworkflowengine.workflowruntime.service;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import java.time.Instant;
+
+/**
+ * Inbox entries sharing a principal, status and due time; the unit the projector counts and the counter cache keeps.
+ */
+record TaskInboxBucket(String principalType, String principalId, TaskStatus status, Instant dueAt) {
+}
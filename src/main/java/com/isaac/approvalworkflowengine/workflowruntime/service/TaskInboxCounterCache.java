@@ -0,0 +1,143 @@
+package com.isaac.approvalworkflowengine.workflowruntime.service;
+
+import com.isaac.approvalworkflowengine.workflowruntime.api.TaskBucketCounts;
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.TaskInboxBucketCount;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.TaskInboxEntryJpaRepository;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory pending/claimed/overdue counts per inbox principal, fed by committed projector deltas and rebuilt
+ * from {@code task_inbox_entries} once at startup and then on a fixed delay. The rebuild also absorbs writes made
+ * by other nodes, so a node's counts lag the database by at most one reconcile interval.
+ */
+@Component
+class TaskInboxCounterCache implements SmartInitializingSingleton {
+
+    private static final Set<TaskStatus> COUNTED_STATUSES = EnumSet.of(TaskStatus.PENDING, TaskStatus.CLAIMED);
+
+    private final TaskInboxEntryJpaRepository taskInboxEntryJpaRepository;
+
+    private Map<Principal, PrincipalCounts> counts = new HashMap<>();
+
+    TaskInboxCounterCache(TaskInboxEntryJpaRepository taskInboxEntryJpaRepository) {
+        this.taskInboxEntryJpaRepository = taskInboxEntryJpaRepository;
+    }
+
+    /**
+     * Loads the counts before the web server starts taking requests, so {@link #counts} never queries the database.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    void applyAfterCommit(Map<TaskInboxBucket, Long> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(deltas);
+            }
+        });
+    }
+
+    TaskBucketCounts counts(String principalType, Collection<String> principalIds, Instant now) {
+        long pending = 0;
+        long claimed = 0;
+        long overdue = 0;
+        synchronized (this) {
+            for (String principalId : principalIds) {
+                PrincipalCounts principalCounts = counts.get(new Principal(principalType, principalId));
+                if (principalCounts == null) {
+                    continue;
+                }
+                pending += principalCounts.pending;
+                claimed += principalCounts.claimed;
+                for (long dueCount : principalCounts.activeByDueAt.headMap(now, false).values()) {
+                    overdue += dueCount;
+                }
+            }
+        }
+        return new TaskBucketCounts(pending, claimed, overdue);
+    }
+
+    /**
+     * Rebuilds the counts from the database and swaps them in. Deltas are not replayed onto the fresh counts:
+     * a delta committed while the query runs may or may not already be in its snapshot, so replaying could count
+     * it twice. Either way the error is bounded by what commits during one query and is corrected by the next run.
+     */
+    @Scheduled(
+        initialDelayString = "${app.runtime.inbox-counters.reconcile-interval:PT5M}",
+        fixedDelayString = "${app.runtime.inbox-counters.reconcile-interval:PT5M}"
+    )
+    void reconcile() {
+        Map<Principal, PrincipalCounts> rebuilt = new HashMap<>();
+        for (TaskInboxBucketCount bucket : taskInboxEntryJpaRepository.countBucketsByStatusIn(COUNTED_STATUSES)) {
+            add(
+                rebuilt,
+                new TaskInboxBucket(bucket.principalType(), bucket.principalId(), bucket.status(), bucket.dueAt()),
+                bucket.taskCount()
+            );
+        }
+
+        synchronized (this) {
+            counts = rebuilt;
+        }
+    }
+
+    private synchronized void apply(Map<TaskInboxBucket, Long> deltas) {
+        deltas.forEach((bucket, delta) -> add(counts, bucket, delta));
+    }
+
+    private static void add(Map<Principal, PrincipalCounts> target, TaskInboxBucket bucket, long delta) {
+        if (delta == 0 || !COUNTED_STATUSES.contains(bucket.status())) {
+            return;
+        }
+
+        Principal principal = new Principal(bucket.principalType(), bucket.principalId());
+        PrincipalCounts principalCounts = target.computeIfAbsent(principal, ignored -> new PrincipalCounts());
+        if (bucket.status() == TaskStatus.PENDING) {
+            principalCounts.pending += delta;
+        } else {
+            principalCounts.claimed += delta;
+        }
+        if (bucket.dueAt() != null) {
+            // Returning null from the remapping drops due times that no longer have active entries.
+            principalCounts.activeByDueAt.merge(
+                bucket.dueAt(),
+                delta,
+                (current, change) -> current + change == 0 ? null : current + change
+            );
+        }
+        if (principalCounts.pending == 0 && principalCounts.claimed == 0 && principalCounts.activeByDueAt.isEmpty()) {
+            target.remove(principal);
+        }
+    }
+
+    private record Principal(String principalType, String principalId) {
+    }
+
+    private static final class PrincipalCounts {
+
+        private long pending;
+        private long claimed;
+        private final NavigableMap<Instant, Long> activeByDueAt = new TreeMap<>();
+    }
+}
@@ -0,0 +1,145 @@
+package com.isaac.approvalworkflowengine.workflowruntime.service;
+
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.TaskInboxBucketCount;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.TaskInboxEntryJpaRepository;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskEntity;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskInboxEntryEntity;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the inbox read model in step with task writes, inside the caller's transaction.
+ * A task is visible to its assignee user, to its claimant, and to its role while nobody has claimed it;
+ * each visibility becomes one entry row. Only rows owned by the written tasks change, so concurrent decisions
+ * never contend on shared rows. Committed deltas are handed to the {@link TaskInboxCounterCache} that serves
+ * inbox badges.
+ */
+@Component
+class TaskInboxProjector {
+
+    static final String PRINCIPAL_USER = "USER";
+    static final String PRINCIPAL_ROLE = "ROLE";
+
+    private final TaskInboxEntryJpaRepository taskInboxEntryJpaRepository;
+    private final TaskInboxCounterCache taskInboxCounterCache;
+
+    TaskInboxProjector(
+        TaskInboxEntryJpaRepository taskInboxEntryJpaRepository,
+        TaskInboxCounterCache taskInboxCounterCache
+    ) {
+        this.taskInboxEntryJpaRepository = taskInboxEntryJpaRepository;
+        this.taskInboxCounterCache = taskInboxCounterCache;
+    }
+
+    void refresh(Collection<TaskEntity> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Map<TaskInboxBucket, Long> deltas = new LinkedHashMap<>();
+        List<TaskInboxEntryEntity> existing = taskInboxEntryJpaRepository.findByTaskIdIn(
+            tasks.stream().map(TaskEntity::getId).toList()
+        );
+        for (TaskInboxEntryEntity entry : existing) {
+            deltas.merge(
+                new TaskInboxBucket(entry.getPrincipalType(), entry.getPrincipalId(), entry.getStatus(), entry.getDueAt()),
+                -1L,
+                Long::sum
+            );
+        }
+        if (!existing.isEmpty()) {
+            taskInboxEntryJpaRepository.deleteAllByIdInBatch(existing.stream().map(TaskInboxEntryEntity::getId).toList());
+        }
+
+        List<TaskInboxEntryEntity> entries = new ArrayList<>();
+        for (TaskEntity task : tasks) {
+            for (TaskInboxBucket principal : principals(task)) {
+                entries.add(entry(task, principal));
+                deltas.merge(principal, 1L, Long::sum);
+            }
+        }
+        taskInboxEntryJpaRepository.saveAll(entries);
+
+        taskInboxCounterCache.applyAfterCommit(deltas);
+    }
+
+    void transitionInstance(UUID workflowInstanceId, Set<TaskStatus> fromStatuses, TaskStatus targetStatus, Instant updatedAt) {
+        Map<TaskInboxBucket, Long> deltas = new LinkedHashMap<>();
+        for (TaskInboxBucketCount bucket : taskInboxEntryJpaRepository.countBucketsByWorkflowInstanceIdAndStatusIn(
+            workflowInstanceId,
+            fromStatuses
+        )) {
+            deltas.merge(bucket(bucket, bucket.status()), -bucket.taskCount(), Long::sum);
+            deltas.merge(bucket(bucket, targetStatus), bucket.taskCount(), Long::sum);
+        }
+
+        taskInboxEntryJpaRepository.updateStatusByWorkflowInstanceIdAndStatusIn(
+            workflowInstanceId,
+            fromStatuses,
+            targetStatus,
+            updatedAt
+        );
+        taskInboxCounterCache.applyAfterCommit(deltas);
+    }
+
+    void removeInstance(UUID workflowInstanceId) {
+        Map<TaskInboxBucket, Long> deltas = new LinkedHashMap<>();
+        for (TaskInboxBucketCount bucket : taskInboxEntryJpaRepository.countBucketsByWorkflowInstanceIdAndStatusIn(
+            workflowInstanceId,
+            EnumSet.allOf(TaskStatus.class)
+        )) {
+            deltas.merge(bucket(bucket, bucket.status()), -bucket.taskCount(), Long::sum);
+        }
+
+        taskInboxEntryJpaRepository.deleteAllByWorkflowInstanceId(workflowInstanceId);
+        taskInboxCounterCache.applyAfterCommit(deltas);
+    }
+
+    private List<TaskInboxBucket> principals(TaskEntity task) {
+        List<TaskInboxBucket> principals = new ArrayList<>(2);
+        if (task.getAssigneeUserId() != null) {
+            principals.add(new TaskInboxBucket(PRINCIPAL_USER, task.getAssigneeUserId().toString(), task.getStatus(), task.getDueAt()));
+        }
+        if (task.getClaimedByUserId() != null && !Objects.equals(task.getClaimedByUserId(), task.getAssigneeUserId())) {
+            principals.add(new TaskInboxBucket(PRINCIPAL_USER, task.getClaimedByUserId().toString(), task.getStatus(), task.getDueAt()));
+        }
+        if (task.getAssigneeUserId() == null && task.getClaimedByUserId() == null && task.getAssigneeRole() != null) {
+            principals.add(new TaskInboxBucket(PRINCIPAL_ROLE, task.getAssigneeRole(), task.getStatus(), task.getDueAt()));
+        }
+        return principals;
+    }
+
+    private TaskInboxBucket bucket(TaskInboxBucketCount count, TaskStatus status) {
+        return new TaskInboxBucket(count.principalType(), count.principalId(), status, count.dueAt());
+    }
+
+    private TaskInboxEntryEntity entry(TaskEntity task, TaskInboxBucket principal) {
+        TaskInboxEntryEntity entry = new TaskInboxEntryEntity();
+        entry.setId(UUID.randomUUID());
+        entry.setTaskId(task.getId());
+        entry.setPrincipalType(principal.principalType());
+        entry.setPrincipalId(principal.principalId());
+        entry.setRequestId(task.getRequestId());
+        entry.setWorkflowInstanceId(task.getWorkflowInstanceId());
+        entry.setStepKey(task.getStepKey());
+        entry.setAssigneeUserId(task.getAssigneeUserId());
+        entry.setAssigneeRole(task.getAssigneeRole());
+        entry.setStatus(task.getStatus());
+        entry.setDueAt(task.getDueAt());
+        entry.setClaimedAt(task.getClaimedAt());
+        entry.setClaimedByUserId(task.getClaimedByUserId());
+        entry.setCreatedAt(task.getCreatedAt());
+        entry.setUpdatedAt(task.getUpdatedAt());
+        return entry;
+    }
+}
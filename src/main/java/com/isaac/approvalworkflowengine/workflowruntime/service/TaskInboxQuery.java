@@ -0,0 +1,418 @@
+package com.isaac.approvalworkflowengine.workflowruntime.service;
+
+import com.isaac.approvalworkflowengine.shared.api.ApiErrorDetail;
+import com.isaac.approvalworkflowengine.shared.error.BadRequestException;
+import com.isaac.approvalworkflowengine.workflowruntime.api.PagedTaskResource;
+import com.isaac.approvalworkflowengine.workflowruntime.api.TaskAssignedToFilter;
+import com.isaac.approvalworkflowengine.workflowruntime.api.TaskBucketCounts;
+import com.isaac.approvalworkflowengine.workflowruntime.api.TaskCountsResource;
+import com.isaac.approvalworkflowengine.workflowruntime.api.TaskPageMetadata;
+import com.isaac.approvalworkflowengine.workflowruntime.api.TaskResource;
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.TaskInboxEntryJpaRepository;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskInboxEntryEntity;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Task inbox listing over the {@code task_inbox_entries} read model. Visibility is split into disjoint
+ * principal branches (my user entries, my roles' entries), each a range scan on the
+ * {@code (principal_type, principal_id, status)} prefix of the {@code idx_task_inbox_principal_status_*} indexes;
+ * the created/updated variants end in {@code (sort column, task_id)} so keyset seeks stay on the index.
+ * Offset pages read the branches as one {@code UNION ALL} so the database sorts and skips rows; cursor pages
+ * read each branch past the cursor and merge them by sort key. Totals are counted per branch over the same
+ * index range.
+ */
+@Component
+class TaskInboxQuery {
+
+    private static final Map<String, String> SORT_FIELD_MAPPING = Map.of(
+        "createdAt", "createdAt",
+        "updatedAt", "updatedAt",
+        "dueAt", "dueAt",
+        "status", "status",
+        "stepKey", "stepKey"
+    );
+    private static final Set<String> CURSOR_SORT_FIELDS = Set.of("createdAt", "updatedAt");
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "createdAt", "created_at",
+        "updatedAt", "updated_at",
+        "dueAt", "due_at",
+        "status", "status",
+        "stepKey", "step_key"
+    );
+
+    private final TaskInboxEntryJpaRepository taskInboxEntryJpaRepository;
+    private final TaskInboxCounterCache taskInboxCounterCache;
+    private final EntityManager entityManager;
+
+    TaskInboxQuery(
+        TaskInboxEntryJpaRepository taskInboxEntryJpaRepository,
+        TaskInboxCounterCache taskInboxCounterCache,
+        EntityManager entityManager
+    ) {
+        this.taskInboxEntryJpaRepository = taskInboxEntryJpaRepository;
+        this.taskInboxCounterCache = taskInboxCounterCache;
+        this.entityManager = entityManager;
+    }
+
+    PagedTaskResource list(
+        TaskActor actor,
+        TaskAssignedToFilter assignedTo,
+        TaskStatus status,
+        int page,
+        int size,
+        String sort,
+        String after
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), 200);
+        Sort.Order order = parseSort(sort);
+
+        List<InboxBranch> branches = assignmentBranches(actor, assignedTo);
+        if (after != null) {
+            return listAfterCursor(
+                branches.stream().map(branch -> branch.specification(status)).toList(),
+                order,
+                pageSize,
+                after
+            );
+        }
+
+        long totalElements = 0;
+        for (InboxBranch branch : branches) {
+            totalElements += taskInboxEntryJpaRepository.count(branch.specification(status));
+        }
+
+        long offset = (long) Math.max(page, 0) * pageSize;
+        List<TaskInboxEntryEntity> pageRows = offset < totalElements
+            ? readPage(branches, status, order, offset, pageSize)
+            : List.of();
+
+        boolean hasNext = offset + pageSize < totalElements;
+        String nextCursor = hasNext && !pageRows.isEmpty() && CURSOR_SORT_FIELDS.contains(order.getProperty())
+            ? cursorFor(pageRows.getLast(), order.getProperty())
+            : null;
+
+        return new PagedTaskResource(
+            pageRows.stream().map(this::toTaskResource).toList(),
+            new TaskPageMetadata(
+                Math.max(page, 0),
+                pageSize,
+                totalElements,
+                (int) ((totalElements + pageSize - 1) / pageSize),
+                nextCursor
+            )
+        );
+    }
+
+    /**
+     * Badge counts served from the in-memory counter cache, which is loaded at startup; no query runs here.
+     */
+    TaskCountsResource counts(TaskActor actor) {
+        Instant now = Instant.now();
+        TaskBucketCounts me = taskInboxCounterCache.counts(
+            TaskInboxProjector.PRINCIPAL_USER,
+            List.of(actor.userId().toString()),
+            now
+        );
+        TaskBucketCounts role = taskInboxCounterCache.counts(TaskInboxProjector.PRINCIPAL_ROLE, actor.roles(), now);
+
+        return new TaskCountsResource(
+            me,
+            role,
+            new TaskBucketCounts(
+                me.pending() + role.pending(),
+                me.claimed() + role.claimed(),
+                me.overdue() + role.overdue()
+            )
+        );
+    }
+
+    /**
+     * Keyset page: seeks past the cursor's (sort value, id) instead of counting and skipping rows,
+     * and fetches one extra row to decide whether another page exists.
+     */
+    private PagedTaskResource listAfterCursor(
+        List<Specification<TaskInboxEntryEntity>> branches,
+        Sort.Order order,
+        int size,
+        String after
+    ) {
+        String sortField = order.getProperty();
+        if (!CURSOR_SORT_FIELDS.contains(sortField)) {
+            throw new BadRequestException(
+                "Cursor pagination supports sorting by createdAt or updatedAt",
+                List.of(new ApiErrorDetail("sort", "must be createdAt or updatedAt when after is provided"))
+            );
+        }
+
+        List<Specification<TaskInboxEntryEntity>> seekBranches = branches;
+        if (StringUtils.hasText(after)) {
+            Specification<TaskInboxEntryEntity> seek = seekAfter(
+                TaskPageCursor.decode(after.trim(), sortField),
+                order.isAscending()
+            );
+            seekBranches = branches.stream().map(branch -> branch.and(seek)).toList();
+        }
+
+        List<TaskInboxEntryEntity> rows = mergeBranches(seekBranches, order, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<TaskInboxEntryEntity> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        return new PagedTaskResource(
+            pageRows.stream().map(this::toTaskResource).toList(),
+            new TaskPageMetadata(
+                null,
+                size,
+                null,
+                null,
+                hasNext ? cursorFor(pageRows.getLast(), sortField) : null
+            )
+        );
+    }
+
+    /**
+     * Disjoint branches, so merged results never need de-duplication: an entry exists for the user principal
+     * (assignee or claimant) or for the role principal (unclaimed role task), never both.
+     */
+    private List<InboxBranch> assignmentBranches(TaskActor actor, TaskAssignedToFilter assignedTo) {
+        List<String> me = List.of(actor.userId().toString());
+        List<String> roles = List.copyOf(actor.roles());
+
+        List<InboxBranch> branches = new ArrayList<>();
+        if (assignedTo != TaskAssignedToFilter.role) {
+            branches.add(new InboxBranch(TaskInboxProjector.PRINCIPAL_USER, me, null, List.of()));
+        }
+        if (assignedTo != TaskAssignedToFilter.me && !roles.isEmpty()) {
+            branches.add(new InboxBranch(TaskInboxProjector.PRINCIPAL_ROLE, roles, null, List.of()));
+        }
+        if (assignedTo == TaskAssignedToFilter.role && !roles.isEmpty()) {
+            branches.add(new InboxBranch(TaskInboxProjector.PRINCIPAL_USER, me, actor.userId(), roles));
+        }
+        return branches;
+    }
+
+    /**
+     * Offset page in one statement: the branches are combined with {@code UNION ALL} and the database applies
+     * the order, offset and limit, so deep pages never ship the skipped rows. The sort column comes from the
+     * {@link #SORT_COLUMNS} whitelist; every value is bound as a parameter.
+     */
+    @SuppressWarnings("unchecked")
+    private List<TaskInboxEntryEntity> readPage(
+        List<InboxBranch> branches,
+        TaskStatus status,
+        Sort.Order order,
+        long offset,
+        int limit
+    ) {
+        String direction = order.isAscending() ? "asc" : "desc";
+        StringBuilder union = new StringBuilder();
+        for (int index = 0; index < branches.size(); index++) {
+            if (index > 0) {
+                union.append(" union all ");
+            }
+            union.append(branches.get(index).sql(index, status != null));
+        }
+
+        String sql = (branches.size() == 1 ? union : "select * from (" + union + ") e")
+            + " order by e." + SORT_COLUMNS.get(order.getProperty()) + " " + direction
+            + ", e.task_id " + direction
+            + " limit :limit offset :offset";
+
+        Query query = entityManager.createNativeQuery(sql, TaskInboxEntryEntity.class)
+            .setParameter("limit", limit)
+            .setParameter("offset", offset);
+        for (int index = 0; index < branches.size(); index++) {
+            branches.get(index).bind(query, index);
+        }
+        if (status != null) {
+            query.setParameter("status", status.name());
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * Reads the first {@code limit} rows of every branch in sort order and merges them head-by-head. Only the
+     * branch heads are compared, so the merged prefix is stable across pages even where the database collation
+     * and the Java comparator disagree.
+     */
+    private List<TaskInboxEntryEntity> mergeBranches(
+        List<Specification<TaskInboxEntryEntity>> branches,
+        Sort.Order order,
+        int limit
+    ) {
+        Sort branchSort = Sort.by(order, new Sort.Order(order.getDirection(), "taskId"));
+        List<List<TaskInboxEntryEntity>> branchRows = new ArrayList<>(branches.size());
+        for (Specification<TaskInboxEntryEntity> branch : branches) {
+            branchRows.add(taskInboxEntryJpaRepository.findBy(
+                branch,
+                query -> query.sortBy(branchSort).limit(limit).all()
+            ));
+        }
+
+        if (branchRows.size() == 1) {
+            return branchRows.getFirst();
+        }
+
+        Comparator<TaskInboxEntryEntity> comparator = comparator(order);
+        int[] positions = new int[branchRows.size()];
+        List<TaskInboxEntryEntity> merged = new ArrayList<>(limit);
+
+        while (merged.size() < limit) {
+            int next = -1;
+            for (int branch = 0; branch < branchRows.size(); branch++) {
+                if (positions[branch] >= branchRows.get(branch).size()) {
+                    continue;
+                }
+                if (next < 0 || comparator.compare(
+                    branchRows.get(branch).get(positions[branch]),
+                    branchRows.get(next).get(positions[next])
+                ) < 0) {
+                    next = branch;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            merged.add(branchRows.get(next).get(positions[next]++));
+        }
+
+        return merged;
+    }
+
+    private Comparator<TaskInboxEntryEntity> comparator(Sort.Order order) {
+        Comparator<TaskInboxEntryEntity> byField = switch (order.getProperty()) {
+            case "updatedAt" -> Comparator.comparing(TaskInboxEntryEntity::getUpdatedAt);
+            case "dueAt" -> Comparator.comparing(TaskInboxEntryEntity::getDueAt, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "status" -> Comparator.comparing(task -> task.getStatus().name());
+            case "stepKey" -> Comparator.comparing(TaskInboxEntryEntity::getStepKey);
+            default -> Comparator.comparing(TaskInboxEntryEntity::getCreatedAt);
+        };
+        // UUID text order matches the unsigned byte order both H2 and PostgreSQL use for uuid columns.
+        Comparator<TaskInboxEntryEntity> withId = byField.thenComparing(task -> task.getTaskId().toString());
+        return order.isAscending() ? withId : withId.reversed();
+    }
+
+    private Specification<TaskInboxEntryEntity> seekAfter(TaskPageCursor cursor, boolean ascending) {
+        return (root, query, builder) -> {
+            Path<Instant> sortPath = root.get(cursor.sortField());
+            Path<UUID> idPath = root.get("taskId");
+
+            if (ascending) {
+                return builder.or(
+                    builder.greaterThan(sortPath, cursor.sortValue()),
+                    builder.and(builder.equal(sortPath, cursor.sortValue()), builder.greaterThan(idPath, cursor.id()))
+                );
+            }
+
+            return builder.or(
+                builder.lessThan(sortPath, cursor.sortValue()),
+                builder.and(builder.equal(sortPath, cursor.sortValue()), builder.lessThan(idPath, cursor.id()))
+            );
+        };
+    }
+
+    private String cursorFor(TaskInboxEntryEntity task, String sortField) {
+        Instant sortValue = "updatedAt".equals(sortField) ? task.getUpdatedAt() : task.getCreatedAt();
+        return new TaskPageCursor(sortField, sortValue, task.getTaskId()).encode();
+    }
+
+    private Sort.Order parseSort(String sort) {
+        if (!StringUtils.hasText(sort)) {
+            return new Sort.Order(Sort.Direction.DESC, "createdAt");
+        }
+
+        String[] tokens = sort.split(",", 2);
+        String requestedField = tokens[0].trim();
+        String mappedField = SORT_FIELD_MAPPING.getOrDefault(requestedField, "createdAt");
+        Sort.Direction direction = Sort.Direction.DESC;
+
+        if (tokens.length > 1 && tokens[1].equalsIgnoreCase("asc")) {
+            direction = Sort.Direction.ASC;
+        }
+
+        return new Sort.Order(direction, mappedField);
+    }
+
+    /**
+     * One principal range of the inbox, the leading columns of the {@code idx_task_inbox_principal_status_*} indexes,
+     * optionally narrowed to the role tasks the user has claimed.
+     */
+    private record InboxBranch(
+        String principalType,
+        List<String> principalIds,
+        UUID claimedByUserId,
+        List<String> claimedRoles
+    ) {
+
+        Specification<TaskInboxEntryEntity> specification(TaskStatus status) {
+            return (root, query, builder) -> {
+                List<Predicate> predicates = new ArrayList<>();
+                predicates.add(builder.equal(root.get("principalType"), principalType));
+                predicates.add(root.get("principalId").in(principalIds));
+                if (status != null) {
+                    predicates.add(builder.equal(root.get("status"), status));
+                }
+                if (claimedByUserId != null) {
+                    predicates.add(builder.equal(root.get("claimedByUserId"), claimedByUserId));
+                    predicates.add(root.get("assigneeRole").in(claimedRoles));
+                }
+                return builder.and(predicates.toArray(Predicate[]::new));
+            };
+        }
+
+        String sql(int index, boolean filterStatus) {
+            StringBuilder sql = new StringBuilder("select e.* from task_inbox_entries e")
+                .append(" where e.principal_type = :principalType").append(index)
+                .append(" and e.principal_id in (:principalIds").append(index).append(')');
+            if (filterStatus) {
+                sql.append(" and e.status = :status");
+            }
+            if (claimedByUserId != null) {
+                sql.append(" and e.claimed_by_user_id = :claimedByUserId").append(index)
+                    .append(" and e.assignee_role in (:claimedRoles").append(index).append(')');
+            }
+            return sql.toString();
+        }
+
+        void bind(Query query, int index) {
+            query.setParameter("principalType" + index, principalType);
+            query.setParameter("principalIds" + index, principalIds);
+            if (claimedByUserId != null) {
+                query.setParameter("claimedByUserId" + index, claimedByUserId);
+                query.setParameter("claimedRoles" + index, claimedRoles);
+            }
+        }
+    }
+
+    private TaskResource toTaskResource(TaskInboxEntryEntity entry) {
+        return new TaskResource(
+            entry.getTaskId(),
+            entry.getRequestId(),
+            entry.getWorkflowInstanceId(),
+            entry.getStepKey(),
+            entry.getAssigneeUserId(),
+            entry.getAssigneeRole(),
+            entry.getStatus(),
+            entry.getDueAt(),
+            entry.getClaimedAt(),
+            entry.getClaimedByUserId(),
+            entry.getCreatedAt(),
+            entry.getUpdatedAt()
+        );
+    }
+}
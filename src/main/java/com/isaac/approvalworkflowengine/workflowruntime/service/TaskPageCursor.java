@@ -0,0 +1,43 @@
+package com.isaac.approvalworkflowengine.workflowruntime.service;
+
+import com.isaac.approvalworkflowengine.shared.api.ApiErrorDetail;
+import com.isaac.approvalworkflowengine.shared.error.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position for the task inbox: the sort field, the last row's sort value and its id as tie-breaker.
+ */
+record TaskPageCursor(String sortField, Instant sortValue, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = sortField + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskPageCursor decode(String cursor, String expectedSortField) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(expectedSortField)) {
+                throw invalid();
+            }
+            return new TaskPageCursor(parts[0], Instant.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw invalid();
+        }
+    }
+
+    private static BadRequestException invalid() {
+        return new BadRequestException(
+            "Invalid task page cursor",
+            List.of(new ApiErrorDetail("after", "must be a cursor returned for the same sort"))
+        );
+    }
+}
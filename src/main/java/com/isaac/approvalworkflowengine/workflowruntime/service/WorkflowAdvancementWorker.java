@@ -0,0 +1,113 @@
+package com.isaac.approvalworkflowengine.workflowruntime.service;
+
+import com.isaac.approvalworkflowengine.workflowruntime.config.WorkflowRuntimeProperties;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowInstanceExecutor;
+import com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowAdvancementStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.WorkflowAdvancementJpaRepository;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.WorkflowAdvancementEntity;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drains the workflow advancement queue. Each poll takes the oldest due rows, groups them by workflow instance
+ * and hands every instance to the application task executor, which runs that instance's rows one after another.
+ * A failed row is retried with backoff and is marked FAILED once it runs out of attempts. When an instance's lane
+ * stays busy past its queue timeout, that instance's rows are pushed back by the retry backoff without using an
+ * attempt, and the other instances in the batch still run.
+ * The poller also runs in SYNC mode so rows queued before a mode switch still drain; only
+ * {@code app.runtime.advancement.worker-enabled=false} stops it.
+ */
+@Component
+public class WorkflowAdvancementWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkflowAdvancementWorker.class);
+
+    private final WorkflowAdvancementJpaRepository workflowAdvancementJpaRepository;
+    private final WorkflowRuntimeService workflowRuntimeService;
+    private final WorkflowRuntimeProperties workflowRuntimeProperties;
+    private final WorkflowInstanceExecutor workflowInstanceExecutor;
+    private final AsyncTaskExecutor taskExecutor;
+
+    public WorkflowAdvancementWorker(
+        WorkflowAdvancementJpaRepository workflowAdvancementJpaRepository,
+        WorkflowRuntimeService workflowRuntimeService,
+        WorkflowRuntimeProperties workflowRuntimeProperties,
+        WorkflowInstanceExecutor workflowInstanceExecutor,
+        @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor
+    ) {
+        this.workflowAdvancementJpaRepository = workflowAdvancementJpaRepository;
+        this.workflowRuntimeService = workflowRuntimeService;
+        this.workflowRuntimeProperties = workflowRuntimeProperties;
+        this.workflowInstanceExecutor = workflowInstanceExecutor;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${app.runtime.advancement.poll-interval:PT1S}")
+    void poll() {
+        if (!workflowRuntimeProperties.getAdvancement().isWorkerEnabled()) {
+            return;
+        }
+        while (drain() == workflowRuntimeProperties.getAdvancement().getBatchSize()) {
+            // A full batch usually means more rows are due; keep going until the queue runs short.
+        }
+    }
+
+    /**
+     * Processes one batch of due advancements and returns how many rows it picked up.
+     */
+    public int drain() {
+        List<WorkflowAdvancementEntity> due = workflowAdvancementJpaRepository.findDue(
+            WorkflowAdvancementStatus.PENDING,
+            Instant.now(),
+            PageRequest.of(0, workflowRuntimeProperties.getAdvancement().getBatchSize())
+        );
+
+        Map<UUID, List<UUID>> byInstance = new LinkedHashMap<>();
+        for (WorkflowAdvancementEntity advancement : due) {
+            byInstance.computeIfAbsent(advancement.getWorkflowInstanceId(), ignored -> new ArrayList<>())
+                .add(advancement.getId());
+        }
+
+        List<CompletableFuture<Void>> instances = new ArrayList<>(byInstance.size());
+        byInstance.forEach((workflowInstanceId, advancementIds) -> instances.add(CompletableFuture.runAsync(
+            () -> advanceInstance(workflowInstanceId, advancementIds),
+            taskExecutor
+        )));
+        CompletableFuture.allOf(instances.toArray(CompletableFuture[]::new)).join();
+        return due.size();
+    }
+
+    private void advanceInstance(UUID workflowInstanceId, List<UUID> advancementIds) {
+        try {
+            workflowInstanceExecutor.execute(workflowInstanceId, () -> advanceInOrder(advancementIds));
+        } catch (IllegalStateException busy) {
+            // Failures inside the lane are recorded per row, so this is the lane itself timing out or interrupted.
+            log.info("Workflow instance {} is busy, deferring {} advancements", workflowInstanceId, advancementIds.size());
+            workflowRuntimeService.deferAdvancements(advancementIds);
+        }
+    }
+
+    private Void advanceInOrder(List<UUID> advancementIds) {
+        for (UUID advancementId : advancementIds) {
+            try {
+                workflowRuntimeService.advance(advancementId);
+            } catch (RuntimeException exception) {
+                log.warn("Workflow advancement {} failed", advancementId, exception);
+                workflowRuntimeService.recordAdvancementFailure(advancementId, exception);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.isaac.approvalworkflowengine.workflowruntime.service;
+
+import com.isaac.approvalworkflowengine.workflowruntime.api.PagedWorkflowInstanceResource;
+import com.isaac.approvalworkflowengine.workflowruntime.api.WorkflowInstancePageMetadata;
+import com.isaac.approvalworkflowengine.workflowruntime.api.WorkflowInstanceResource;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.WorkflowInstanceJpaRepository;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.WorkflowInstanceEntity;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Step-level instance lookup over the {@code current_step_keys} array. On PostgreSQL the containment check
+ * renders as {@code @>} and is served by {@code idx_workflow_instances_current_step_keys}; oldest updates come
+ * first so the instances that have waited longest at a step lead the page.
+ */
+@Component
+class WorkflowInstanceQuery {
+
+    private final WorkflowInstanceJpaRepository workflowInstanceJpaRepository;
+
+    WorkflowInstanceQuery(WorkflowInstanceJpaRepository workflowInstanceJpaRepository) {
+        this.workflowInstanceJpaRepository = workflowInstanceJpaRepository;
+    }
+
+    PagedWorkflowInstanceResource listAtStep(String stepKey, UUID workflowVersionId, int page, int size) {
+        Pageable pageable = PageRequest.of(
+            Math.max(page, 0),
+            Math.min(Math.max(size, 1), 200),
+            Sort.by(Sort.Order.asc("updatedAt"), Sort.Order.asc("id"))
+        );
+        String normalizedStepKey = stepKey.trim();
+
+        Page<WorkflowInstanceEntity> instancePage = workflowVersionId == null
+            ? workflowInstanceJpaRepository.findAllAtStep(normalizedStepKey, pageable)
+            : workflowInstanceJpaRepository.findAllAtStepInVersion(normalizedStepKey, workflowVersionId, pageable);
+
+        return new PagedWorkflowInstanceResource(
+            instancePage.getContent().stream().map(WorkflowInstanceQuery::toResource).toList(),
+            new WorkflowInstancePageMetadata(
+                instancePage.getNumber(),
+                instancePage.getSize(),
+                instancePage.getTotalElements(),
+                instancePage.getTotalPages()
+            )
+        );
+    }
+
+    private static WorkflowInstanceResource toResource(WorkflowInstanceEntity instance) {
+        return new WorkflowInstanceResource(
+            instance.getId(),
+            instance.getRequestId(),
+            instance.getWorkflowVersionId(),
+            instance.getStatus(),
+            instance.getCurrentStepKeys(),
+            instance.getCreatedAt(),
+            instance.getUpdatedAt()
+        );
+    }
+}
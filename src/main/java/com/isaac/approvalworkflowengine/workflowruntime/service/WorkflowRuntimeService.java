@@ -10,34 +10,45 @@ import com.isaac.approvalworkflowengine.rules.RuleSetRuntimeEvaluator;
 import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
 import com.isaac.approvalworkflowengine.shared.api.ApiErrorDetail;
 import com.isaac.approvalworkflowengine.shared.error.BadRequestException;
+import com.isaac.approvalworkflowengine.workflowruntime.api.BulkTaskClaimItemInput;
+import com.isaac.approvalworkflowengine.workflowruntime.api.BulkTaskDecisionItemInput;
+import com.isaac.approvalworkflowengine.workflowruntime.api.BulkTaskItemResult;
+import com.isaac.approvalworkflowengine.workflowruntime.api.BulkTaskResultResource;
 import com.isaac.approvalworkflowengine.workflowruntime.api.PagedTaskResource;
+import com.isaac.approvalworkflowengine.workflowruntime.api.PagedWorkflowInstanceResource;
 import com.isaac.approvalworkflowengine.workflowruntime.api.TaskAssignedToFilter;
+import com.isaac.approvalworkflowengine.workflowruntime.api.TaskCountsResource;
 import com.isaac.approvalworkflowengine.workflowruntime.api.TaskDecisionInput;
 import com.isaac.approvalworkflowengine.workflowruntime.api.TaskDecisionResource;
-import com.isaac.approvalworkflowengine.workflowruntime.api.TaskPageMetadata;
 import com.isaac.approvalworkflowengine.workflowruntime.api.TaskResource;
+import com.isaac.approvalworkflowengine.workflowruntime.config.WorkflowRuntimeProperties;
+import com.isaac.approvalworkflowengine.workflowruntime.config.WorkflowRuntimeProperties.AdvancementMode;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.RuntimeTaskSnapshot;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowInstanceExecutor;
 import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowRuntimeGraph;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowRuntimeGraphCache;
 import com.isaac.approvalworkflowengine.workflowruntime.model.RuntimeRequestStatus;
 import com.isaac.approvalworkflowengine.workflowruntime.model.TaskDecisionAction;
 import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowAdvancementStatus;
 import com.isaac.approvalworkflowengine.workflowruntime.model.WorkflowInstanceStatus;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.RuntimeIdempotencyKeyJpaRepository;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.RuntimeRequestJpaRepository;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.RuntimeRequestStatusTransitionJpaRepository;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.TaskDecisionJpaRepository;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.TaskDecisionRoute;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.TaskJpaRepository;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.WorkflowAdvancementJpaRepository;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.WorkflowInstanceJpaRepository;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.RuntimeIdempotencyKeyEntity;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.RuntimeRequestEntity;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.RuntimeRequestStatusTransitionEntity;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskDecisionEntity;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskEntity;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.WorkflowAdvancementEntity;
 import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.WorkflowInstanceEntity;
-import com.isaac.approvalworkflowengine.workflowtemplate.WorkflowTemplateRuntimeLookup;
-import com.isaac.approvalworkflowengine.workflowtemplate.WorkflowTemplateRuntimeLookup.WorkflowTemplateRuntimeVersion;
 import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowAssignmentInput;
 import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowGraphInput;
-import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowJoinInput;
 import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowNodeInput;
 import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowRuleRefInput;
 import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowAssignmentStrategy;
@@ -49,12 +60,13 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.HexFormat;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -62,38 +74,31 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+/**
+ * Runtime lock hierarchy: request, then workflow instance, then task rows, ascending id within a level. Every path
+ * that holds more than one of these row locks acquires them in that order. Claims lock only the task row and read
+ * the request for authorization without a lock. Inbox entry rows belong to a single task and are written after
+ * its task row, so the inbox projection adds no rows shared across instances to this hierarchy.
+ */
 @Service
 public class WorkflowRuntimeService {
 
     private static final String TASK_CLAIM_SCOPE = "TASK_CLAIM";
 
     private static final Set<TaskStatus> ACTIVE_TASK_STATUSES = EnumSet.of(TaskStatus.PENDING, TaskStatus.CLAIMED);
-    private static final Set<TaskStatus> TERMINAL_TASK_STATUSES = EnumSet.of(
-        TaskStatus.APPROVED,
-        TaskStatus.REJECTED,
-        TaskStatus.CANCELLED,
-        TaskStatus.EXPIRED,
-        TaskStatus.SKIPPED
-    );
-
-    private static final Map<String, String> SORT_FIELD_MAPPING = Map.of(
-        "createdAt", "createdAt",
-        "updatedAt", "updatedAt",
-        "dueAt", "dueAt",
-        "status", "status",
-        "stepKey", "stepKey"
-    );
+
+    private static final int MAX_DECISION_ATTEMPTS = 3;
 
     private final WorkflowInstanceJpaRepository workflowInstanceJpaRepository;
     private final TaskJpaRepository taskJpaRepository;
@@ -101,10 +106,17 @@ public class WorkflowRuntimeService {
     private final RuntimeRequestJpaRepository runtimeRequestJpaRepository;
     private final RuntimeRequestStatusTransitionJpaRepository runtimeRequestStatusTransitionJpaRepository;
     private final RuntimeIdempotencyKeyJpaRepository runtimeIdempotencyKeyJpaRepository;
-    private final WorkflowTemplateRuntimeLookup workflowTemplateRuntimeLookup;
+    private final WorkflowAdvancementJpaRepository workflowAdvancementJpaRepository;
+    private final WorkflowRuntimeGraphCache workflowRuntimeGraphCache;
+    private final WorkflowRuntimeProperties workflowRuntimeProperties;
+    private final WorkflowInstanceExecutor workflowInstanceExecutor;
+    private final TaskInboxQuery taskInboxQuery;
+    private final WorkflowInstanceQuery workflowInstanceQuery;
+    private final TaskInboxProjector taskInboxProjector;
     private final RuleSetRuntimeEvaluator ruleSetRuntimeEvaluator;
     private final AccessPolicyService accessPolicyService;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     public WorkflowRuntimeService(
         WorkflowInstanceJpaRepository workflowInstanceJpaRepository,
@@ -113,10 +125,17 @@ public class WorkflowRuntimeService {
         RuntimeRequestJpaRepository runtimeRequestJpaRepository,
         RuntimeRequestStatusTransitionJpaRepository runtimeRequestStatusTransitionJpaRepository,
         RuntimeIdempotencyKeyJpaRepository runtimeIdempotencyKeyJpaRepository,
-        WorkflowTemplateRuntimeLookup workflowTemplateRuntimeLookup,
+        WorkflowAdvancementJpaRepository workflowAdvancementJpaRepository,
+        WorkflowRuntimeGraphCache workflowRuntimeGraphCache,
+        WorkflowRuntimeProperties workflowRuntimeProperties,
+        WorkflowInstanceExecutor workflowInstanceExecutor,
+        TaskInboxQuery taskInboxQuery,
+        WorkflowInstanceQuery workflowInstanceQuery,
+        TaskInboxProjector taskInboxProjector,
         RuleSetRuntimeEvaluator ruleSetRuntimeEvaluator,
         AccessPolicyService accessPolicyService,
-        ObjectMapper objectMapper
+        ObjectMapper objectMapper,
+        TransactionTemplate transactionTemplate
     ) {
         this.workflowInstanceJpaRepository = workflowInstanceJpaRepository;
         this.taskJpaRepository = taskJpaRepository;
@@ -124,10 +143,17 @@ public class WorkflowRuntimeService {
         this.runtimeRequestJpaRepository = runtimeRequestJpaRepository;
         this.runtimeRequestStatusTransitionJpaRepository = runtimeRequestStatusTransitionJpaRepository;
         this.runtimeIdempotencyKeyJpaRepository = runtimeIdempotencyKeyJpaRepository;
-        this.workflowTemplateRuntimeLookup = workflowTemplateRuntimeLookup;
+        this.workflowAdvancementJpaRepository = workflowAdvancementJpaRepository;
+        this.workflowRuntimeGraphCache = workflowRuntimeGraphCache;
+        this.workflowRuntimeProperties = workflowRuntimeProperties;
+        this.workflowInstanceExecutor = workflowInstanceExecutor;
+        this.taskInboxQuery = taskInboxQuery;
+        this.workflowInstanceQuery = workflowInstanceQuery;
+        this.taskInboxProjector = taskInboxProjector;
         this.ruleSetRuntimeEvaluator = ruleSetRuntimeEvaluator;
         this.accessPolicyService = accessPolicyService;
         this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Transactional
@@ -140,11 +166,9 @@ public class WorkflowRuntimeService {
             throw new IllegalStateException("Request has no bound workflow version");
         }
 
-        WorkflowTemplateRuntimeVersion runtimeVersion = workflowTemplateRuntimeLookup
-            .findRuntimeWorkflowVersion(workflowVersionId)
+        WorkflowRuntimeGraph graph = workflowRuntimeGraphCache.findGraph(workflowVersionId)
             .orElseThrow(() -> new IllegalStateException("Workflow version not found for runtime execution"));
 
-        WorkflowRuntimeGraph graph = WorkflowRuntimeGraph.from(runtimeVersion.graph());
         WorkflowInstanceEntity instance = workflowInstanceJpaRepository.findByRequestIdForUpdate(requestId)
             .orElseGet(() -> createInstance(requestId, workflowVersionId));
 
@@ -157,7 +181,7 @@ public class WorkflowRuntimeService {
             request,
             graph,
             graph.successorKeys(graph.startNode().id().trim()),
-            actorSubject
+            new LazyRuleEvaluationContext(request)
         );
 
         RuntimeRequestStatus targetStatus = result.terminalRequestStatus() == null
@@ -180,19 +204,10 @@ public class WorkflowRuntimeService {
             return;
         }
 
-        List<TaskEntity> activeTasks = taskJpaRepository.findByWorkflowInstanceIdAndStatusIn(
-            instance.getId(),
-            ACTIVE_TASK_STATUSES
-        );
-
-        for (TaskEntity task : activeTasks) {
-            task.setStatus(TaskStatus.CANCELLED);
-        }
-
-        taskJpaRepository.saveAll(activeTasks);
+        cancelActiveTasks(instance.getId());
 
         instance.setStatus(WorkflowInstanceStatus.CANCELLED);
-        instance.setCurrentStepKeys(writeJson(List.of()));
+        instance.setCurrentStepKeys(List.of());
         workflowInstanceJpaRepository.save(instance);
     }
 
@@ -203,35 +218,19 @@ public class WorkflowRuntimeService {
         TaskStatus status,
         int page,
         int size,
-        String sort
+        String sort,
+        String after
     ) {
-        Pageable pageable = PageRequest.of(
-            Math.max(page, 0),
-            Math.min(Math.max(size, 1), 200),
-            parseSort(sort)
-        );
-
-        Specification<TaskEntity> specification = (root, query, builder) -> builder.conjunction();
-
-        if (status != null) {
-            specification = specification.and((root, query, builder) -> builder.equal(root.get("status"), status));
-        }
-
-        Specification<TaskEntity> assignmentSpec = assignmentSpecification(actor, assignedTo);
-        specification = specification.and(assignmentSpec);
+        return taskInboxQuery.list(actor, assignedTo, status, page, size, sort, after);
+    }
 
-        Page<TaskEntity> taskPage = taskJpaRepository.findAll(specification, pageable);
-        List<TaskResource> items = taskPage.getContent().stream().map(this::toTaskResource).toList();
+    public TaskCountsResource countTasks(TaskActor actor) {
+        return taskInboxQuery.counts(actor);
+    }
 
-        return new PagedTaskResource(
-            items,
-            new TaskPageMetadata(
-                taskPage.getNumber(),
-                taskPage.getSize(),
-                taskPage.getTotalElements(),
-                taskPage.getTotalPages()
-            )
-        );
+    @Transactional(readOnly = true)
+    public PagedWorkflowInstanceResource listInstancesAtStep(String stepKey, UUID workflowVersionId, int page, int size) {
+        return workflowInstanceQuery.listAtStep(stepKey, workflowVersionId, page, size);
     }
 
     @Transactional
@@ -255,27 +254,13 @@ public class WorkflowRuntimeService {
         RuntimeRequestEntity request = runtimeRequestJpaRepository.findById(task.getRequestId())
             .orElseThrow(() -> new NoSuchElementException("Request not found"));
 
-        authorizeTaskAction(task, request, actor);
-
-        if (task.getStatus() == TaskStatus.PENDING) {
-            task.setStatus(TaskStatus.CLAIMED);
-            task.setClaimedByUserId(actor.userId());
-            task.setClaimedAt(Instant.now());
-            taskJpaRepository.save(task);
-        } else if (task.getStatus() == TaskStatus.CLAIMED && Objects.equals(task.getClaimedByUserId(), actor.userId())) {
-            // Idempotent claim from same actor.
-        } else {
-            throw new IllegalStateException("Task cannot be claimed in status " + task.getStatus());
+        if (ensureClaimable(task, request, actor)) {
+            markClaimed(task, actor);
+            taskJpaRepository.saveAndFlush(task);
+            taskInboxProjector.refresh(List.of(task));
         }
 
-        RuntimeIdempotencyKeyEntity record = new RuntimeIdempotencyKeyEntity(
-            UUID.randomUUID(),
-            TASK_CLAIM_SCOPE,
-            idempotencyKey,
-            requestHash,
-            writeJson(Map.of("taskId", task.getId().toString(), "status", task.getStatus().name())),
-            Instant.now()
-        );
+        RuntimeIdempotencyKeyEntity record = claimIdempotencyRecord(idempotencyKey, requestHash, task);
 
         try {
             runtimeIdempotencyKeyJpaRepository.saveAndFlush(record);
@@ -289,8 +274,127 @@ public class WorkflowRuntimeService {
         return toTaskResource(task);
     }
 
+    /**
+     * Claims a batch of tasks in one transaction. Task rows are locked up front in ascending id order, so
+     * overlapping bulk and single claims queue behind each other instead of deadlocking. Per-item rejections
+     * (missing task, access, status, idempotency mismatch) are reported per item; results follow input order.
+     */
     @Transactional
+    public BulkTaskResultResource<TaskResource> claimTasks(List<BulkTaskClaimItemInput> items, TaskActor actor) {
+        ensureDistinctBulkItems(items.stream().map(BulkTaskClaimItemInput::taskId).toList(), "taskId");
+        ensureDistinctBulkItems(items.stream().map(BulkTaskClaimItemInput::idempotencyKey).toList(), "idempotencyKey");
+
+        Map<String, RuntimeIdempotencyKeyEntity> replays = new HashMap<>();
+        for (RuntimeIdempotencyKeyEntity replay : runtimeIdempotencyKeyJpaRepository.findByScopeAndKeyValueIn(
+            TASK_CLAIM_SCOPE,
+            items.stream().map(BulkTaskClaimItemInput::idempotencyKey).toList()
+        )) {
+            replays.put(replay.getKeyValue(), replay);
+        }
+
+        Map<UUID, TaskEntity> tasks = lockTasks(items.stream().map(BulkTaskClaimItemInput::taskId).toList());
+        Map<UUID, RuntimeRequestEntity> requests = new HashMap<>();
+        for (RuntimeRequestEntity request : runtimeRequestJpaRepository.findAllById(
+            tasks.values().stream().map(TaskEntity::getRequestId).collect(Collectors.toSet())
+        )) {
+            requests.put(request.getId(), request);
+        }
+
+        Map<UUID, BulkTaskItemResult<TaskResource>> failures = new HashMap<>();
+        List<TaskEntity> claimed = new ArrayList<>();
+        List<RuntimeIdempotencyKeyEntity> records = new ArrayList<>();
+
+        for (BulkTaskClaimItemInput item : sortedByTaskId(items, BulkTaskClaimItemInput::taskId)) {
+            try {
+                String requestHash = computeRequestHash(TASK_CLAIM_SCOPE, item.taskId(), actor.userId());
+                TaskEntity task = bulkTask(tasks, item.taskId());
+
+                RuntimeIdempotencyKeyEntity replay = replays.get(item.idempotencyKey());
+                if (replay != null) {
+                    ensureMatchingRequestHash(replay, requestHash);
+                    continue;
+                }
+
+                RuntimeRequestEntity request = requests.get(task.getRequestId());
+                if (request == null) {
+                    throw new NoSuchElementException("Request not found");
+                }
+
+                if (ensureClaimable(task, request, actor)) {
+                    markClaimed(task, actor);
+                    claimed.add(task);
+                }
+                records.add(claimIdempotencyRecord(item.idempotencyKey(), requestHash, task));
+            } catch (NoSuchElementException | AccessDeniedException | BadRequestException | IllegalStateException exception) {
+                failures.put(item.taskId(), failedBulkItem(item.taskId(), item.idempotencyKey(), exception));
+            }
+        }
+
+        taskJpaRepository.saveAllAndFlush(claimed);
+        taskInboxProjector.refresh(claimed);
+        runtimeIdempotencyKeyJpaRepository.saveAllAndFlush(records);
+
+        return new BulkTaskResultResource<>(items.stream()
+            .map(item -> failures.getOrDefault(
+                item.taskId(),
+                BulkTaskItemResult.succeeded(item.taskId(), item.idempotencyKey(), toTaskResource(tasks.get(item.taskId())))
+            ))
+            .toList());
+    }
+
+    /**
+     * Runs one decision attempt per transaction and retries optimistic conflicts a bounded number of times.
+     * Decisions that take locks queue behind other work for the same workflow instance on this node first.
+     * Optimistic approvals skip that queue: they hold no lock while traversing, so running them one at a time
+     * would only serialize approvals that can commit side by side. The route and graph lookups run before
+     * queueing and outside any transaction, so waiting callers hold no connection.
+     * See {@link #decideTaskOnce} for which decisions take the optimistic path.
+     */
     public TaskDecisionResource decideTask(UUID taskId, String idempotencyKey, TaskDecisionInput input, TaskActor actor) {
+        TaskDecisionRoute route = taskJpaRepository.findDecisionRoutes(List.of(taskId)).stream()
+            .findFirst()
+            .orElseThrow(() -> new NoSuchElementException("Task not found"));
+
+        Map<UUID, WorkflowRuntimeGraph> graphs = new HashMap<>();
+        boolean optimistic = input.action() == TaskDecisionAction.APPROVE
+            && (asyncAdvancement() || !runtimeGraph(route.workflowVersionId(), graphs).approvalFeedsJoin(route.stepKey()));
+
+        Supplier<TaskDecisionResource> attempts = () -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(
+                        status -> decideTaskOnce(route, idempotencyKey, input, actor, optimistic, graphs)
+                    );
+                } catch (OptimisticLockingFailureException conflict) {
+                    if (attempt >= MAX_DECISION_ATTEMPTS) {
+                        throw conflict;
+                    }
+                }
+            }
+        };
+        return optimistic ? attempts.get() : workflowInstanceExecutor.execute(route.workflowInstanceId(), attempts);
+    }
+
+    /**
+     * An APPROVE whose traversal cannot reach a JOIN only touches its own task, new downstream tasks and the
+     * instance's step keys, so it runs on plain reads and never writes the instance entity: the traversal runs
+     * without locks, then the step keys are edited in place (see {@link #recordProgressInPlace}), so approvals on
+     * independent branches wait for each other only while their writes flush. Join-feeding approvals and
+     * REJECT/SEND_BACK (which cancel siblings) take pessimistic locks in hierarchy order: request, then workflow
+     * instance, then task. With asynchronous advancement no APPROVE traverses the graph inline and the instance
+     * row is not written at all, so every approval takes the optimistic path. {@link #decideTask} picks the path
+     * before queueing: only locking decisions wait in the per-instance executor, so optimistic approvals on one
+     * instance overlap on the same node as well as across nodes.
+     */
+    private TaskDecisionResource decideTaskOnce(
+        TaskDecisionRoute route,
+        String idempotencyKey,
+        TaskDecisionInput input,
+        TaskActor actor,
+        boolean optimistic,
+        Map<UUID, WorkflowRuntimeGraph> graphs
+    ) {
+        UUID taskId = route.taskId();
         TaskDecisionEntity existingDecision = taskDecisionJpaRepository
             .findByTaskIdAndIdempotencyKey(taskId, idempotencyKey)
             .orElse(null);
@@ -300,29 +404,219 @@ public class WorkflowRuntimeService {
             return toTaskDecisionResource(existingDecision);
         }
 
-        TaskEntity task = taskJpaRepository.findByIdForUpdate(taskId)
-            .orElseThrow(() -> new NoSuchElementException("Task not found"));
+        RuntimeRequestEntity request;
+        WorkflowInstanceEntity instance;
+        TaskEntity task;
+        if (optimistic) {
+            request = runtimeRequestJpaRepository.findById(route.requestId())
+                .orElseThrow(() -> new NoSuchElementException("Request not found"));
+            instance = workflowInstanceJpaRepository.findById(route.workflowInstanceId())
+                .orElseThrow(() -> new NoSuchElementException("Workflow instance not found"));
+            task = taskJpaRepository.findById(taskId)
+                .orElseThrow(() -> new NoSuchElementException("Task not found"));
+        } else {
+            request = runtimeRequestJpaRepository.findByIdForUpdate(route.requestId())
+                .orElseThrow(() -> new NoSuchElementException("Request not found"));
+            instance = workflowInstanceJpaRepository.findByIdForUpdate(route.workflowInstanceId())
+                .orElseThrow(() -> new NoSuchElementException("Workflow instance not found"));
+            task = taskJpaRepository.findByIdForUpdate(taskId)
+                .orElseThrow(() -> new NoSuchElementException("Task not found"));
+        }
 
-        RuntimeRequestEntity request = runtimeRequestJpaRepository.findByIdForUpdate(task.getRequestId())
-            .orElseThrow(() -> new NoSuchElementException("Request not found"));
+        ensureDecidable(task, request, instance, input, actor);
 
-        WorkflowInstanceEntity instance = workflowInstanceJpaRepository.findByIdForUpdate(task.getWorkflowInstanceId())
-            .orElseThrow(() -> new NoSuchElementException("Workflow instance not found"));
+        TaskDecisionEntity decisionEntity = applyDecision(
+            task,
+            request,
+            instance,
+            input,
+            idempotencyKey,
+            actor,
+            graphs,
+            new LazyRuleEvaluationContext(request),
+            optimistic
+        );
+
+        TaskDecisionEntity saved;
+        try {
+            saved = taskDecisionJpaRepository.saveAndFlush(decisionEntity);
+        } catch (DataIntegrityViolationException conflict) {
+            TaskDecisionEntity persisted = taskDecisionJpaRepository
+                .findByTaskIdAndIdempotencyKey(taskId, idempotencyKey)
+                .orElseThrow(() -> conflict);
+            ensureMatchingDecision(persisted, input, actor);
+            saved = persisted;
+        }
+
+        return toTaskDecisionResource(saved);
+    }
+
+    /**
+     * Decides a batch of tasks in one transaction. Locks follow the runtime lock hierarchy (requests, then workflow
+     * instances, then tasks), each level in ascending id order, so bulk and single decisions cannot deadlock.
+     * Compiled graphs and rule evaluation contexts are shared by items of the same workflow version and request.
+     * Items failing validation are reported per item; a failure while advancing the workflow rolls back the batch.
+     */
+    @Transactional
+    public BulkTaskResultResource<TaskDecisionResource> decideTasks(List<BulkTaskDecisionItemInput> items, TaskActor actor) {
+        List<UUID> taskIds = items.stream().map(BulkTaskDecisionItemInput::taskId).toList();
+        ensureDistinctBulkItems(taskIds, "taskId");
+
+        Map<String, TaskDecisionEntity> replays = new HashMap<>();
+        for (TaskDecisionEntity replay : taskDecisionJpaRepository.findByTaskIdInAndIdempotencyKeyIn(
+            taskIds,
+            items.stream().map(BulkTaskDecisionItemInput::idempotencyKey).toList()
+        )) {
+            replays.put(replay.getTaskId() + ":" + replay.getIdempotencyKey(), replay);
+        }
+
+        List<TaskDecisionRoute> routes = taskJpaRepository.findDecisionRoutes(taskIds);
+        Map<UUID, RuntimeRequestEntity> requests = new HashMap<>();
+        for (RuntimeRequestEntity request : runtimeRequestJpaRepository.findAllByIdInForUpdate(
+            routes.stream().map(TaskDecisionRoute::requestId).collect(Collectors.toSet())
+        )) {
+            requests.put(request.getId(), request);
+        }
+        Map<UUID, WorkflowInstanceEntity> instances = new HashMap<>();
+        for (WorkflowInstanceEntity instance : workflowInstanceJpaRepository.findAllByIdInForUpdate(
+            routes.stream().map(TaskDecisionRoute::workflowInstanceId).collect(Collectors.toSet())
+        )) {
+            instances.put(instance.getId(), instance);
+        }
+        Map<UUID, TaskEntity> tasks = lockTasks(taskIds);
+
+        Map<UUID, WorkflowRuntimeGraph> graphs = new HashMap<>();
+        Map<UUID, LazyRuleEvaluationContext> ruleContexts = new HashMap<>();
+        Map<UUID, BulkTaskItemResult<TaskDecisionResource>> failures = new HashMap<>();
+        Map<UUID, TaskDecisionEntity> decisions = new HashMap<>();
+        List<TaskDecisionEntity> newDecisions = new ArrayList<>();
+
+        for (BulkTaskDecisionItemInput item : sortedByTaskId(items, BulkTaskDecisionItemInput::taskId)) {
+            TaskDecisionInput input = item.toDecisionInput();
+            TaskEntity task;
+            RuntimeRequestEntity request;
+            WorkflowInstanceEntity instance;
+            try {
+                TaskDecisionEntity replay = replays.get(item.taskId() + ":" + item.idempotencyKey());
+                if (replay != null) {
+                    ensureMatchingDecision(replay, input, actor);
+                    decisions.put(item.taskId(), replay);
+                    continue;
+                }
+
+                task = bulkTask(tasks, item.taskId());
+                request = requests.get(task.getRequestId());
+                if (request == null) {
+                    throw new NoSuchElementException("Request not found");
+                }
+                instance = instances.get(task.getWorkflowInstanceId());
+                if (instance == null) {
+                    throw new NoSuchElementException("Workflow instance not found");
+                }
 
+                ensureDecidable(task, request, instance, input, actor);
+            } catch (NoSuchElementException | AccessDeniedException | BadRequestException | IllegalStateException exception) {
+                failures.put(item.taskId(), failedBulkItem(item.taskId(), item.idempotencyKey(), exception));
+                continue;
+            }
+
+            TaskDecisionEntity decision = applyDecision(
+                task,
+                request,
+                instance,
+                input,
+                item.idempotencyKey(),
+                actor,
+                graphs,
+                ruleContexts.computeIfAbsent(request.getId(), ignored -> new LazyRuleEvaluationContext(request)),
+                false
+            );
+            decisions.put(item.taskId(), decision);
+            newDecisions.add(decision);
+        }
+
+        taskDecisionJpaRepository.saveAllAndFlush(newDecisions);
+
+        return new BulkTaskResultResource<>(items.stream()
+            .map(item -> failures.getOrDefault(
+                item.taskId(),
+                BulkTaskItemResult.succeeded(item.taskId(), item.idempotencyKey(), toTaskDecisionResource(decisions.get(item.taskId())))
+            ))
+            .toList());
+    }
+
+    private boolean ensureClaimable(TaskEntity task, RuntimeRequestEntity request, TaskActor actor) {
         authorizeTaskAction(task, request, actor);
 
+        if (task.getStatus() == TaskStatus.PENDING) {
+            return true;
+        }
+        if (task.getStatus() == TaskStatus.CLAIMED && Objects.equals(task.getClaimedByUserId(), actor.userId())) {
+            // Idempotent claim from same actor.
+            return false;
+        }
+        throw new IllegalStateException("Task cannot be claimed in status " + task.getStatus());
+    }
+
+    private void markClaimed(TaskEntity task, TaskActor actor) {
+        task.setStatus(TaskStatus.CLAIMED);
+        task.setClaimedByUserId(actor.userId());
+        task.setClaimedAt(Instant.now());
+    }
+
+    private RuntimeIdempotencyKeyEntity claimIdempotencyRecord(String idempotencyKey, String requestHash, TaskEntity task) {
+        return new RuntimeIdempotencyKeyEntity(
+            UUID.randomUUID(),
+            TASK_CLAIM_SCOPE,
+            idempotencyKey,
+            requestHash,
+            writeJson(Map.of("taskId", task.getId().toString(), "status", task.getStatus().name())),
+            Instant.now()
+        );
+    }
+
+    private void ensureDecidable(
+        TaskEntity task,
+        RuntimeRequestEntity request,
+        WorkflowInstanceEntity instance,
+        TaskDecisionInput input,
+        TaskActor actor
+    ) {
+        authorizeTaskAction(task, request, actor);
+
+        if (instance.getStatus() != WorkflowInstanceStatus.ACTIVE) {
+            throw new IllegalStateException("Workflow instance is no longer active");
+        }
+
         if (task.getStatus() != TaskStatus.CLAIMED || !Objects.equals(task.getClaimedByUserId(), actor.userId())) {
             throw new IllegalStateException("Task must be claimed by the acting user before deciding");
         }
 
-        TaskDecisionAction action = input.action();
-        if (action == TaskDecisionAction.DELEGATE) {
+        if (input.action() == TaskDecisionAction.DELEGATE) {
             throw new IllegalStateException("DELEGATE action is not supported in E5");
         }
 
+        if (input.action() != TaskDecisionAction.APPROVE) {
+            ensureDecisionCommentRequired(input.action(), input.comment());
+        }
+    }
+
+    private TaskDecisionEntity applyDecision(
+        TaskEntity task,
+        RuntimeRequestEntity request,
+        WorkflowInstanceEntity instance,
+        TaskDecisionInput input,
+        String idempotencyKey,
+        TaskActor actor,
+        Map<UUID, WorkflowRuntimeGraph> graphs,
+        LazyRuleEvaluationContext ruleContext,
+        boolean optimistic
+    ) {
+        TaskDecisionAction action = input.action();
+
         TaskDecisionEntity decisionEntity = new TaskDecisionEntity();
         decisionEntity.setId(UUID.randomUUID());
-        decisionEntity.setTaskId(taskId);
+        decisionEntity.setTaskId(task.getId());
         decisionEntity.setAction(action);
         decisionEntity.setComment(trimToNull(input.comment()));
         decisionEntity.setActedByUserId(actor.userId());
@@ -330,21 +624,26 @@ public class WorkflowRuntimeService {
         decisionEntity.setIdempotencyKey(idempotencyKey);
 
         if (action == TaskDecisionAction.APPROVE) {
-            task.setStatus(TaskStatus.APPROVED);
-            taskJpaRepository.save(task);
+            if (asyncAdvancement()) {
+                task.setStatus(TaskStatus.APPROVED);
+                taskJpaRepository.saveAndFlush(task);
+                taskInboxProjector.refresh(List.of(task));
+                enqueueAdvancement(instance, task, actor.subject());
+                if (request.getStatus() != RuntimeRequestStatus.IN_REVIEW) {
+                    transitionRequestStatus(request, RuntimeRequestStatus.IN_REVIEW, actor.subject(), "TASK_APPROVE");
+                }
+                return decisionEntity;
+            }
 
-            WorkflowTemplateRuntimeVersion runtimeVersion = workflowTemplateRuntimeLookup
-                .findRuntimeWorkflowVersion(instance.getWorkflowVersionId())
-                .orElseThrow(() -> new IllegalStateException("Workflow version not found for runtime execution"));
+            WorkflowRuntimeGraph graph = runtimeGraph(instance.getWorkflowVersionId(), graphs);
 
-            WorkflowRuntimeGraph graph = WorkflowRuntimeGraph.from(runtimeVersion.graph());
-            RuntimeProgressResult progressResult = processFromNodes(
-                instance,
-                request,
-                graph,
-                graph.successorKeys(task.getStepKey()),
-                actor.subject()
-            );
+            // The decided task is approved inside the snapshot, so nothing is written before the traversal ends.
+            RuntimeTaskSnapshot tasks = loadTasks(instance, graph);
+            tasks.transition(task, TaskStatus.APPROVED);
+            traverse(instance, request, graph, tasks, graph.successorKeys(task.getStepKey()), ruleContext);
+            RuntimeProgressResult progressResult = optimistic
+                ? recordProgressInPlace(instance, task, graph, tasks)
+                : recordProgress(instance, tasks);
 
             if (progressResult.terminalRequestStatus() == RuntimeRequestStatus.APPROVED) {
                 transitionRequestStatus(request, RuntimeRequestStatus.APPROVED, actor.subject(), "TASK_APPROVE");
@@ -352,10 +651,9 @@ public class WorkflowRuntimeService {
                 transitionRequestStatus(request, RuntimeRequestStatus.IN_REVIEW, actor.subject(), "TASK_APPROVE");
             }
         } else {
-            ensureDecisionCommentRequired(action, input.comment());
-
             task.setStatus(TaskStatus.REJECTED);
-            taskJpaRepository.save(task);
+            taskJpaRepository.saveAndFlush(task);
+            taskInboxProjector.refresh(List.of(task));
 
             RuntimeRequestStatus targetStatus = action == TaskDecisionAction.REJECT
                 ? RuntimeRequestStatus.REJECTED
@@ -365,24 +663,150 @@ public class WorkflowRuntimeService {
             instance.setStatus(action == TaskDecisionAction.REJECT
                 ? WorkflowInstanceStatus.REJECTED
                 : WorkflowInstanceStatus.CHANGES_REQUESTED);
-            instance.setCurrentStepKeys(writeJson(List.of()));
+            instance.setCurrentStepKeys(List.of());
             workflowInstanceJpaRepository.save(instance);
 
             transitionRequestStatus(request, targetStatus, actor.subject(), action.name());
         }
 
-        TaskDecisionEntity saved;
-        try {
-            saved = taskDecisionJpaRepository.saveAndFlush(decisionEntity);
-        } catch (DataIntegrityViolationException conflict) {
-            TaskDecisionEntity persisted = taskDecisionJpaRepository
-                .findByTaskIdAndIdempotencyKey(taskId, idempotencyKey)
-                .orElseThrow(() -> conflict);
-            ensureMatchingDecision(persisted, input, actor);
-            saved = persisted;
+        return decisionEntity;
+    }
+
+    /**
+     * Runs one queued advancement. The request and instance are locked in hierarchy order before the queue row is
+     * deleted, so concurrent workers serialize per instance and only the one whose delete hits the row advances;
+     * a rollback restores the row for retry. Advancements for instances that are no longer active are dropped.
+     */
+    @Transactional
+    public void advance(UUID advancementId) {
+        WorkflowAdvancementEntity advancement = workflowAdvancementJpaRepository.findById(advancementId).orElse(null);
+        if (advancement == null) {
+            return;
         }
 
-        return toTaskDecisionResource(saved);
+        RuntimeRequestEntity request = runtimeRequestJpaRepository.findByIdForUpdate(advancement.getRequestId())
+            .orElseThrow(() -> new NoSuchElementException("Request not found"));
+        WorkflowInstanceEntity instance = workflowInstanceJpaRepository.findByIdForUpdate(advancement.getWorkflowInstanceId())
+            .orElseThrow(() -> new NoSuchElementException("Workflow instance not found"));
+
+        if (workflowAdvancementJpaRepository.deleteByIdReturningCount(advancementId) == 0) {
+            return;
+        }
+        if (instance.getStatus() != WorkflowInstanceStatus.ACTIVE) {
+            return;
+        }
+
+        WorkflowRuntimeGraph graph = runtimeGraph(instance.getWorkflowVersionId(), new HashMap<>());
+        RuntimeProgressResult progressResult = processFromNodes(
+            instance,
+            request,
+            graph,
+            graph.successorKeys(advancement.getFromStepKey()),
+            new LazyRuleEvaluationContext(request)
+        );
+
+        if (progressResult.terminalRequestStatus() == RuntimeRequestStatus.APPROVED) {
+            transitionRequestStatus(request, RuntimeRequestStatus.APPROVED, advancement.getActorSubject(), "TASK_APPROVE");
+        }
+    }
+
+    @Transactional
+    public void recordAdvancementFailure(UUID advancementId, RuntimeException failure) {
+        WorkflowAdvancementEntity advancement = workflowAdvancementJpaRepository.findById(advancementId).orElse(null);
+        if (advancement == null) {
+            return;
+        }
+
+        WorkflowRuntimeProperties.Advancement settings = workflowRuntimeProperties.getAdvancement();
+        int attempts = advancement.getAttemptCount() + 1;
+        advancement.setAttemptCount(attempts);
+        advancement.setLastError(failure.getClass().getSimpleName() + ": " + failure.getMessage());
+        if (attempts >= settings.getMaxAttempts()) {
+            advancement.setStatus(WorkflowAdvancementStatus.FAILED);
+        } else {
+            advancement.setNextAttemptAt(Instant.now().plus(settings.getRetryBackoff().multipliedBy(attempts)));
+        }
+        workflowAdvancementJpaRepository.save(advancement);
+    }
+
+    /**
+     * Pushes queued advancements back by one retry backoff without counting an attempt, for rows whose instance
+     * could not be entered this poll.
+     */
+    @Transactional
+    public void deferAdvancements(Collection<UUID> advancementIds) {
+        Instant nextAttemptAt = Instant.now().plus(workflowRuntimeProperties.getAdvancement().getRetryBackoff());
+        List<WorkflowAdvancementEntity> advancements = workflowAdvancementJpaRepository.findAllById(advancementIds);
+        for (WorkflowAdvancementEntity advancement : advancements) {
+            advancement.setNextAttemptAt(nextAttemptAt);
+        }
+        workflowAdvancementJpaRepository.saveAll(advancements);
+    }
+
+    private boolean asyncAdvancement() {
+        return workflowRuntimeProperties.getAdvancement().getMode() == AdvancementMode.ASYNC;
+    }
+
+    private void enqueueAdvancement(WorkflowInstanceEntity instance, TaskEntity task, String actorSubject) {
+        WorkflowAdvancementEntity advancement = new WorkflowAdvancementEntity();
+        advancement.setId(UUID.randomUUID());
+        advancement.setWorkflowInstanceId(instance.getId());
+        advancement.setRequestId(task.getRequestId());
+        advancement.setFromStepKey(task.getStepKey());
+        advancement.setActorSubject(actorSubject);
+        advancement.setStatus(WorkflowAdvancementStatus.PENDING);
+        workflowAdvancementJpaRepository.save(advancement);
+    }
+
+    private WorkflowRuntimeGraph runtimeGraph(UUID workflowVersionId, Map<UUID, WorkflowRuntimeGraph> graphs) {
+        return graphs.computeIfAbsent(
+            workflowVersionId,
+            id -> workflowRuntimeGraphCache.findGraph(id)
+                .orElseThrow(() -> new IllegalStateException("Workflow version not found for runtime execution"))
+        );
+    }
+
+    private Map<UUID, TaskEntity> lockTasks(Collection<UUID> taskIds) {
+        Map<UUID, TaskEntity> tasks = new HashMap<>();
+        for (TaskEntity task : taskJpaRepository.findAllByIdInForUpdate(taskIds)) {
+            tasks.put(task.getId(), task);
+        }
+        return tasks;
+    }
+
+    private TaskEntity bulkTask(Map<UUID, TaskEntity> tasks, UUID taskId) {
+        TaskEntity task = tasks.get(taskId);
+        if (task == null) {
+            throw new NoSuchElementException("Task not found");
+        }
+        return task;
+    }
+
+    private <T> List<T> sortedByTaskId(List<T> items, Function<T, UUID> taskId) {
+        return items.stream().sorted(Comparator.comparing(taskId)).toList();
+    }
+
+    private void ensureDistinctBulkItems(List<?> values, String field) {
+        if (new HashSet<>(values).size() != values.size()) {
+            throw new BadRequestException(
+                "Bulk items must be distinct",
+                List.of(new ApiErrorDetail("items." + field, "must be unique within one bulk call"))
+            );
+        }
+    }
+
+    private <T> BulkTaskItemResult<T> failedBulkItem(UUID taskId, String idempotencyKey, RuntimeException exception) {
+        // Mirrors the status codes GlobalExceptionHandler assigns to the same exceptions on the single-task endpoints.
+        if (exception instanceof NoSuchElementException) {
+            return BulkTaskItemResult.failed(taskId, idempotencyKey, 404, "NOT_FOUND", exception.getMessage());
+        }
+        if (exception instanceof AccessDeniedException) {
+            return BulkTaskItemResult.failed(taskId, idempotencyKey, 403, "FORBIDDEN", "Access denied");
+        }
+        if (exception instanceof BadRequestException) {
+            return BulkTaskItemResult.failed(taskId, idempotencyKey, 400, "BAD_REQUEST", exception.getMessage());
+        }
+        return BulkTaskItemResult.failed(taskId, idempotencyKey, 409, "CONFLICT", exception.getMessage());
     }
 
     private WorkflowInstanceEntity createInstance(UUID requestId, UUID workflowVersionId) {
@@ -391,21 +815,21 @@ public class WorkflowRuntimeService {
         instance.setRequestId(requestId);
         instance.setWorkflowVersionId(workflowVersionId);
         instance.setStatus(WorkflowInstanceStatus.ACTIVE);
-        instance.setCurrentStepKeys(writeJson(List.of()));
+        instance.setCurrentStepKeys(List.of());
+        instance.setFiredJoinKeys(List.of());
         return workflowInstanceJpaRepository.save(instance);
     }
 
     private void resetInstance(WorkflowInstanceEntity instance, UUID workflowVersionId) {
-        List<TaskEntity> existingTasks = taskJpaRepository.findByWorkflowInstanceId(instance.getId());
-        if (!existingTasks.isEmpty()) {
-            List<UUID> taskIds = existingTasks.stream().map(TaskEntity::getId).toList();
-            taskDecisionJpaRepository.deleteByTaskIdIn(taskIds);
-            taskJpaRepository.deleteByWorkflowInstanceId(instance.getId());
-        }
+        workflowAdvancementJpaRepository.deleteAllByWorkflowInstanceId(instance.getId());
+        taskInboxProjector.removeInstance(instance.getId());
+        taskDecisionJpaRepository.deleteAllByWorkflowInstanceId(instance.getId());
+        taskJpaRepository.deleteAllByWorkflowInstanceId(instance.getId());
 
         instance.setWorkflowVersionId(workflowVersionId);
         instance.setStatus(WorkflowInstanceStatus.ACTIVE);
-        instance.setCurrentStepKeys(writeJson(List.of()));
+        instance.setCurrentStepKeys(List.of());
+        instance.setFiredJoinKeys(List.of());
         workflowInstanceJpaRepository.save(instance);
     }
 
@@ -414,7 +838,28 @@ public class WorkflowRuntimeService {
         RuntimeRequestEntity request,
         WorkflowRuntimeGraph graph,
         Collection<String> startNodeKeys,
-        String actorSubject
+        LazyRuleEvaluationContext ruleContext
+    ) {
+        RuntimeTaskSnapshot tasks = loadTasks(instance, graph);
+        traverse(instance, request, graph, tasks, startNodeKeys, ruleContext);
+        return recordProgress(instance, tasks);
+    }
+
+    private RuntimeTaskSnapshot loadTasks(WorkflowInstanceEntity instance, WorkflowRuntimeGraph graph) {
+        return new RuntimeTaskSnapshot(
+            taskJpaRepository.findByWorkflowInstanceId(instance.getId()),
+            instance.getFiredJoinKeys(),
+            graph
+        );
+    }
+
+    private void traverse(
+        WorkflowInstanceEntity instance,
+        RuntimeRequestEntity request,
+        WorkflowRuntimeGraph graph,
+        RuntimeTaskSnapshot tasks,
+        Collection<String> startNodeKeys,
+        LazyRuleEvaluationContext ruleContext
     ) {
         ArrayDeque<String> queue = new ArrayDeque<>(startNodeKeys);
         Set<String> visitedAutomatic = new HashSet<>();
@@ -429,12 +874,13 @@ public class WorkflowRuntimeService {
 
             switch (node.type()) {
                 case START -> queue.addAll(graph.successorKeys(nodeKey));
-                case APPROVAL -> createApprovalTask(instance, request, nodeKey, node);
-                case GATEWAY -> queue.add(resolveGatewayTarget(nodeKey, node, request, graph));
+                case APPROVAL -> createApprovalTask(instance, request, nodeKey, node, tasks);
+                case GATEWAY -> queue.add(resolveGatewayTarget(nodeKey, node, ruleContext, graph));
                 case JOIN -> {
-                    if (isJoinSatisfied(nodeKey, node.join(), instance, graph)) {
+                    if (tasks.approvedPredecessorCount(nodeKey) >= graph.requiredJoinApprovals(nodeKey)
+                        && tasks.fireJoin(nodeKey)) {
                         if (node.join().policy() == WorkflowJoinPolicy.ANY || node.join().policy() == WorkflowJoinPolicy.QUORUM) {
-                            skipPendingJoinSiblings(nodeKey, instance, graph);
+                            tasks.transitionActiveTasks(graph.predecessorKeys(nodeKey), TaskStatus.SKIPPED);
                         }
                         queue.addAll(graph.successorKeys(nodeKey));
                     }
@@ -445,33 +891,88 @@ public class WorkflowRuntimeService {
                 default -> throw new IllegalStateException("Unsupported workflow node type " + node.type());
             }
         }
+    }
+
+    private RuntimeProgressResult recordProgress(WorkflowInstanceEntity instance, RuntimeTaskSnapshot tasks) {
+        List<TaskEntity> pendingWrites = tasks.pendingWrites();
+        taskJpaRepository.saveAllAndFlush(pendingWrites);
+        taskInboxProjector.refresh(pendingWrites);
 
-        Set<String> activeStepKeys = activeStepKeys(instance.getId());
+        Set<String> activeStepKeys = tasks.activeStepKeys();
         if (activeStepKeys.isEmpty()) {
             instance.setStatus(WorkflowInstanceStatus.COMPLETED);
-            instance.setCurrentStepKeys(writeJson(List.of()));
+            instance.setCurrentStepKeys(List.of());
+            instance.setFiredJoinKeys(tasks.firedJoinKeys());
             workflowInstanceJpaRepository.save(instance);
             return new RuntimeProgressResult(RuntimeRequestStatus.APPROVED);
         }
 
         instance.setStatus(WorkflowInstanceStatus.ACTIVE);
-        instance.setCurrentStepKeys(writeJson(activeStepKeys));
+        instance.setCurrentStepKeys(activeStepKeys.stream().sorted().toList());
+        instance.setFiredJoinKeys(tasks.firedJoinKeys());
         workflowInstanceJpaRepository.save(instance);
         return new RuntimeProgressResult(null);
     }
 
+    /**
+     * Records an optimistic approval without writing the loaded instance entity, so its version never moves.
+     * The step keys are edited relative to the row's current value: the decided step is removed and newly reached
+     * steps are appended. Those updates take the instance row lock before any task row is written, keeping the
+     * lock hierarchy. An update that hits no row means a concurrent decision ended the instance or already
+     * reached the same step, and the attempt is retried on fresh reads. Such a traversal never reaches a JOIN,
+     * but a step it reaches may feed one, which re-arms that join. An approval that reaches no new step may
+     * complete the instance, so it locks the request first and completes the instance once no step is left.
+     */
+    private RuntimeProgressResult recordProgressInPlace(
+        WorkflowInstanceEntity instance,
+        TaskEntity decidedTask,
+        WorkflowRuntimeGraph graph,
+        RuntimeTaskSnapshot tasks
+    ) {
+        List<TaskEntity> pendingWrites = tasks.pendingWrites();
+        List<String> reachedStepKeys = pendingWrites.stream()
+            .filter(task -> ACTIVE_TASK_STATUSES.contains(task.getStatus()))
+            .map(TaskEntity::getStepKey)
+            .distinct()
+            .sorted()
+            .toList();
+
+        if (reachedStepKeys.isEmpty()) {
+            runtimeRequestJpaRepository.findByIdForUpdate(decidedTask.getRequestId())
+                .orElseThrow(() -> new NoSuchElementException("Request not found"));
+        }
+        Instant now = Instant.now();
+        ensureStepKeysUpdated(workflowInstanceJpaRepository.removeCurrentStepKey(instance.getId(), decidedTask.getStepKey(), now));
+        for (String stepKey : reachedStepKeys) {
+            ensureStepKeysUpdated(workflowInstanceJpaRepository.addCurrentStepKey(instance.getId(), stepKey, now));
+            for (String joinNodeKey : graph.joinsFedBy(stepKey)) {
+                workflowInstanceJpaRepository.removeFiredJoinKey(instance.getId(), joinNodeKey, now);
+            }
+        }
+
+        taskJpaRepository.saveAllAndFlush(pendingWrites);
+        taskInboxProjector.refresh(pendingWrites);
+
+        if (reachedStepKeys.isEmpty() && workflowInstanceJpaRepository.completeIfNoCurrentSteps(instance.getId(), now) > 0) {
+            return new RuntimeProgressResult(RuntimeRequestStatus.APPROVED);
+        }
+        return new RuntimeProgressResult(null);
+    }
+
+    private void ensureStepKeysUpdated(int updatedRows) {
+        if (updatedRows == 0) {
+            throw new OptimisticLockingFailureException("Workflow instance steps changed concurrently");
+        }
+    }
+
     private void createApprovalTask(
         WorkflowInstanceEntity instance,
         RuntimeRequestEntity request,
         String nodeKey,
-        WorkflowNodeInput node
+        WorkflowNodeInput node,
+        RuntimeTaskSnapshot tasks
     ) {
-        boolean hasActiveAtStep = taskJpaRepository
-            .findByWorkflowInstanceIdAndStatusIn(instance.getId(), ACTIVE_TASK_STATUSES)
-            .stream()
-            .anyMatch(existing -> existing.getStepKey().equals(nodeKey));
-
-        if (hasActiveAtStep) {
+        if (tasks.hasActiveTaskAt(nodeKey)) {
             return;
         }
 
@@ -515,13 +1016,13 @@ public class WorkflowRuntimeService {
         task.setJoinPolicy(null);
         task.setQuorumRequired(null);
 
-        taskJpaRepository.save(task);
+        tasks.add(task);
     }
 
     private String resolveGatewayTarget(
         String nodeKey,
         WorkflowNodeInput node,
-        RuntimeRequestEntity request,
+        LazyRuleEvaluationContext ruleContext,
         WorkflowRuntimeGraph graph
     ) {
         WorkflowRuleRefInput ruleRef = node.ruleRef();
@@ -529,94 +1030,29 @@ public class WorkflowRuntimeService {
             throw new IllegalStateException("GATEWAY node requires a valid ruleRef");
         }
 
-        RuleEvaluationContext context = new RuleEvaluationContext(
-            request.getAmount(),
-            request.getDepartment(),
-            request.getRequestType(),
-            request.getCurrency(),
-            readPayload(request.getPayloadJson())
-        );
-
-        boolean matched = ruleSetRuntimeEvaluator.matches(ruleRef.ruleSetKey(), ruleRef.version(), context);
-        return graph.resolveGatewayTarget(nodeKey, matched);
-    }
-
-    private boolean isJoinSatisfied(
-        String joinNodeKey,
-        WorkflowJoinInput join,
-        WorkflowInstanceEntity instance,
-        WorkflowRuntimeGraph graph
-    ) {
-        if (join == null || join.policy() == null) {
-            throw new IllegalStateException("JOIN node requires a join policy");
-        }
-
-        List<String> predecessorKeys = graph.predecessorKeys(joinNodeKey);
-        if (predecessorKeys.isEmpty()) {
-            return false;
+        if (graph.isDecisionGateway(nodeKey)) {
+            String branch = ruleSetRuntimeEvaluator.decide(ruleRef.ruleSetKey(), ruleRef.version(), ruleContext.get());
+            return graph.resolveDecisionTarget(nodeKey, branch);
         }
 
-        List<TaskEntity> predecessorTasks = taskJpaRepository.findByWorkflowInstanceIdAndStepKeyInAndStatusIn(
-            instance.getId(),
-            predecessorKeys,
-            TERMINAL_TASK_STATUSES
-        );
-
-        Set<String> approvedStepKeys = predecessorTasks.stream()
-            .filter(task -> task.getStatus() == TaskStatus.APPROVED)
-            .map(TaskEntity::getStepKey)
-            .collect(java.util.stream.Collectors.toSet());
-
-        return switch (join.policy()) {
-            case ALL -> predecessorKeys.stream().allMatch(approvedStepKeys::contains);
-            case ANY -> !approvedStepKeys.isEmpty();
-            case QUORUM -> {
-                int quorum = join.quorum() == null ? 0 : join.quorum();
-                yield quorum >= 1 && approvedStepKeys.size() >= quorum;
-            }
-        };
-    }
-
-    private void skipPendingJoinSiblings(String joinNodeKey, WorkflowInstanceEntity instance, WorkflowRuntimeGraph graph) {
-        List<String> predecessorKeys = graph.predecessorKeys(joinNodeKey);
-        if (predecessorKeys.isEmpty()) {
-            return;
-        }
-
-        List<TaskEntity> siblings = taskJpaRepository.findByWorkflowInstanceIdAndStepKeyInAndStatusIn(
-            instance.getId(),
-            predecessorKeys,
-            ACTIVE_TASK_STATUSES
-        );
-
-        for (TaskEntity sibling : siblings) {
-            sibling.setStatus(TaskStatus.SKIPPED);
-        }
-
-        taskJpaRepository.saveAll(siblings);
+        boolean matched = ruleSetRuntimeEvaluator.matches(ruleRef.ruleSetKey(), ruleRef.version(), ruleContext.get());
+        return graph.resolveGatewayTarget(nodeKey, matched);
     }
 
     private void cancelSiblingActiveTasks(TaskEntity decidedTask) {
-        List<TaskEntity> activeTasks = taskJpaRepository.findByWorkflowInstanceIdAndStatusIn(
-            decidedTask.getWorkflowInstanceId(),
-            ACTIVE_TASK_STATUSES
-        );
-
-        for (TaskEntity activeTask : activeTasks) {
-            if (activeTask.getId().equals(decidedTask.getId())) {
-                continue;
-            }
-            activeTask.setStatus(TaskStatus.CANCELLED);
-        }
-
-        taskJpaRepository.saveAll(activeTasks);
+        // The decided task is already terminal and gets flushed first, so the set-based update only hits siblings.
+        cancelActiveTasks(decidedTask.getWorkflowInstanceId());
     }
 
-    private Set<String> activeStepKeys(UUID workflowInstanceId) {
-        return taskJpaRepository.findByWorkflowInstanceIdAndStatusIn(workflowInstanceId, ACTIVE_TASK_STATUSES)
-            .stream()
-            .map(TaskEntity::getStepKey)
-            .collect(java.util.stream.Collectors.toCollection(LinkedHashSet::new));
+    private void cancelActiveTasks(UUID workflowInstanceId) {
+        Instant now = Instant.now();
+        taskInboxProjector.transitionInstance(workflowInstanceId, ACTIVE_TASK_STATUSES, TaskStatus.CANCELLED, now);
+        taskJpaRepository.updateStatusByWorkflowInstanceIdAndStatusIn(
+            workflowInstanceId,
+            ACTIVE_TASK_STATUSES,
+            TaskStatus.CANCELLED,
+            now
+        );
     }
 
     private void transitionRequestStatus(
@@ -687,53 +1123,6 @@ public class WorkflowRuntimeService {
         }
     }
 
-    private Specification<TaskEntity> assignmentSpecification(TaskActor actor, TaskAssignedToFilter assignedTo) {
-        Specification<TaskEntity> byMe = (root, query, builder) -> builder.or(
-            builder.equal(root.get("assigneeUserId"), actor.userId()),
-            builder.equal(root.get("claimedByUserId"), actor.userId())
-        );
-
-        Specification<TaskEntity> byRole = (root, query, builder) -> {
-            if (actor.roles().isEmpty()) {
-                return builder.disjunction();
-            }
-
-            var rolePredicate = root.get("assigneeRole").in(actor.roles());
-            var unclaimedOrMine = builder.or(
-                builder.isNull(root.get("claimedByUserId")),
-                builder.equal(root.get("claimedByUserId"), actor.userId())
-            );
-            return builder.and(rolePredicate, unclaimedOrMine);
-        };
-
-        if (assignedTo == TaskAssignedToFilter.me) {
-            return byMe;
-        }
-
-        if (assignedTo == TaskAssignedToFilter.role) {
-            return byRole;
-        }
-
-        return byMe.or(byRole);
-    }
-
-    private Sort parseSort(String sort) {
-        if (!StringUtils.hasText(sort)) {
-            return Sort.by(Sort.Direction.DESC, "createdAt");
-        }
-
-        String[] tokens = sort.split(",", 2);
-        String requestedField = tokens[0].trim();
-        String mappedField = SORT_FIELD_MAPPING.getOrDefault(requestedField, "createdAt");
-        Sort.Direction direction = Sort.Direction.DESC;
-
-        if (tokens.length > 1 && tokens[1].equalsIgnoreCase("asc")) {
-            direction = Sort.Direction.ASC;
-        }
-
-        return Sort.by(direction, mappedField);
-    }
-
     private TaskResource toTaskResource(TaskEntity task) {
         return new TaskResource(
             task.getId(),
@@ -810,6 +1199,33 @@ public class WorkflowRuntimeService {
     public record RuntimeBootstrapResult(RuntimeRequestStatus requestStatus) {
     }
 
+    /**
+     * Builds the gateway evaluation context on first use and reuses it for the rest of one traversal, so
+     * chained gateways parse the request payload at most once.
+     */
+    private final class LazyRuleEvaluationContext {
+
+        private final RuntimeRequestEntity request;
+        private RuleEvaluationContext context;
+
+        private LazyRuleEvaluationContext(RuntimeRequestEntity request) {
+            this.request = request;
+        }
+
+        private RuleEvaluationContext get() {
+            if (context == null) {
+                context = new RuleEvaluationContext(
+                    request.getAmount(),
+                    request.getDepartment(),
+                    request.getRequestType(),
+                    request.getCurrency(),
+                    readPayload(request.getPayloadJson())
+                );
+            }
+            return context;
+        }
+    }
+
     private record RuntimeProgressResult(RuntimeRequestStatus terminalRequestStatus) {
     }
 }
@@ -1,6 +1,7 @@
 package com.isaac.approvalworkflowengine.workflowtemplate;
 
 import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowGraphInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowVersionStatus;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,7 +12,12 @@ public interface WorkflowTemplateRuntimeLookup {
     record WorkflowTemplateRuntimeVersion(
         UUID workflowVersionId,
         String definitionKey,
+        WorkflowVersionStatus status,
         WorkflowGraphInput graph
     ) {
+
+        public boolean immutable() {
+            return status != null && !status.isMutable();
+        }
     }
 }
@@ -35,6 +35,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
@@ -214,6 +215,7 @@ public class WorkflowTemplateService implements WorkflowTemplateLookup, Workflow
         return Optional.of(new WorkflowTemplateRuntimeVersion(
             version.getId(),
             definition.getDefinitionKey(),
+            version.getStatus(),
             readGraph(version.getGraphJson())
         ));
     }
@@ -368,6 +370,36 @@ public class WorkflowTemplateService implements WorkflowTemplateLookup, Workflow
                         + node.id() + ": " + ruleSetKey + " v" + version
                 );
             }
+
+            validateGatewayDecisionBranches(graph, node, ruleSetKey, version);
+        }
+    }
+
+    /**
+     * A decision table gateway needs exactly one edge per branch its table can select; a boolean rule set needs
+     * the true/false edges already enforced by the graph validator.
+     */
+    private void validateGatewayDecisionBranches(WorkflowGraphInput graph, WorkflowNodeInput node, String ruleSetKey, int version) {
+        Set<String> tableBranches = ruleSetLookup.decisionBranches(ruleSetKey, version);
+        Set<String> edgeBranches = workflowGraphValidator.decisionBranchLabels(graph, node.id());
+        String reference = node.id() + ": " + ruleSetKey + " v" + version;
+
+        if (tableBranches.isEmpty() && !edgeBranches.isEmpty()) {
+            throw new IllegalStateException("Gateway node uses branch labels but its rule set is boolean for " + reference);
+        }
+        if (!tableBranches.isEmpty() && edgeBranches.isEmpty()) {
+            throw new IllegalStateException("Gateway node needs labelled edges for its decision table for " + reference);
+        }
+
+        for (String branch : tableBranches) {
+            if (!edgeBranches.contains(branch)) {
+                throw new IllegalStateException("Gateway node has no edge for decision branch " + branch + " for " + reference);
+            }
+        }
+        for (String branch : edgeBranches) {
+            if (!tableBranches.contains(branch)) {
+                throw new IllegalStateException("Gateway node edge branch " + branch + " is not in the decision table for " + reference);
+            }
         }
     }
 }
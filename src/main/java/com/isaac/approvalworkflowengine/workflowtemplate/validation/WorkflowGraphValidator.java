@@ -169,7 +169,28 @@ public class WorkflowGraphValidator {
         }
     }
 
+    /**
+     * Labels on the outgoing edges of a decision-table gateway, i.e. {@code condition.branch} values other than
+     * true/false; empty for boolean gateways.
+     */
+    public Set<String> decisionBranchLabels(WorkflowGraphInput graph, String gatewayNodeId) {
+        List<WorkflowEdgeInput> edges = graph.edges() == null ? List.of() : graph.edges();
+        Set<String> labels = new HashSet<>();
+        for (WorkflowEdgeInput edge : edgesFrom(normalizeKey(gatewayNodeId), edges)) {
+            String label = extractDecisionLabel(edge);
+            if (label != null) {
+                labels.add(label);
+            }
+        }
+        return Set.copyOf(labels);
+    }
+
     private void validateGatewayBranches(String nodeId, int outgoingEdges, List<WorkflowEdgeInput> outgoingEdgeInputs) {
+        if (outgoingEdgeInputs.stream().anyMatch(edge -> extractDecisionLabel(edge) != null)) {
+            validateDecisionBranches(nodeId, outgoingEdgeInputs);
+            return;
+        }
+
         if (outgoingEdges != 2) {
             throw new IllegalStateException("GATEWAY node must have exactly two outgoing edges: " + nodeId);
         }
@@ -203,6 +224,33 @@ public class WorkflowGraphValidator {
         }
     }
 
+    private void validateDecisionBranches(String nodeId, List<WorkflowEdgeInput> outgoingEdgeInputs) {
+        if (outgoingEdgeInputs.size() < 2) {
+            throw new IllegalStateException("GATEWAY decision node must have at least two outgoing edges: " + nodeId);
+        }
+
+        Set<String> labels = new HashSet<>();
+        for (WorkflowEdgeInput edge : outgoingEdgeInputs) {
+            String label = extractDecisionLabel(edge);
+            if (label == null) {
+                throw new IllegalStateException(
+                    "GATEWAY decision edges must all define condition.branch as a branch label for node " + nodeId
+                );
+            }
+            if (!labels.add(label)) {
+                throw new IllegalStateException("GATEWAY node cannot have duplicate branch " + label + ": " + nodeId);
+            }
+        }
+    }
+
+    private String extractDecisionLabel(WorkflowEdgeInput edge) {
+        Map<String, Object> condition = edge.condition();
+        if (condition == null || !(condition.get("branch") instanceof String label) || !StringUtils.hasText(label)) {
+            return null;
+        }
+        return extractBranch(edge) == null ? label.trim() : null;
+    }
+
     private Boolean extractBranch(WorkflowEdgeInput edge) {
         Map<String, Object> condition = edge.condition();
         if (condition == null || condition.isEmpty()) {
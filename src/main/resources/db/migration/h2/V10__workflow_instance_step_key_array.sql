@@ -0,0 +1,5 @@
+-- Store workflow instance current step keys as a native array for H2 test/local profile.
+-- The H2 database is in-memory, so the JSON text column is replaced without a backfill.
+
+ALTER TABLE workflow_instances DROP COLUMN current_step_keys;
+ALTER TABLE workflow_instances ADD COLUMN current_step_keys VARCHAR(80) ARRAY NOT NULL DEFAULT ARRAY[];
@@ -0,0 +1,7 @@
+-- Per-version regex engine for rule set matches predicates for H2 test/local profile.
+-- Existing versions were compiled with the JDK engine, so they are backfilled to JAVA.
+
+ALTER TABLE rule_sets ADD COLUMN regex_engine VARCHAR(20);
+UPDATE rule_sets SET regex_engine = 'JAVA' WHERE regex_engine IS NULL;
+ALTER TABLE rule_sets ALTER COLUMN regex_engine SET NOT NULL;
+ALTER TABLE rule_sets ADD CONSTRAINT ck_rule_sets_regex_engine CHECK (regex_engine IN ('JAVA', 'LINEAR'));
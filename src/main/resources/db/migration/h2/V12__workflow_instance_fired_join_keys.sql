@@ -0,0 +1,4 @@
+-- Record which JOIN nodes already fired per workflow instance, so a satisfied join creates its successors once.
+-- The H2 database is in-memory, so no backfill is needed.
+
+ALTER TABLE workflow_instances ADD COLUMN fired_join_keys VARCHAR(80) ARRAY NOT NULL DEFAULT ARRAY[];
@@ -0,0 +1,12 @@
+-- Store workflow instance current step keys as a native array so "instances at step X" can use a GIN index.
+
+ALTER TABLE workflow_instances ADD COLUMN current_step_keys_array VARCHAR(80)[] NOT NULL DEFAULT '{}';
+
+UPDATE workflow_instances
+SET current_step_keys_array = ARRAY(SELECT jsonb_array_elements_text(current_step_keys))
+WHERE jsonb_typeof(current_step_keys) = 'array';
+
+ALTER TABLE workflow_instances DROP COLUMN current_step_keys;
+ALTER TABLE workflow_instances RENAME COLUMN current_step_keys_array TO current_step_keys;
+
+CREATE INDEX idx_workflow_instances_current_step_keys ON workflow_instances USING GIN (current_step_keys);
@@ -0,0 +1,38 @@
+-- Record which JOIN nodes already fired per workflow instance, so a satisfied join creates its successors once
+-- even when several queued advancements reach it.
+
+ALTER TABLE workflow_instances ADD COLUMN fired_join_keys VARCHAR(80)[] NOT NULL DEFAULT '{}';
+
+-- Steps a JOIN leads to, following automatic nodes (gateways and further joins) until an approval or end.
+-- UNION drops repeated rows, so loops between automatic nodes terminate.
+-- Active instances with a task at any such step have fired that join. Every gateway branch counts, so an
+-- instance is marked conservatively rather than left open to a second firing.
+WITH RECURSIVE join_reach (workflow_version_id, join_key, node_key) AS (
+    SELECT n.workflow_version_id, n.node_key, e.to_node_key
+    FROM workflow_nodes n
+    JOIN workflow_edges e
+        ON e.workflow_version_id = n.workflow_version_id
+       AND e.from_node_key = n.node_key
+    WHERE n.node_type = 'JOIN'
+    UNION
+    SELECT r.workflow_version_id, r.join_key, e.to_node_key
+    FROM join_reach r
+    JOIN workflow_nodes n
+        ON n.workflow_version_id = r.workflow_version_id
+       AND n.node_key = r.node_key
+       AND n.node_type IN ('GATEWAY', 'JOIN')
+    JOIN workflow_edges e
+        ON e.workflow_version_id = r.workflow_version_id
+       AND e.from_node_key = r.node_key
+)
+UPDATE workflow_instances wi
+SET fired_join_keys = ARRAY(
+    SELECT DISTINCT r.join_key
+    FROM join_reach r
+    JOIN tasks t
+        ON t.workflow_instance_id = wi.id
+       AND t.step_key = r.node_key
+    WHERE r.workflow_version_id = wi.workflow_version_id
+    ORDER BY r.join_key
+)
+WHERE wi.status = 'ACTIVE';
@@ -0,0 +1,26 @@
+-- Denormalized task inbox read model: one row per task and visible principal.
+
+CREATE TABLE task_inbox_entries (
+    id UUID PRIMARY KEY,
+    task_id UUID NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,
+    principal_type VARCHAR(10) NOT NULL,
+    principal_id VARCHAR(64) NOT NULL,
+    request_id UUID NOT NULL,
+    workflow_instance_id UUID NOT NULL,
+    step_key VARCHAR(80) NOT NULL,
+    assignee_user_id UUID,
+    assignee_role VARCHAR(64),
+    status VARCHAR(20) NOT NULL,
+    due_at TIMESTAMPTZ,
+    claimed_at TIMESTAMPTZ,
+    claimed_by_user_id UUID,
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT uq_task_inbox_entries_task_principal UNIQUE (task_id, principal_type, principal_id),
+    CONSTRAINT ck_task_inbox_entries_principal_type CHECK (principal_type IN ('USER', 'ROLE'))
+);
+
+CREATE INDEX idx_task_inbox_principal_status_due ON task_inbox_entries (principal_type, principal_id, status, due_at);
+CREATE INDEX idx_task_inbox_principal_status_created ON task_inbox_entries (principal_type, principal_id, status, created_at, task_id);
+CREATE INDEX idx_task_inbox_principal_status_updated ON task_inbox_entries (principal_type, principal_id, status, updated_at, task_id);
+CREATE INDEX idx_task_inbox_instance_status ON task_inbox_entries (workflow_instance_id, status);
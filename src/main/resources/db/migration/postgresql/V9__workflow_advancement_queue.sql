@@ -0,0 +1,18 @@
+-- Durable workflow advancement queue: one row per approved task whose downstream traversal is pending.
+
+CREATE TABLE workflow_advancements (
+    id UUID PRIMARY KEY,
+    workflow_instance_id UUID NOT NULL REFERENCES workflow_instances (id) ON DELETE CASCADE,
+    request_id UUID NOT NULL,
+    from_step_key VARCHAR(80) NOT NULL,
+    actor_subject VARCHAR(128) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempt_count INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT ck_workflow_advancements_status CHECK (status IN ('PENDING', 'FAILED'))
+);
+
+CREATE INDEX idx_workflow_advancements_status_next_attempt ON workflow_advancements (status, next_attempt_at);
+CREATE INDEX idx_workflow_advancements_instance ON workflow_advancements (workflow_instance_id, created_at);
@@ -60,6 +60,46 @@ class MigrationSmokeTest {
             .isTrue();
     }
 
+    @Test
+    void taskInboxProjectionMigrationExistsForBothDialects() {
+        assertThat(new ClassPathResource("db/migration/postgresql/V8__task_inbox_projection.sql").exists())
+            .isTrue();
+        assertThat(new ClassPathResource("db/migration/h2/V8__task_inbox_projection.sql").exists())
+            .isTrue();
+    }
+
+    @Test
+    void workflowAdvancementQueueMigrationExistsForBothDialects() {
+        assertThat(new ClassPathResource("db/migration/postgresql/V9__workflow_advancement_queue.sql").exists())
+            .isTrue();
+        assertThat(new ClassPathResource("db/migration/h2/V9__workflow_advancement_queue.sql").exists())
+            .isTrue();
+    }
+
+    @Test
+    void workflowInstanceStepKeyArrayMigrationExistsForBothDialects() {
+        assertThat(new ClassPathResource("db/migration/postgresql/V10__workflow_instance_step_key_array.sql").exists())
+            .isTrue();
+        assertThat(new ClassPathResource("db/migration/h2/V10__workflow_instance_step_key_array.sql").exists())
+            .isTrue();
+    }
+
+    @Test
+    void ruleSetRegexEngineMigrationExistsForBothDialects() {
+        assertThat(new ClassPathResource("db/migration/postgresql/V11__rule_set_regex_engine.sql").exists())
+            .isTrue();
+        assertThat(new ClassPathResource("db/migration/h2/V11__rule_set_regex_engine.sql").exists())
+            .isTrue();
+    }
+
+    @Test
+    void workflowInstanceFiredJoinKeysMigrationExistsForBothDialects() {
+        assertThat(new ClassPathResource("db/migration/postgresql/V12__workflow_instance_fired_join_keys.sql").exists())
+            .isTrue();
+        assertThat(new ClassPathResource("db/migration/h2/V12__workflow_instance_fired_join_keys.sql").exists())
+            .isTrue();
+    }
+
     @Test
     void h2FlywayMigrationCreatesPlatformAuthRequestWorkflowTemplateRulesAndRuntimeTables() {
         Integer tableCount = jdbcTemplate.queryForObject(
@@ -84,13 +124,15 @@ class MigrationSmokeTest {
                 'RULE_SETS',
                 'WORKFLOW_INSTANCES',
                 'TASKS',
-                'TASK_DECISIONS'
+                'TASK_DECISIONS',
+                'TASK_INBOX_ENTRIES',
+                'WORKFLOW_ADVANCEMENTS'
             )
             """,
             Integer.class
         );
 
-        assertThat(tableCount).isEqualTo(16);
+        assertThat(tableCount).isEqualTo(18);
     }
 
     @Test
@@ -0,0 +1,74 @@
+package com.isaac.approvalworkflowengine.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.rules.config.RuleProperties;
+import com.isaac.approvalworkflowengine.rules.dsl.RuleDslParser;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleExpression;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleSet;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleCompiler;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleFieldResolver;
+import com.isaac.approvalworkflowengine.rules.service.CompiledRuleSetCache;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CompiledRuleSetCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RuleRegexGuard regexGuard = new RuleRegexGuard();
+    private final RuleDslParser parser = new RuleDslParser(regexGuard);
+    private final RuleCompiler compiler = new RuleCompiler(objectMapper, new RuleFieldResolver(), regexGuard);
+
+    @Test
+    void compilesEachVersionOnceAndRecordsHitsAndMisses() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CompiledRuleSetCache cache = new CompiledRuleSetCache(new RuleProperties(), meterRegistry);
+        AtomicInteger compilations = new AtomicInteger();
+
+        CompiledRuleSet first = cache.getOrCompile("ROUTING", 1, () -> {
+            compilations.incrementAndGet();
+            return compile("ROUTING", 1, "{\"field\":\"amount\",\"op\":\">\",\"value\":1000}");
+        });
+        CompiledRuleSet second = cache.getOrCompile("ROUTING", 1, () -> {
+            compilations.incrementAndGet();
+            return compile("ROUTING", 1, "{\"field\":\"amount\",\"op\":\">\",\"value\":1000}");
+        });
+
+        assertThat(second).isSameAs(first);
+        assertThat(compilations).hasValue(1);
+        assertThat(meterRegistry.counter("rules_compiled_cache_hits_total").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("rules_compiled_cache_misses_total").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void compiledPredicatesCarryConvertedValuesAndPatterns() {
+        CompiledRuleSet compiled = compile("ROUTING", 1, """
+            {
+              "all": [
+                {"field": "department", "op": "in", "value": ["Finance", "HR"]},
+                {"field": "payload.code", "op": "matches", "value": "EXP-[0-9]{4}"}
+              ]
+            }
+            """);
+
+        List<CompiledRuleExpression> children = ((CompiledRuleExpression.AllNode) compiled.compiled()).expressions();
+        CompiledRuleExpression.PredicateNode in = (CompiledRuleExpression.PredicateNode) children.get(0);
+        CompiledRuleExpression.PredicateNode matches = (CompiledRuleExpression.PredicateNode) children.get(1);
+
+        assertThat(in.candidates()).containsExactly("Finance", "HR");
+        assertThat(matches.pattern()).isNotNull();
+        assertThat(matches.pattern().pattern()).isEqualTo("EXP-[0-9]{4}");
+    }
+
+    private CompiledRuleSet compile(String ruleSetKey, int versionNo, String dsl) {
+        try {
+            return compiler.compile(ruleSetKey, versionNo, parser.parse(objectMapper.readTree(dsl)));
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
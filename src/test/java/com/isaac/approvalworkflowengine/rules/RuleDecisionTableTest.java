@@ -0,0 +1,196 @@
+package com.isaac.approvalworkflowengine.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.isaac.approvalworkflowengine.rules.dsl.RuleDslParser;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleSet;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleCompiler;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleFieldResolver;
+import com.isaac.approvalworkflowengine.rules.model.DecisionTable;
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.model.RuleSetType;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
+import com.isaac.approvalworkflowengine.shared.error.BadRequestException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RuleDecisionTableTest {
+
+    private static final String ROUTING_TABLE = """
+        {"decisionTable":{
+          "columns":[
+            {"field":"department","match":"equals"},
+            {"field":"amount","match":"range"},
+            {"field":"payload.priority","match":"equals"}
+          ],
+          "rows":[
+            {"when":{"department":"Finance","amount":{"min":10000}},"branch":"CFO"},
+            {"when":{"department":["Finance","Legal"],"amount":{"min":1000,"max":10000}},"branch":"CONTROLLER"},
+            {"when":{"payload.priority":1},"branch":"FAST_TRACK"},
+            {"when":{"amount":{"max":1000}},"branch":"AUTO"}
+          ],
+          "defaultBranch":"MANAGER"
+        }}
+        """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RuleRegexGuard regexGuard = new RuleRegexGuard();
+    private final RuleDslParser parser = new RuleDslParser(regexGuard);
+    private final RuleCompiler compiler = new RuleCompiler(objectMapper, new RuleFieldResolver(), regexGuard);
+
+    @Test
+    void selectsFirstMatchingRowAndFallsBackToDefault() throws Exception {
+        CompiledRuleSet table = compile(ROUTING_TABLE);
+
+        assertThat(table.type()).isEqualTo(RuleSetType.DECISION_TABLE);
+        assertThat(table.decisionTable().branches())
+            .containsExactlyInAnyOrder("CFO", "CONTROLLER", "FAST_TRACK", "AUTO", "MANAGER");
+
+        assertThat(table.decide(context("Finance", 25_000, Map.of("priority", 1)))).isEqualTo("CFO");
+        assertThat(table.decide(context("Legal", 5_000, Map.of()))).isEqualTo("CONTROLLER");
+        assertThat(table.decide(context("HR", 5_000, Map.of("priority", 1.0)))).isEqualTo("FAST_TRACK");
+        assertThat(table.decide(context("HR", 999.99, Map.of()))).isEqualTo("AUTO");
+        assertThat(table.decide(context("HR", 5_000, Map.of("priority", 2)))).isEqualTo("MANAGER");
+        assertThat(table.decide(context(null, null, Map.of()))).isEqualTo("MANAGER");
+    }
+
+    @Test
+    void rangeMinIsInclusiveAndMaxIsExclusive() throws Exception {
+        CompiledRuleSet table = compile(ROUTING_TABLE);
+
+        assertThat(table.decide(context("Finance", 10_000, Map.of()))).isEqualTo("CFO");
+        assertThat(table.decide(context("Finance", 9_999, Map.of()))).isEqualTo("CONTROLLER");
+        assertThat(table.decide(context("Finance", 1_000, Map.of()))).isEqualTo("CONTROLLER");
+        assertThat(table.decide(context("Finance", 1_000 - 0.01, Map.of()))).isEqualTo("AUTO");
+    }
+
+    @Test
+    void booleanEvaluationIsRejectedForDecisionTables() throws Exception {
+        CompiledRuleSet table = compile(ROUTING_TABLE);
+
+        assertThatThrownBy(() -> table.matches(context("Finance", 1, Map.of())))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("decision table");
+    }
+
+    @Test
+    void rejectsConditionOnUndeclaredColumn() throws Exception {
+        assertThatThrownBy(() -> compile("""
+            {"decisionTable":{
+              "columns":[{"field":"amount","match":"range"}],
+              "rows":[{"when":{"department":"Finance"},"branch":"A"}],
+              "defaultBranch":"B"
+            }}
+            """))
+            .isInstanceOf(BadRequestException.class)
+            .satisfies(exception -> assertThat(((BadRequestException) exception).details().get(0).field())
+                .isEqualTo("dsl.decisionTable.rows[0].when.department"));
+    }
+
+    @Test
+    void rejectsEmptyRangeAndReservedBranchLabels() throws Exception {
+        assertThatThrownBy(() -> compile("""
+            {"decisionTable":{
+              "columns":[{"field":"amount","match":"range"}],
+              "rows":[{"when":{"amount":{"min":100,"max":100}},"branch":"A"}],
+              "defaultBranch":"B"
+            }}
+            """))
+            .isInstanceOf(BadRequestException.class);
+
+        assertThatThrownBy(() -> compile("""
+            {"decisionTable":{
+              "columns":[{"field":"amount","match":"range"}],
+              "rows":[{"when":{"amount":{"min":100}},"branch":"true"}],
+              "defaultBranch":"B"
+            }}
+            """))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    /**
+     * Cross-checks the column indexes against a plain top-down row scan on seeded random tables and contexts.
+     */
+    @Test
+    void indexLookupAgreesWithSequentialRowScan() {
+        Random random = new Random(24_024L);
+        String[] departments = {"Finance", "HR", "Legal", "Ops"};
+
+        for (int tableIndex = 0; tableIndex < 200; tableIndex++) {
+            ObjectNode dsl = objectMapper.createObjectNode();
+            ObjectNode table = dsl.putObject(RuleDslParser.DECISION_TABLE_KEY);
+            ArrayNode columns = table.putArray("columns");
+            columns.addObject().put("field", "department").put("match", "equals");
+            columns.addObject().put("field", "amount").put("match", "range");
+            ArrayNode rows = table.putArray("rows");
+            int rowCount = 1 + random.nextInt(12);
+            for (int row = 0; row < rowCount; row++) {
+                ObjectNode when = objectMapper.createObjectNode();
+                if (random.nextBoolean()) {
+                    when.put("department", departments[random.nextInt(departments.length)]);
+                }
+                if (random.nextBoolean()) {
+                    ObjectNode range = when.putObject("amount");
+                    int min = random.nextInt(5) * 1_000;
+                    if (random.nextBoolean()) {
+                        range.put("min", min);
+                    }
+                    if (range.isEmpty() || random.nextBoolean()) {
+                        range.put("max", min + (1 + random.nextInt(3)) * 1_000);
+                    }
+                }
+                ObjectNode rowNode = rows.addObject();
+                rowNode.set("when", when);
+                rowNode.put("branch", "ROW_" + row);
+            }
+            table.put("defaultBranch", "DEFAULT");
+
+            DecisionTable parsed = parser.parseDecisionTable(dsl);
+            CompiledRuleSet compiled = compiler.compile("TABLE", 1, parsed);
+            for (int probe = 0; probe < 50; probe++) {
+                RuleEvaluationContext context = context(
+                    random.nextInt(5) == 0 ? null : departments[random.nextInt(departments.length)],
+                    random.nextInt(5) == 0 ? null : random.nextInt(8_000),
+                    Map.of()
+                );
+                assertThat(compiled.decide(context)).isEqualTo(scan(parsed, context));
+            }
+        }
+    }
+
+    private String scan(DecisionTable table, RuleEvaluationContext context) {
+        for (DecisionTable.Row row : table.rows()) {
+            JsonNode department = row.when().get("department");
+            JsonNode amount = row.when().get("amount");
+            boolean departmentMatches = department == null || department.asText().equals(context.department());
+            boolean amountMatches = amount == null || (context.amount() != null
+                && (!amount.has("min") || context.amount().compareTo(amount.get("min").decimalValue()) >= 0)
+                && (!amount.has("max") || context.amount().compareTo(amount.get("max").decimalValue()) < 0));
+            if (departmentMatches && amountMatches) {
+                return row.branch();
+            }
+        }
+        return table.defaultBranch();
+    }
+
+    private CompiledRuleSet compile(String dsl) throws Exception {
+        return compiler.compile("ROUTING", 1, parser.parseDecisionTable(objectMapper.readTree(dsl)));
+    }
+
+    private RuleEvaluationContext context(String department, Number amount, Map<String, Object> payload) {
+        return new RuleEvaluationContext(
+            amount == null ? null : new BigDecimal(amount.toString()),
+            department,
+            "EXPENSE",
+            "USD",
+            payload
+        );
+    }
+}
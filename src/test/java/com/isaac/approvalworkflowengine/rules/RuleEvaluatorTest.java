@@ -2,17 +2,21 @@ package com.isaac.approvalworkflowengine.rules;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.isaac.approvalworkflowengine.rules.dsl.RuleDslParser;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleCompiler;
 import com.isaac.approvalworkflowengine.rules.evaluation.RuleEvaluationResult;
 import com.isaac.approvalworkflowengine.rules.evaluation.RuleEvaluator;
 import com.isaac.approvalworkflowengine.rules.evaluation.RuleFieldResolver;
 import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
 import com.isaac.approvalworkflowengine.rules.model.RuleExpression;
+import com.isaac.approvalworkflowengine.rules.model.RuleRegexEngine;
 import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
 import com.isaac.approvalworkflowengine.shared.error.BadRequestException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -22,7 +26,9 @@ class RuleEvaluatorTest {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final RuleRegexGuard regexGuard = new RuleRegexGuard();
     private final RuleDslParser parser = new RuleDslParser(regexGuard);
-    private final RuleEvaluator evaluator = new RuleEvaluator(objectMapper, new RuleFieldResolver(), regexGuard);
+    private final RuleFieldResolver fieldResolver = new RuleFieldResolver();
+    private final RuleCompiler compiler = new RuleCompiler(objectMapper, fieldResolver, regexGuard);
+    private final RuleEvaluator evaluator = new RuleEvaluator(compiler, regexGuard);
 
     @Test
     void evaluatesAllOperatorsCorrectly() throws Exception {
@@ -89,11 +95,103 @@ class RuleEvaluatorTest {
             .hasMessage("Rule DSL is invalid");
     }
 
+    @Test
+    void booleanFastPathAndCompiledPredicateAgreeWithTracedEvaluation() throws Exception {
+        RuleEvaluationContext context = defaultContext();
+        List<String> rules = List.of(
+            "{\"all\":[{\"field\":\"amount\",\"op\":\">=\",\"value\":1000},{\"field\":\"department\",\"op\":\"==\",\"value\":\"HR\"}]}",
+            "{\"any\":[{\"field\":\"amount\",\"op\":\"<\",\"value\":10},{\"field\":\"payload.tags\",\"op\":\"contains\",\"value\":\"capex\"}]}",
+            "{\"not\":{\"field\":\"payload.metadata.region\",\"op\":\"in\",\"value\":[\"EU\",\"APAC\"]}}",
+            "{\"field\":\"payload.code\",\"op\":\"matches\",\"value\":\"EXP-[0-9]{4}\"}",
+            "{\"field\":\"amount\",\"op\":\"in\",\"value\":[10, 1500.00]}",
+            "{\"field\":\"amount\",\"op\":\"!=\",\"value\":1500.0}",
+            "{\"field\":\"payload.missing\",\"op\":\"==\",\"value\":null}"
+        );
+
+        for (String dsl : rules) {
+            RuleExpression expression = parser.parse(objectMapper.readTree(dsl));
+            boolean traced = evaluator.evaluate(expression, context).matched();
+            boolean fast = compiler.compilePredicate(compiler.compile(expression)).test(context);
+            boolean compiled = compiler.compile("BENCH", 1, expression).matches(context);
+            assertThat(fast).as(dsl).isEqualTo(traced);
+            assertThat(compiled).as(dsl).isEqualTo(traced);
+        }
+    }
+
+    @Test
+    void booleanFastPathShortCircuitsRemainingChildren() throws Exception {
+        RuleEvaluationContext context = new RuleEvaluationContext(
+            BigDecimal.valueOf(1500),
+            "Finance",
+            "EXPENSE",
+            "USD",
+            Map.of("code", "X".repeat(4_001))
+        );
+
+        RuleExpression expression = parser.parse(objectMapper.readTree("""
+            {"any": [
+              {"field": "department", "op": "==", "value": "Finance"},
+              {"field": "payload.code", "op": "matches", "value": "X+"}
+            ]}
+            """));
+
+        assertThat(compiler.compile("SHORT_CIRCUIT", 1, expression).matches(context)).isTrue();
+        assertThatThrownBy(() -> evaluator.evaluate(expression, context))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void linearRegexEngineMatchesCatastrophicPatternInLinearTimeOnLargeInput() throws Exception {
+        RuleExpression expression = parser.parse(
+            objectMapper.readTree("{\"field\":\"payload.code\",\"op\":\"matches\",\"value\":\"(a+)+$\"}"),
+            RuleRegexEngine.LINEAR
+        );
+        RuleEvaluationContext context = new RuleEvaluationContext(
+            BigDecimal.valueOf(1500),
+            "Finance",
+            "EXPENSE",
+            "USD",
+            Map.of("code", "a".repeat(50_000) + "b")
+        );
+
+        boolean matched = assertTimeoutPreemptively(
+            Duration.ofSeconds(5),
+            () -> evaluator.evaluate(compiler.compile(expression, RuleRegexEngine.LINEAR), context).matched()
+        );
+
+        assertThat(matched).isFalse();
+        assertThat(compiler.compile("LINEAR", 1, expression, RuleRegexEngine.LINEAR).matches(context)).isFalse();
+    }
+
+    @Test
+    void linearRegexEngineRejectsSyntaxItCannotMatchInLinearTime() throws Exception {
+        String dsl = "{\"field\":\"payload.code\",\"op\":\"matches\",\"value\":\"EXP-[0-9]++\"}";
+
+        assertThat(parser.parse(objectMapper.readTree(dsl), RuleRegexEngine.JAVA)).isNotNull();
+        assertThatThrownBy(() -> parser.parse(objectMapper.readTree(dsl), RuleRegexEngine.LINEAR))
+            .isInstanceOf(BadRequestException.class)
+            .satisfies(exception -> assertThat(((BadRequestException) exception).details().get(0).field())
+                .isEqualTo("dsl.value"));
+    }
+
     private RuleEvaluationResult evaluate(String dsl, RuleEvaluationContext context) throws Exception {
         RuleExpression expression = parser.parse(objectMapper.readTree(dsl));
         return evaluator.evaluate(expression, context);
     }
 
+    @Test
+    void fieldAccessorsResolveFixedFieldsAndNestedPayloadPaths() {
+        RuleEvaluationContext context = defaultContext();
+
+        assertThat(fieldResolver.accessor("amount").resolve(context)).isEqualTo(BigDecimal.valueOf(1500));
+        assertThat(fieldResolver.accessor("department").resolve(context)).isEqualTo("Finance");
+        assertThat(fieldResolver.accessor("payload.vendor").resolve(context)).isEqualTo("Acme Supplies");
+        assertThat(fieldResolver.accessor("payload.metadata.region").resolve(context)).isEqualTo("NA");
+        assertThat(fieldResolver.accessor("payload.vendor.name").resolve(context)).isNull();
+        assertThat(fieldResolver.accessor("payload.missing.region").resolve(context)).isNull();
+        assertThat(fieldResolver.accessor("unknown").resolve(context)).isNull();
+    }
+
     private RuleEvaluationContext defaultContext() {
         return new RuleEvaluationContext(
             BigDecimal.valueOf(1500),
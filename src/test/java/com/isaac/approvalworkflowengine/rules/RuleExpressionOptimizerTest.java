@@ -0,0 +1,196 @@
+package com.isaac.approvalworkflowengine.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.isaac.approvalworkflowengine.rules.dsl.RuleDslParser;
+import com.isaac.approvalworkflowengine.rules.evaluation.CompiledRuleExpression;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleCompiler;
+import com.isaac.approvalworkflowengine.rules.evaluation.RuleFieldResolver;
+import com.isaac.approvalworkflowengine.rules.model.RuleEvaluationContext;
+import com.isaac.approvalworkflowengine.rules.model.RuleExpression;
+import com.isaac.approvalworkflowengine.rules.validation.RuleRegexGuard;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+class RuleExpressionOptimizerTest {
+
+    private static final String[] FIELDS = {
+        "amount", "department", "requestType", "currency", "payload",
+        "payload.code", "payload.tags", "payload.count", "payload.metadata.region", "payload.missing"
+    };
+    private static final String[] OPERATORS = {"==", "!=", ">", ">=", "<", "<=", "in", "contains", "matches"};
+    private static final String[] TEXTS = {"Finance", "HR", "EXPENSE", "USD", "EUR", "NA", "EU", "urgent", "EXP-2026"};
+    private static final String[] PATTERNS = {"EXP-[0-9]{4}", "X+", "[A-Z]+", "Fin.*"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RuleRegexGuard regexGuard = new RuleRegexGuard();
+    private final RuleDslParser parser = new RuleDslParser(regexGuard);
+    private final RuleCompiler compiler = new RuleCompiler(objectMapper, new RuleFieldResolver(), regexGuard);
+
+    @Test
+    void flattensDeduplicatesFoldsDoubleNegationAndOrdersByCost() throws Exception {
+        CompiledRuleExpression optimized = optimize("""
+            {"all":[
+              {"field":"payload.code","op":"matches","value":"X+"},
+              {"all":[
+                {"field":"payload.metadata.region","op":"==","value":"NA"},
+                {"field":"department","op":"==","value":"Finance"}
+              ]},
+              {"field":"department","op":"==","value":"Finance"},
+              {"not":{"not":{"field":"amount","op":">","value":1}}}
+            ]}
+            """);
+
+        assertThat(optimized).isInstanceOf(CompiledRuleExpression.AllNode.class);
+        assertThat(((CompiledRuleExpression.AllNode) optimized).expressions())
+            .extracting(child -> ((CompiledRuleExpression.PredicateNode) child).source().field())
+            .containsExactly("department", "amount", "payload.metadata.region", "payload.code");
+    }
+
+    @Test
+    void foldsPredicatesThatCanNeverMatch() throws Exception {
+        CompiledRuleExpression anyWithDeadBranch = optimize("""
+            {"any":[
+              {"field":"amount","op":">","value":"not-a-number"},
+              {"field":"department","op":"==","value":"HR"}
+            ]}
+            """);
+        CompiledRuleExpression allWithDeadBranch = optimize("""
+            {"all":[
+              {"field":"department","op":"==","value":"HR"},
+              {"not":{"not":{"field":"amount","op":"<","value":null}}}
+            ]}
+            """);
+
+        assertThat(anyWithDeadBranch).isInstanceOf(CompiledRuleExpression.PredicateNode.class);
+        assertThat(allWithDeadBranch).isEqualTo(new CompiledRuleExpression.ConstantNode(false));
+    }
+
+    /**
+     * Property check over seeded random rule trees and contexts: whenever the author-order fast path evaluates
+     * without error, the optimized predicate must also evaluate without error and agree with it.
+     */
+    @Test
+    void optimizedPredicateAgreesWithUnoptimizedEvaluationOnRandomRules() throws Exception {
+        Random random = new Random(20_260_417L);
+        List<RuleEvaluationContext> contexts = new ArrayList<>();
+        for (int index = 0; index < 40; index++) {
+            contexts.add(randomContext(random));
+        }
+
+        int compared = 0;
+        for (int ruleIndex = 0; ruleIndex < 1_500; ruleIndex++) {
+            JsonNode dsl = randomExpression(random, 4, new ArrayList<>());
+            RuleExpression expression = parser.parse(dsl);
+            CompiledRuleExpression compiled = compiler.compile(expression);
+            Predicate<RuleEvaluationContext> optimized = compiler.compilePredicate(compiler.optimize(compiled));
+
+            for (RuleEvaluationContext context : contexts) {
+                boolean expected;
+                try {
+                    expected = compiler.compilePredicate(compiled).test(context);
+                } catch (RuntimeException exception) {
+                    continue;
+                }
+                assertThat(optimized.test(context)).as("%s with %s", dsl, context).isEqualTo(expected);
+                compared++;
+            }
+        }
+
+        assertThat(compared).isGreaterThan(10_000);
+    }
+
+    private CompiledRuleExpression optimize(String dsl) throws Exception {
+        return compiler.optimize(compiler.compile(parser.parse(objectMapper.readTree(dsl))));
+    }
+
+    private JsonNode randomExpression(Random random, int depth, List<JsonNode> generated) {
+        if (!generated.isEmpty() && random.nextInt(6) == 0) {
+            return generated.get(random.nextInt(generated.size())).deepCopy();
+        }
+
+        int kind = depth == 0 ? 3 : random.nextInt(5);
+        JsonNode expression = switch (kind) {
+            case 0, 1 -> {
+                ObjectNode group = objectMapper.createObjectNode();
+                ArrayNode children = group.putArray(kind == 0 ? "all" : "any");
+                int size = 1 + random.nextInt(4);
+                for (int index = 0; index < size; index++) {
+                    children.add(randomExpression(random, depth - 1, generated));
+                }
+                yield group;
+            }
+            case 2 -> {
+                ObjectNode not = objectMapper.createObjectNode();
+                not.set("not", randomExpression(random, depth - 1, generated));
+                yield not;
+            }
+            default -> randomPredicate(random);
+        };
+        generated.add(expression);
+        return expression;
+    }
+
+    private JsonNode randomPredicate(Random random) {
+        String operator = OPERATORS[random.nextInt(OPERATORS.length)];
+        ObjectNode predicate = objectMapper.createObjectNode();
+        predicate.put("field", FIELDS[random.nextInt(FIELDS.length)]);
+        predicate.put("op", operator);
+
+        switch (operator) {
+            case "in" -> {
+                ArrayNode values = predicate.putArray("value");
+                int size = 1 + random.nextInt(3);
+                for (int index = 0; index < size; index++) {
+                    values.add(objectMapper.valueToTree(randomScalar(random)));
+                }
+            }
+            case "matches" -> predicate.put("value", PATTERNS[random.nextInt(PATTERNS.length)]);
+            default -> predicate.set("value", objectMapper.valueToTree(randomScalar(random)));
+        }
+        return predicate;
+    }
+
+    private Object randomScalar(Random random) {
+        return switch (random.nextInt(5)) {
+            case 0 -> random.nextInt(3_000);
+            case 1 -> new BigDecimal("1500.00");
+            case 2 -> null;
+            default -> TEXTS[random.nextInt(TEXTS.length)];
+        };
+    }
+
+    private RuleEvaluationContext randomContext(Random random) {
+        Map<String, Object> payload = new HashMap<>();
+        if (random.nextBoolean()) {
+            payload.put("code", random.nextInt(8) == 0 ? "X".repeat(4_001) : TEXTS[random.nextInt(TEXTS.length)]);
+        }
+        if (random.nextBoolean()) {
+            payload.put("tags", List.of(TEXTS[random.nextInt(TEXTS.length)], TEXTS[random.nextInt(TEXTS.length)]));
+        }
+        if (random.nextBoolean()) {
+            payload.put("count", random.nextInt(3_000));
+        }
+        if (random.nextBoolean()) {
+            payload.put("metadata", Map.of("region", random.nextBoolean() ? "NA" : "EU"));
+        }
+
+        return new RuleEvaluationContext(
+            random.nextInt(5) == 0 ? null : BigDecimal.valueOf(random.nextInt(3_000)),
+            random.nextBoolean() ? "Finance" : "HR",
+            random.nextBoolean() ? "EXPENSE" : null,
+            random.nextBoolean() ? "USD" : "EUR",
+            payload
+        );
+    }
+}
@@ -8,6 +8,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,12 +41,14 @@ class RuleSetApiTest {
 
         assertThat(versionOne.get("versionNo").asInt()).isEqualTo(1);
         assertThat(versionTwo.get("versionNo").asInt()).isEqualTo(2);
+        assertThat(versionOne.get("regexEngine").asText()).isEqualTo("JAVA");
 
         mockMvc.perform(get("/api/rule-sets/" + ruleSetKey + "/versions/1")
                 .header("Authorization", "Bearer " + adminToken))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.ruleSetKey").value(ruleSetKey))
-            .andExpect(jsonPath("$.versionNo").value(1));
+            .andExpect(jsonPath("$.versionNo").value(1))
+            .andExpect(jsonPath("$.regexEngine").value("JAVA"));
 
         mockMvc.perform(get("/api/rule-sets/" + ruleSetKey + "/versions")
                 .header("Authorization", "Bearer " + adminToken)
@@ -96,6 +100,234 @@ class RuleSetApiTest {
             .andExpect(jsonPath("$.traces[0].expressionType").isNotEmpty());
     }
 
+    @Test
+    void decisionTableVersionSimulatesToBranchLabel() throws Exception {
+        String adminToken = loginAndExtractToken("admin", "password");
+        String ruleSetKey = "TABLE_RULES_" + uniqueSuffix();
+
+        JsonNode version = createRuleSetVersion(adminToken, ruleSetKey, """
+            {"decisionTable":{
+              "columns":[{"field":"department","match":"equals"},{"field":"amount","match":"range"}],
+              "rows":[
+                {"when":{"department":"Finance","amount":{"min":1000}},"branch":"FINANCE_HIGH"},
+                {"when":{"department":"Finance"},"branch":"FINANCE"}
+              ],
+              "defaultBranch":"MANAGER"
+            }}
+            """);
+        assertThat(version.get("type").asText()).isEqualTo("DECISION_TABLE");
+
+        mockMvc.perform(post("/api/rule-sets/simulations")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(simulationPayload(ruleSetKey, 1, 1500)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched").value(true))
+            .andExpect(jsonPath("$.branch").value("FINANCE_HIGH"))
+            .andExpect(jsonPath("$.traces[0].path").value("$.decisionTable.rows[0]"));
+
+        mockMvc.perform(post("/api/rule-sets/simulations")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(simulationPayload(ruleSetKey, 1, 500)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.branch").value("FINANCE"));
+    }
+
+    @Test
+    void linearRegexEngineVersionIsStoredAndRejectsUnsupportedSyntax() throws Exception {
+        String adminToken = loginAndExtractToken("admin", "password");
+        String ruleSetKey = "LINEAR_REGEX_RULES_" + uniqueSuffix();
+
+        MvcResult created = mockMvc.perform(post("/api/rule-sets/" + ruleSetKey + "/versions")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"dsl":{"field":"department","op":"matches","value":"(F+)+inance"},"regexEngine":"LINEAR"}
+                    """))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.regexEngine").value("LINEAR"))
+            .andReturn();
+        assertThat(objectMapper.readTree(created.getResponse().getContentAsString()).get("versionNo").asInt())
+            .isEqualTo(1);
+
+        mockMvc.perform(post("/api/rule-sets/simulations")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(simulationPayload(ruleSetKey, 1, 1500)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched").value(true));
+
+        mockMvc.perform(post("/api/rule-sets/" + ruleSetKey + "/versions")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"dsl":{"field":"department","op":"matches","value":"Fin++ance"},"regexEngine":"LINEAR"}
+                    """))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.details[0].field").value("dsl.value"));
+    }
+
+    @Test
+    void batchSimulationStreamsOrderedResultsAndSummary() throws Exception {
+        String adminToken = loginAndExtractToken("admin", "password");
+        String ruleSetKey = "BATCH_RULES_" + uniqueSuffix();
+
+        createRuleSetVersion(adminToken, ruleSetKey, amountGreaterDsl(1000));
+
+        MvcResult result = mockMvc.perform(post("/api/rule-sets/simulations/batch")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("ruleSetKey", ruleSetKey)
+                .param("versionNo", "1")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("""
+                    {"amount":500,"currency":"USD"}
+                    {"amount":1500,"currency":"USD"}
+
+                    {"amount":
+                    {"amount":2500,"currency":"USD"}
+                    """))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        String[] lines = result.getResponse().getContentAsString().strip().split("\n");
+        assertThat(lines).hasSize(5);
+
+        for (int index = 0; index < 4; index++) {
+            assertThat(objectMapper.readTree(lines[index]).get("index").asInt()).isEqualTo(index);
+        }
+        assertThat(objectMapper.readTree(lines[0]).get("matched").asBoolean()).isFalse();
+        assertThat(objectMapper.readTree(lines[1]).get("matched").asBoolean()).isTrue();
+        assertThat(objectMapper.readTree(lines[2]).get("error").asText()).startsWith("Invalid context JSON");
+        assertThat(objectMapper.readTree(lines[3]).get("matched").asBoolean()).isTrue();
+
+        JsonNode summary = objectMapper.readTree(lines[4]).get("summary");
+        assertThat(summary.get("ruleSetKey").asText()).isEqualTo(ruleSetKey);
+        assertThat(summary.get("total").asLong()).isEqualTo(4);
+        assertThat(summary.get("matched").asLong()).isEqualTo(2);
+        assertThat(summary.get("unmatched").asLong()).isEqualTo(1);
+        assertThat(summary.get("failed").asLong()).isEqualTo(1);
+        assertThat(summary.get("truncated").asBoolean()).isFalse();
+    }
+
+    @Test
+    void batchSimulationOfUnknownVersionReturnsNotFound() throws Exception {
+        String adminToken = loginAndExtractToken("admin", "password");
+
+        mockMvc.perform(post("/api/rule-sets/simulations/batch")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("ruleSetKey", "MISSING_RULES")
+                .param("versionNo", "1")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"amount\":1}\n"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.code").value("NOT_FOUND"));
+    }
+
+    @Test
+    void batchSimulationOverStoredRequestsStreamsOneItemPerRequest() throws Exception {
+        String adminToken = loginAndExtractToken("admin", "password");
+        String requestorToken = loginAndExtractToken("requestor", "password");
+        String ruleSetKey = "STORED_BATCH_RULES_" + uniqueSuffix();
+        String requestType = "STORED_BATCH_" + uniqueSuffix();
+
+        createRuleSetVersion(adminToken, ruleSetKey, amountGreaterDsl(1000));
+
+        Instant from = Instant.now().minus(1, ChronoUnit.MINUTES);
+        for (int amount : new int[] {500, 1500, 2500}) {
+            createRequest(requestorToken, requestType, amount);
+        }
+        Instant to = Instant.now().plus(1, ChronoUnit.MINUTES);
+
+        MvcResult result = mockMvc.perform(post("/api/rule-sets/simulations/batch/requests")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "ruleSetKey":"%s",
+                      "versionNo":1,
+                      "from":"%s",
+                      "to":"%s",
+                      "requestType":"%s"
+                    }
+                    """.formatted(ruleSetKey, from, to, requestType)))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        String[] lines = result.getResponse().getContentAsString().strip().split("\n");
+        assertThat(lines).hasSize(4);
+
+        for (int index = 0; index < 3; index++) {
+            JsonNode item = objectMapper.readTree(lines[index]);
+            assertThat(item.get("index").asInt()).isEqualTo(index);
+            assertThat(item.get("requestId").asText()).isNotBlank();
+            assertThat(item.hasNonNull("error")).isFalse();
+        }
+
+        JsonNode summary = objectMapper.readTree(lines[3]).get("summary");
+        assertThat(summary.get("total").asLong()).isEqualTo(3);
+        assertThat(summary.get("matched").asLong()).isEqualTo(2);
+        assertThat(summary.get("unmatched").asLong()).isEqualTo(1);
+        assertThat(summary.get("failed").asLong()).isZero();
+    }
+
+    @Test
+    void impactAnalysisCountsRequestsWhoseOutcomeFlipsBetweenVersions() throws Exception {
+        String adminToken = loginAndExtractToken("admin", "password");
+        String requestorToken = loginAndExtractToken("requestor", "password");
+        String ruleSetKey = "IMPACT_RULES_" + uniqueSuffix();
+        String requestType = "IMPACT_" + uniqueSuffix();
+
+        createRuleSetVersion(adminToken, ruleSetKey, amountGreaterDsl(1000));
+        createRuleSetVersion(adminToken, ruleSetKey, amountGreaterDsl(2000));
+
+        Instant from = Instant.now().minus(1, ChronoUnit.MINUTES);
+        for (int amount : new int[] {500, 1500, 2500}) {
+            createRequest(requestorToken, requestType, amount);
+        }
+        Instant to = Instant.now().plus(1, ChronoUnit.MINUTES);
+
+        mockMvc.perform(post("/api/rule-sets/" + ruleSetKey + "/impact-analyses")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "baseVersionNo":1,
+                      "candidateVersionNo":2,
+                      "from":"%s",
+                      "to":"%s",
+                      "requestType":"%s"
+                    }
+                    """.formatted(from, to, requestType)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.evaluated").value(3))
+            .andExpect(jsonPath("$.baseMatched").value(2))
+            .andExpect(jsonPath("$.candidateMatched").value(1))
+            .andExpect(jsonPath("$.flippedToMatched").value(0))
+            .andExpect(jsonPath("$.flippedToUnmatched").value(1))
+            .andExpect(jsonPath("$.failed").value(0))
+            .andExpect(jsonPath("$.samples.length()").value(1))
+            .andExpect(jsonPath("$.samples[0].baseMatched").value(true))
+            .andExpect(jsonPath("$.samples[0].candidateMatched").value(false));
+    }
+
+    @Test
+    void impactAnalysisRejectsEmptyWindow() throws Exception {
+        String adminToken = loginAndExtractToken("admin", "password");
+        Instant now = Instant.now();
+
+        mockMvc.perform(post("/api/rule-sets/ANY_RULES/impact-analyses")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"baseVersionNo":1,"candidateVersionNo":2,"from":"%s","to":"%s"}
+                    """.formatted(now, now)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.details[0].field").value("to"));
+    }
+
     @Test
     void unknownRuleSetVersionReturnsNotFound() throws Exception {
         String adminToken = loginAndExtractToken("admin", "password");
@@ -133,6 +365,23 @@ class RuleSetApiTest {
         return objectMapper.readTree(result.getResponse().getContentAsString());
     }
 
+    private void createRequest(String token, String requestType, int amount) throws Exception {
+        mockMvc.perform(post("/api/requests")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "requestType":"%s",
+                      "title":"Impact analysis request",
+                      "payload":{"amount":%d},
+                      "amount":%d,
+                      "currency":"USD",
+                      "department":"Finance"
+                    }
+                    """.formatted(requestType, amount, amount)))
+            .andExpect(status().isCreated());
+    }
+
     private String loginAndExtractToken(String usernameOrEmail, String password) throws Exception {
         MvcResult result = mockMvc.perform(post("/api/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
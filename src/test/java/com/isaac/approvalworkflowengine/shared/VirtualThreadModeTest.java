@@ -0,0 +1,99 @@
+package com.isaac.approvalworkflowengine.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.shared.config.VirtualThreadProperties;
+import com.isaac.approvalworkflowengine.shared.web.VirtualThreadAdmissionFilter;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = {
+    "spring.threads.virtual.enabled=true",
+    "app.threads.virtual.max-concurrent-requests=1",
+    "app.threads.virtual.admission-timeout=PT0.1S",
+})
+@ActiveProfiles("test")
+class VirtualThreadModeTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private VirtualThreadAdmissionFilter admissionFilter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void asyncExecutorRunsOnVirtualThreads() throws Exception {
+        Boolean virtual = applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+
+        assertThat(virtual).isTrue();
+    }
+
+    @Test
+    void admissionLimitDefaultsToMultipleOfHikariPoolSize() {
+        VirtualThreadAdmissionFilter derived = new VirtualThreadAdmissionFilter(
+            new VirtualThreadProperties(),
+            objectMapper,
+            dataSource
+        );
+
+        assertThat(admissionFilter.maxConcurrentRequests()).isEqualTo(1);
+        assertThat(derived.maxConcurrentRequests()).isEqualTo(40);
+    }
+
+    @Test
+    void saturatedAdmissionRejectsWithServiceUnavailable() throws Exception {
+        CountDownLatch admitted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() -> {
+            try {
+                admissionFilter.doFilter(
+                    new MockHttpServletRequest("GET", "/api/tasks"),
+                    new MockHttpServletResponse(),
+                    (request, response) -> {
+                        admitted.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                );
+            } catch (Exception exception) {
+                throw new IllegalStateException(exception);
+            }
+        });
+
+        try {
+            assertThat(admitted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse rejected = new MockHttpServletResponse();
+            admissionFilter.doFilter(new MockHttpServletRequest("GET", "/api/tasks"), rejected, (request, response) -> {
+            });
+
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(rejected.getContentAsString()).contains("\"code\":\"SERVER_BUSY\"");
+        } finally {
+            release.countDown();
+            inFlight.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
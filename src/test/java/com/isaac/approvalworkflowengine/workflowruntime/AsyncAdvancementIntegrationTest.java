@@ -0,0 +1,301 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowInstanceExecutor;
+import com.isaac.approvalworkflowengine.workflowruntime.service.WorkflowAdvancementWorker;
+import com.isaac.approvalworkflowengine.workflowruntime.service.WorkflowRuntimeService;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "app.security.rate-limit.enabled=false",
+    "app.runtime.advancement.mode=ASYNC",
+    "app.runtime.instance-executor.queue-timeout=PT0.2S",
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AsyncAdvancementIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private WorkflowAdvancementWorker workflowAdvancementWorker;
+
+    @Autowired
+    private WorkflowRuntimeService workflowRuntimeService;
+
+    @Autowired
+    private WorkflowInstanceExecutor workflowInstanceExecutor;
+
+    @Test
+    void approvalCommitsImmediatelyAndWorkerAdvancesLater() throws Exception {
+        AsyncContext context = submitSequentialWorkflow();
+
+        UUID firstTask = pendingTaskAt(context.requestId(), "approve_first");
+        claimAndApprove(context, firstTask, "async-first");
+
+        assertThat(queuedAdvancements(context.requestId())).isEqualTo(1);
+        assertThat(pendingTaskCount(context.requestId(), "approve_second")).isZero();
+
+        assertThat(workflowAdvancementWorker.drain()).isEqualTo(1);
+
+        assertThat(queuedAdvancements(context.requestId())).isZero();
+        UUID secondTask = pendingTaskAt(context.requestId(), "approve_second");
+        claimAndApprove(context, secondTask, "async-second");
+
+        requestStatus(context, "IN_REVIEW");
+        workflowAdvancementWorker.drain();
+        requestStatus(context, "APPROVED");
+    }
+
+    @Test
+    void queuedAdvancementRunsAtMostOnce() throws Exception {
+        AsyncContext context = submitSequentialWorkflow();
+
+        UUID firstTask = pendingTaskAt(context.requestId(), "approve_first");
+        claimAndApprove(context, firstTask, "async-once");
+
+        UUID advancementId = jdbcTemplate.queryForObject(
+            "select id from workflow_advancements where request_id = ?",
+            UUID.class,
+            context.requestId()
+        );
+
+        workflowRuntimeService.advance(advancementId);
+        workflowRuntimeService.advance(advancementId);
+
+        Integer secondStepTasks = jdbcTemplate.queryForObject(
+            "select count(*) from tasks where request_id = ? and step_key = 'approve_second'",
+            Integer.class,
+            context.requestId()
+        );
+        assertThat(secondStepTasks).isEqualTo(1);
+        assertThat(queuedAdvancements(context.requestId())).isZero();
+    }
+
+    @Test
+    void satisfiedJoinFiresOnceWhenPostJoinTaskIsDecidedBeforeLaterRowDrains() throws Exception {
+        AsyncContext context = submitWorkflow("""
+            {
+              "nodes":[
+                {"id":"start","type":"START"},
+                {"id":"approve_a","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                {"id":"approve_b","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                {"id":"join","type":"JOIN","join":{"policy":"ALL"}},
+                {"id":"approve_final","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                {"id":"end","type":"END"}
+              ],
+              "edges":[
+                {"from":"start","to":"approve_a"},
+                {"from":"start","to":"approve_b"},
+                {"from":"approve_a","to":"join"},
+                {"from":"approve_b","to":"join"},
+                {"from":"join","to":"approve_final"},
+                {"from":"approve_final","to":"end"}
+              ]
+            }
+            """);
+
+        claimAndApprove(context, pendingTaskAt(context.requestId(), "approve_a"), "join-a");
+        claimAndApprove(context, pendingTaskAt(context.requestId(), "approve_b"), "join-b");
+        assertThat(queuedAdvancements(context.requestId())).isEqualTo(2);
+
+        List<UUID> advancementIds = jdbcTemplate.queryForList(
+            "select id from workflow_advancements where request_id = ? order by from_step_key",
+            UUID.class,
+            context.requestId()
+        );
+        workflowRuntimeService.advance(advancementIds.get(0));
+
+        claimAndApprove(context, pendingTaskAt(context.requestId(), "approve_final"), "join-final");
+
+        workflowRuntimeService.advance(advancementIds.get(1));
+
+        Integer finalStepTasks = jdbcTemplate.queryForObject(
+            "select count(*) from tasks where request_id = ? and step_key = 'approve_final'",
+            Integer.class,
+            context.requestId()
+        );
+        assertThat(finalStepTasks).isEqualTo(1);
+
+        workflowAdvancementWorker.drain();
+        assertThat(queuedAdvancements(context.requestId())).isZero();
+        requestStatus(context, "APPROVED");
+    }
+
+    @Test
+    void busyInstanceLaneDefersItsRowsWithoutFailingThePoll() throws Exception {
+        AsyncContext context = submitSequentialWorkflow();
+        claimAndApprove(context, pendingTaskAt(context.requestId(), "approve_first"), "async-busy");
+        UUID workflowInstanceId = jdbcTemplate.queryForObject(
+            "select workflow_instance_id from workflow_advancements where request_id = ?",
+            UUID.class,
+            context.requestId()
+        );
+
+        CountDownLatch laneHeld = new CountDownLatch(1);
+        CountDownLatch releaseLane = new CountDownLatch(1);
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        try {
+            holder.submit(() -> workflowInstanceExecutor.execute(workflowInstanceId, () -> {
+                laneHeld.countDown();
+                try {
+                    return releaseLane.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }));
+            assertThat(laneHeld.await(5, TimeUnit.SECONDS)).isTrue();
+
+            workflowAdvancementWorker.drain();
+        } finally {
+            releaseLane.countDown();
+            holder.shutdown();
+        }
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "select attempt_count, status from workflow_advancements where request_id = ?",
+            context.requestId()
+        );
+        Timestamp nextAttemptAt = jdbcTemplate.queryForObject(
+            "select next_attempt_at from workflow_advancements where request_id = ?",
+            Timestamp.class,
+            context.requestId()
+        );
+        assertThat(row.get("attempt_count")).isEqualTo(0);
+        assertThat(row.get("status")).isEqualTo("PENDING");
+        assertThat(nextAttemptAt.toInstant()).isAfter(Instant.now());
+        assertThat(pendingTaskCount(context.requestId(), "approve_second")).isZero();
+
+        // The deferred row becomes due again later; keep it away from other tests' drain counts.
+        jdbcTemplate.update("delete from workflow_advancements where request_id = ?", context.requestId());
+    }
+
+    private AsyncContext submitSequentialWorkflow() throws Exception {
+        return submitWorkflow("""
+            {
+              "nodes":[
+                {"id":"start","type":"START"},
+                {"id":"approve_first","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                {"id":"approve_second","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                {"id":"end","type":"END"}
+              ],
+              "edges":[
+                {"from":"start","to":"approve_first"},
+                {"from":"approve_first","to":"approve_second"},
+                {"from":"approve_second","to":"end"}
+              ]
+            }
+            """);
+    }
+
+    private AsyncContext submitWorkflow(String graphJson) throws Exception {
+        String adminToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "admin");
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        String approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String requestType = "ASYNC_" + suffix;
+        RuntimeTestSupport.createAndActivateWorkflow(
+            mockMvc,
+            objectMapper,
+            adminToken,
+            "WF_ASYNC_" + suffix,
+            requestType,
+            graphJson
+        );
+
+        JsonNode created = RuntimeTestSupport.createRequest(
+            mockMvc,
+            objectMapper,
+            requestorToken,
+            requestType,
+            "Async advancement",
+            900
+        );
+        UUID requestId = UUID.fromString(created.get("id").asText());
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, requestId, "async-submit-" + suffix);
+
+        return new AsyncContext(requestId, requestorToken, approverToken);
+    }
+
+    private void claimAndApprove(AsyncContext context, UUID taskId, String keyPrefix) throws Exception {
+        mockMvc.perform(post("/api/tasks/" + taskId + "/claim")
+                .header("Authorization", "Bearer " + context.approverToken())
+                .header("Idempotency-Key", keyPrefix + "-claim-" + taskId))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/tasks/" + taskId + "/decisions")
+                .header("Authorization", "Bearer " + context.approverToken())
+                .header("Idempotency-Key", keyPrefix + "-approve-" + taskId)
+                .contentType("application/json")
+                .content("{\"action\":\"APPROVE\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.action").value("APPROVE"));
+    }
+
+    private void requestStatus(AsyncContext context, String expectedStatus) throws Exception {
+        mockMvc.perform(get("/api/requests/" + context.requestId())
+                .header("Authorization", "Bearer " + context.requestorToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(expectedStatus));
+    }
+
+    private UUID pendingTaskAt(UUID requestId, String stepKey) {
+        return jdbcTemplate.queryForObject(
+            "select id from tasks where request_id = ? and step_key = ? and status = 'PENDING'",
+            UUID.class,
+            requestId,
+            stepKey
+        );
+    }
+
+    private int pendingTaskCount(UUID requestId, String stepKey) {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from tasks where request_id = ? and step_key = ? and status = 'PENDING'",
+            Integer.class,
+            requestId,
+            stepKey
+        );
+    }
+
+    private int queuedAdvancements(UUID requestId) {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from workflow_advancements where request_id = ?",
+            Integer.class,
+            requestId
+        );
+    }
+
+    private record AsyncContext(UUID requestId, String requestorToken, String approverToken) {
+    }
+}
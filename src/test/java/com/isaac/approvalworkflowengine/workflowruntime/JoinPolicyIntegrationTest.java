@@ -95,6 +95,40 @@ class JoinPolicyIntegrationTest {
             .andExpect(jsonPath("$.status").value("APPROVED"));
     }
 
+    @Test
+    void rejectCancelsActiveSiblingsWithVersionBumpAndInboxUpdate() throws Exception {
+        RuntimeJoinContext context = setupParallelWorkflow("ALL", null);
+
+        UUID rejectedTask = claimAnyPendingTask(context, "reject-claim-1");
+        UUID siblingTask = nextPendingTaskId(context.requestId());
+        Long siblingVersion = jdbcTemplate.queryForObject("select version from tasks where id = ?", Long.class, siblingTask);
+
+        mockMvc.perform(post("/api/tasks/" + rejectedTask + "/decisions")
+                .header("Authorization", "Bearer " + context.approverToken())
+                .header("Idempotency-Key", "reject-decision-1")
+                .contentType("application/json")
+                .content("{\"action\":\"REJECT\",\"comment\":\"Budget exceeded\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.action").value("REJECT"));
+
+        assertThat(jdbcTemplate.queryForObject("select status from tasks where id = ?", String.class, rejectedTask))
+            .isEqualTo("REJECTED");
+        assertThat(jdbcTemplate.queryForObject("select status from tasks where id = ?", String.class, siblingTask))
+            .isEqualTo("CANCELLED");
+        assertThat(jdbcTemplate.queryForObject("select version from tasks where id = ?", Long.class, siblingTask))
+            .isEqualTo(siblingVersion + 1);
+        assertThat(jdbcTemplate.queryForList(
+            "select status from task_inbox_entries where task_id = ?",
+            String.class,
+            siblingTask
+        )).containsExactly("CANCELLED");
+
+        mockMvc.perform(get("/api/requests/" + context.requestId())
+                .header("Authorization", "Bearer " + context.requestorToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("REJECTED"));
+    }
+
     private RuntimeJoinContext setupParallelWorkflow(String policy, Integer quorum) throws Exception {
         String adminToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "admin");
         String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
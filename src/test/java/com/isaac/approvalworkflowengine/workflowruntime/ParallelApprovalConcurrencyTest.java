@@ -0,0 +1,159 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Approves more branches than the decision retry budget at once under the shipped defaults. Optimistic approvals
+ * bypass the per-instance executor, so every approval reaches the database concurrently and must commit without
+ * exhausting its retries. {@link ParallelApprovalWithoutInstanceExecutorTest} repeats this with the executor off.
+ */
+@SpringBootTest(properties = "app.security.rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ParallelApprovalConcurrencyTest {
+
+    private static final int BRANCHES = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentApprovalsOnIndependentBranchesAllCommit() throws Exception {
+        String adminToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "admin");
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        String approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String requestType = "PARALLEL_" + suffix;
+        RuntimeTestSupport.createAndActivateWorkflow(
+            mockMvc,
+            objectMapper,
+            adminToken,
+            "WF_PARALLEL_" + suffix,
+            requestType,
+            independentBranchesGraph()
+        );
+
+        JsonNode created = RuntimeTestSupport.createRequest(
+            mockMvc,
+            objectMapper,
+            requestorToken,
+            requestType,
+            "Parallel approvals",
+            1800
+        );
+        UUID requestId = UUID.fromString(created.get("id").asText());
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, requestId, "parallel-submit-" + suffix);
+
+        List<UUID> taskIds = jdbcTemplate.queryForList(
+            "select id from tasks where request_id = ? and status = 'PENDING' order by step_key",
+            UUID.class,
+            requestId
+        );
+        assertThat(taskIds).hasSize(BRANCHES);
+        for (UUID taskId : taskIds) {
+            mockMvc.perform(post("/api/tasks/" + taskId + "/claim")
+                    .header("Authorization", "Bearer " + approverToken)
+                    .header("Idempotency-Key", "parallel-claim-" + taskId))
+                .andExpect(status().isOk());
+        }
+
+        Timestamp updatedBeforeDecisions = instanceUpdatedAt(requestId);
+
+        CountDownLatch startGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(taskIds.size());
+        try {
+            List<Future<Integer>> decisions = new ArrayList<>();
+            for (UUID taskId : taskIds) {
+                decisions.add(executor.submit(() -> {
+                    startGate.await();
+                    return mockMvc.perform(post("/api/tasks/" + taskId + "/decisions")
+                            .header("Authorization", "Bearer " + approverToken)
+                            .header("Idempotency-Key", "parallel-approve-" + taskId)
+                            .contentType("application/json")
+                            .content("{\"action\":\"APPROVE\"}"))
+                        .andReturn()
+                        .getResponse()
+                        .getStatus();
+                }));
+            }
+            startGate.countDown();
+
+            for (Future<Integer> decision : decisions) {
+                assertThat(decision.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer approvedCount = jdbcTemplate.queryForObject(
+            "select count(*) from tasks where request_id = ? and status = 'APPROVED'",
+            Integer.class,
+            requestId
+        );
+        assertThat(approvedCount).isEqualTo(BRANCHES);
+        assertThat(jdbcTemplate.queryForObject(
+            "select status from workflow_instances where request_id = ?",
+            String.class,
+            requestId
+        )).isEqualTo("COMPLETED");
+        assertThat(instanceUpdatedAt(requestId)).isAfter(updatedBeforeDecisions);
+
+        mockMvc.perform(get("/api/requests/" + requestId)
+                .header("Authorization", "Bearer " + requestorToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("APPROVED"));
+    }
+
+    private Timestamp instanceUpdatedAt(UUID requestId) {
+        return jdbcTemplate.queryForObject(
+            "select updated_at from workflow_instances where request_id = ?",
+            Timestamp.class,
+            requestId
+        );
+    }
+
+    private String independentBranchesGraph() {
+        List<String> nodes = new ArrayList<>();
+        List<String> edges = new ArrayList<>();
+        nodes.add("{\"id\":\"start\",\"type\":\"START\"}");
+        for (int branch = 1; branch <= BRANCHES; branch++) {
+            String stepKey = "approve_" + branch;
+            nodes.add("{\"id\":\"" + stepKey + "\",\"type\":\"APPROVAL\","
+                + "\"assignment\":{\"strategy\":\"ROLE\",\"role\":\"APPROVER\"}}");
+            edges.add("{\"from\":\"start\",\"to\":\"" + stepKey + "\"}");
+            edges.add("{\"from\":\"" + stepKey + "\",\"to\":\"end\"}");
+        }
+        nodes.add("{\"id\":\"end\",\"type\":\"END\"}");
+        return "{\"nodes\":[" + String.join(",", nodes) + "],\"edges\":[" + String.join(",", edges) + "]}";
+    }
+}
@@ -0,0 +1,14 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Repeats the concurrent branch approvals with the per-instance executor disabled, as on a node that relies on
+ * row locks alone.
+ */
+@SpringBootTest(properties = {
+    "app.security.rate-limit.enabled=false",
+    "app.runtime.instance-executor.enabled=false"
+})
+class ParallelApprovalWithoutInstanceExecutorTest extends ParallelApprovalConcurrencyTest {
+}
@@ -0,0 +1,143 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.isaac.approvalworkflowengine.workflowruntime.execution.RuntimeTaskSnapshot;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowRuntimeGraph;
+import com.isaac.approvalworkflowengine.workflowruntime.model.TaskStatus;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskEntity;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowAssignmentInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowEdgeInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowGraphInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowJoinInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowNodeInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowAssignmentStrategy;
+import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowJoinPolicy;
+import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowNodeType;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RuntimeTaskSnapshotTest {
+
+    @Test
+    void answersTraversalQueriesFromLoadedTasksAndTracksWrites() {
+        TaskEntity approved = task("approve_a", TaskStatus.APPROVED);
+        TaskEntity pending = task("approve_b", TaskStatus.PENDING);
+        TaskEntity claimed = task("approve_c", TaskStatus.CLAIMED);
+        RuntimeTaskSnapshot snapshot = new RuntimeTaskSnapshot(
+            List.of(approved, pending, claimed),
+            List.of(),
+            WorkflowRuntimeGraph.from(quorumJoinGraph())
+        );
+
+        assertThat(snapshot.hasActiveTaskAt("approve_b")).isTrue();
+        assertThat(snapshot.hasActiveTaskAt("approve_a")).isFalse();
+        assertThat(snapshot.approvedPredecessorCount("join")).isEqualTo(1);
+        assertThat(snapshot.pendingWrites()).isEmpty();
+
+        TaskEntity created = task("approve_d", TaskStatus.PENDING);
+        snapshot.add(created);
+        snapshot.transitionActiveTasks(List.of("approve_b", "approve_c"), TaskStatus.SKIPPED);
+
+        assertThat(pending.getStatus()).isEqualTo(TaskStatus.SKIPPED);
+        assertThat(claimed.getStatus()).isEqualTo(TaskStatus.SKIPPED);
+        assertThat(snapshot.activeStepKeys()).containsExactly("approve_d");
+        assertThat(snapshot.pendingWrites()).containsExactly(created, pending, claimed);
+    }
+
+    @Test
+    void countsDistinctApprovedPredecessorsPerJoin() {
+        WorkflowRuntimeGraph graph = WorkflowRuntimeGraph.from(quorumJoinGraph());
+        RuntimeTaskSnapshot snapshot = new RuntimeTaskSnapshot(
+            List.of(
+                task("approve_a", TaskStatus.APPROVED),
+                task("approve_a", TaskStatus.APPROVED),
+                task("approve_b", TaskStatus.PENDING),
+                task("approve_c", TaskStatus.REJECTED)
+            ),
+            List.of(),
+            graph
+        );
+
+        assertThat(graph.requiredJoinApprovals("join")).isEqualTo(2);
+        assertThat(snapshot.approvedPredecessorCount("join")).isEqualTo(1);
+
+        snapshot.add(task("approve_c", TaskStatus.APPROVED));
+
+        assertThat(snapshot.approvedPredecessorCount("join")).isEqualTo(2);
+        assertThat(snapshot.hasActiveTaskAt("approve_b")).isTrue();
+
+        snapshot.transitionActiveTasks(graph.predecessorKeys("join"), TaskStatus.SKIPPED);
+
+        assertThat(snapshot.hasActiveTaskAt("approve_b")).isFalse();
+        assertThat(snapshot.approvedPredecessorCount("join")).isEqualTo(2);
+    }
+
+    @Test
+    void approvingDecidedTaskInSnapshotCountsTowardJoinAndDefersWrite() {
+        TaskEntity decided = task("approve_b", TaskStatus.CLAIMED);
+        RuntimeTaskSnapshot snapshot = new RuntimeTaskSnapshot(
+            List.of(task("approve_a", TaskStatus.APPROVED), decided),
+            List.of(),
+            WorkflowRuntimeGraph.from(quorumJoinGraph())
+        );
+
+        snapshot.transition(decided, TaskStatus.APPROVED);
+
+        assertThat(snapshot.hasActiveTaskAt("approve_b")).isFalse();
+        assertThat(snapshot.approvedPredecessorCount("join")).isEqualTo(2);
+        assertThat(snapshot.activeStepKeys()).isEmpty();
+        assertThat(snapshot.pendingWrites()).containsExactly(decided);
+    }
+
+    @Test
+    void firesEachJoinOnceUntilNewPredecessorTaskReArmsIt() {
+        RuntimeTaskSnapshot snapshot = new RuntimeTaskSnapshot(
+            List.of(task("approve_a", TaskStatus.APPROVED), task("approve_b", TaskStatus.APPROVED)),
+            List.of("join"),
+            WorkflowRuntimeGraph.from(quorumJoinGraph())
+        );
+
+        assertThat(snapshot.fireJoin("join")).isFalse();
+
+        snapshot.add(task("approve_c", TaskStatus.PENDING));
+
+        assertThat(snapshot.firedJoinKeys()).isEmpty();
+        assertThat(snapshot.fireJoin("join")).isTrue();
+        assertThat(snapshot.fireJoin("join")).isFalse();
+        assertThat(snapshot.firedJoinKeys()).containsExactly("join");
+    }
+
+    private WorkflowGraphInput quorumJoinGraph() {
+        WorkflowAssignmentInput approvers = new WorkflowAssignmentInput(WorkflowAssignmentStrategy.ROLE, "APPROVER", null, null);
+        return new WorkflowGraphInput(
+            List.of(
+                new WorkflowNodeInput("start", WorkflowNodeType.START, null, null, null, null),
+                new WorkflowNodeInput("approve_a", WorkflowNodeType.APPROVAL, approvers, null, null, null),
+                new WorkflowNodeInput("approve_b", WorkflowNodeType.APPROVAL, approvers, null, null, null),
+                new WorkflowNodeInput("approve_c", WorkflowNodeType.APPROVAL, approvers, null, null, null),
+                new WorkflowNodeInput("join", WorkflowNodeType.JOIN, null, null, new WorkflowJoinInput(WorkflowJoinPolicy.QUORUM, 2), null),
+                new WorkflowNodeInput("end", WorkflowNodeType.END, null, null, null, null)
+            ),
+            List.of(
+                new WorkflowEdgeInput("start", "approve_a", null),
+                new WorkflowEdgeInput("start", "approve_b", null),
+                new WorkflowEdgeInput("start", "approve_c", null),
+                new WorkflowEdgeInput("approve_a", "join", null),
+                new WorkflowEdgeInput("approve_b", "join", null),
+                new WorkflowEdgeInput("approve_c", "join", null),
+                new WorkflowEdgeInput("join", "end", null)
+            ),
+            null
+        );
+    }
+
+    private TaskEntity task(String stepKey, TaskStatus status) {
+        TaskEntity task = new TaskEntity();
+        task.setId(UUID.randomUUID());
+        task.setStepKey(stepKey);
+        task.setStatus(status);
+        return task;
+    }
+}
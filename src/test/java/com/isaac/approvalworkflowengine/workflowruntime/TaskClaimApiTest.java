@@ -9,6 +9,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -137,4 +141,161 @@ class TaskClaimApiTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.items.length()").value(0));
     }
+
+    @Test
+    void cursorPaginationWalksInboxWithoutDuplicates() throws Exception {
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        String approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
+
+        List<String> requestIds = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            JsonNode created = RuntimeTestSupport.createRequest(
+                mockMvc,
+                objectMapper,
+                requestorToken,
+                "EXPENSE",
+                "Cursor inbox " + index,
+                1000 + index
+            );
+            UUID requestId = UUID.fromString(created.get("id").asText());
+            RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, requestId, "cursor-" + UUID.randomUUID());
+            requestIds.add(requestId.toString());
+        }
+
+        Set<String> seenTaskIds = new HashSet<>();
+        Set<String> seenRequestIds = new HashSet<>();
+        String cursor = "";
+
+        while (cursor != null) {
+            MvcResult result = mockMvc.perform(get("/api/tasks")
+                    .header("Authorization", "Bearer " + approverToken)
+                    .param("size", "2")
+                    .param("after", cursor))
+                .andExpect(status().isOk())
+                .andReturn();
+
+            JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+            assertThat(body.get("items").size()).isLessThanOrEqualTo(2);
+            assertThat(body.path("page").path("totalElements").isIntegralNumber()).isFalse();
+            for (JsonNode item : body.get("items")) {
+                assertThat(seenTaskIds.add(item.get("id").asText())).isTrue();
+                seenRequestIds.add(item.get("requestId").asText());
+            }
+
+            JsonNode nextCursor = body.path("page").path("nextCursor");
+            cursor = nextCursor.isTextual() ? nextCursor.asText() : null;
+        }
+
+        assertThat(seenRequestIds).containsAll(requestIds);
+
+        mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + approverToken)
+                .param("after", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void claimMovesInboxEntryFromRoleToClaimantAndKeepsTotalsInStep() throws Exception {
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        String approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
+
+        JsonNode created = RuntimeTestSupport.createRequest(
+            mockMvc,
+            objectMapper,
+            requestorToken,
+            "EXPENSE",
+            "Inbox projection",
+            1300
+        );
+
+        UUID requestId = UUID.fromString(created.get("id").asText());
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, requestId, "projection-submit-12345");
+
+        UUID taskId = jdbcTemplate.queryForObject(
+            "select id from tasks where request_id = ? and status = 'PENDING'",
+            UUID.class,
+            requestId
+        );
+        assertThat(jdbcTemplate.queryForList(
+            "select principal_type from task_inbox_entries where task_id = ?",
+            String.class,
+            taskId
+        )).containsExactly("ROLE");
+
+        mockMvc.perform(post("/api/tasks/" + taskId + "/claim")
+                .header("Authorization", "Bearer " + approverToken)
+                .header("Idempotency-Key", "projection-claim-12345"))
+            .andExpect(status().isOk());
+
+        assertThat(jdbcTemplate.queryForList(
+            "select principal_type || ':' || status from task_inbox_entries where task_id = ?",
+            String.class,
+            taskId
+        )).containsExactly("USER:CLAIMED");
+
+        Long claimedEntries = jdbcTemplate.queryForObject(
+            """
+            select count(*)
+            from task_inbox_entries e
+            join users u on e.principal_id = cast(u.id as varchar(64))
+            where u.external_subject = 'approver'
+              and e.principal_type = 'USER'
+              and e.status = 'CLAIMED'
+            """,
+            Long.class
+        );
+        MvcResult claimedPage = mockMvc.perform(get("/api/tasks")
+                .header("Authorization", "Bearer " + approverToken)
+                .param("assignedTo", "me")
+                .param("status", "CLAIMED"))
+            .andExpect(status().isOk())
+            .andReturn();
+        assertThat(objectMapper.readTree(claimedPage.getResponse().getContentAsString()).at("/page/totalElements").asLong())
+            .isEqualTo(claimedEntries);
+    }
+
+    @Test
+    void countsEndpointTracksSubmitAndClaimWithoutListing() throws Exception {
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        String approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
+
+        JsonNode before = taskCounts(approverToken);
+
+        JsonNode created = RuntimeTestSupport.createRequest(
+            mockMvc,
+            objectMapper,
+            requestorToken,
+            "EXPENSE",
+            "Inbox badge counts",
+            1400
+        );
+        UUID requestId = UUID.fromString(created.get("id").asText());
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, requestId, "counts-submit-12345");
+
+        JsonNode submitted = taskCounts(approverToken);
+        assertThat(submitted.at("/role/pending").asLong()).isEqualTo(before.at("/role/pending").asLong() + 1);
+        assertThat(submitted.at("/total/pending").asLong()).isEqualTo(before.at("/total/pending").asLong() + 1);
+
+        UUID taskId = jdbcTemplate.queryForObject(
+            "select id from tasks where request_id = ? and status = 'PENDING'",
+            UUID.class,
+            requestId
+        );
+        mockMvc.perform(post("/api/tasks/" + taskId + "/claim")
+                .header("Authorization", "Bearer " + approverToken)
+                .header("Idempotency-Key", "counts-claim-12345"))
+            .andExpect(status().isOk());
+
+        JsonNode claimed = taskCounts(approverToken);
+        assertThat(claimed.at("/role/pending").asLong()).isEqualTo(before.at("/role/pending").asLong());
+        assertThat(claimed.at("/me/claimed").asLong()).isEqualTo(before.at("/me/claimed").asLong() + 1);
+    }
+
+    private JsonNode taskCounts(String token) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks/counts")
+                .header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk())
+            .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
 }
@@ -1,5 +1,6 @@
 package com.isaac.approvalworkflowengine.workflowruntime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -75,6 +76,75 @@ class TaskDecisionApiTest {
             .andExpect(jsonPath("$.status").value("CHANGES_REQUESTED"));
     }
 
+    @Test
+    void resubmitAfterSendBackReplacesPreviousTasksAndDecisions() throws Exception {
+        TaskContext taskContext = claimSubmittedExpenseTask("Resubmit after send back");
+
+        mockMvc.perform(post("/api/tasks/" + taskContext.taskId() + "/decisions")
+                .header("Authorization", "Bearer " + taskContext.approverToken())
+                .header("Idempotency-Key", "sendback-before-resubmit")
+                .contentType("application/json")
+                .content("{\"action\":\"SEND_BACK\",\"comment\":\"Attach the invoice\"}"))
+            .andExpect(status().isOk());
+
+        UUID instanceId = jdbcTemplate.queryForObject(
+            "select workflow_instance_id from tasks where id = ?",
+            UUID.class,
+            taskContext.taskId()
+        );
+
+        RuntimeTestSupport.submitRequest(
+            mockMvc,
+            objectMapper,
+            taskContext.requestorToken(),
+            taskContext.requestId(),
+            "resubmit-after-send-back"
+        );
+
+        Integer oldTasks = jdbcTemplate.queryForObject(
+            "select count(*) from tasks where id = ?",
+            Integer.class,
+            taskContext.taskId()
+        );
+        Integer oldDecisions = jdbcTemplate.queryForObject(
+            "select count(*) from task_decisions where task_id = ?",
+            Integer.class,
+            taskContext.taskId()
+        );
+        Integer oldInboxEntries = jdbcTemplate.queryForObject(
+            "select count(*) from task_inbox_entries where task_id = ?",
+            Integer.class,
+            taskContext.taskId()
+        );
+        UUID newTaskId = jdbcTemplate.queryForObject(
+            "select id from tasks where workflow_instance_id = ? and status = 'PENDING'",
+            UUID.class,
+            instanceId
+        );
+        Integer instanceTasks = jdbcTemplate.queryForObject(
+            "select count(*) from tasks where workflow_instance_id = ?",
+            Integer.class,
+            instanceId
+        );
+        Integer instanceDecisions = jdbcTemplate.queryForObject(
+            "select count(*) from task_decisions d join tasks t on t.id = d.task_id where t.workflow_instance_id = ?",
+            Integer.class,
+            instanceId
+        );
+
+        assertThat(oldTasks).isZero();
+        assertThat(oldDecisions).isZero();
+        assertThat(oldInboxEntries).isZero();
+        assertThat(newTaskId).isNotEqualTo(taskContext.taskId());
+        assertThat(instanceTasks).isEqualTo(1);
+        assertThat(instanceDecisions).isZero();
+
+        mockMvc.perform(get("/api/requests/" + taskContext.requestId())
+                .header("Authorization", "Bearer " + taskContext.requestorToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("IN_REVIEW"));
+    }
+
     @Test
     void rejectSetsRequestToRejected() throws Exception {
         TaskContext taskContext = claimSubmittedExpenseTask("Reject status");
@@ -147,6 +217,80 @@ class TaskDecisionApiTest {
             .andExpect(jsonPath("$.id").value(decisionId));
     }
 
+    @Test
+    void bulkClaimAndDecideReturnPerItemResults() throws Exception {
+        TaskContext first = createSubmittedExpenseTask("Bulk first");
+        TaskContext second = createSubmittedExpenseTask("Bulk second");
+        UUID missingTaskId = UUID.randomUUID();
+
+        mockMvc.perform(post("/api/tasks/bulk/claims")
+                .header("Authorization", "Bearer " + first.approverToken())
+                .contentType("application/json")
+                .content("""
+                    {"items":[
+                      {"taskId":"%s","idempotencyKey":"bulk-claim-first"},
+                      {"taskId":"%s","idempotencyKey":"bulk-claim-second"},
+                      {"taskId":"%s","idempotencyKey":"bulk-claim-missing"}
+                    ]}
+                    """.formatted(first.taskId(), second.taskId(), missingTaskId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].taskId").value(first.taskId().toString()))
+            .andExpect(jsonPath("$.items[0].status").value(200))
+            .andExpect(jsonPath("$.items[0].result.status").value("CLAIMED"))
+            .andExpect(jsonPath("$.items[1].result.status").value("CLAIMED"))
+            .andExpect(jsonPath("$.items[2].status").value(404))
+            .andExpect(jsonPath("$.items[2].errorCode").value("NOT_FOUND"));
+
+        String decisions = """
+            {"items":[
+              {"taskId":"%s","idempotencyKey":"bulk-approve-first","action":"APPROVE"},
+              {"taskId":"%s","idempotencyKey":"bulk-reject-second","action":"REJECT"}
+            ]}
+            """.formatted(first.taskId(), second.taskId());
+
+        MvcResult decided = mockMvc.perform(post("/api/tasks/bulk/decisions")
+                .header("Authorization", "Bearer " + first.approverToken())
+                .contentType("application/json")
+                .content(decisions))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].status").value(200))
+            .andExpect(jsonPath("$.items[0].result.action").value("APPROVE"))
+            .andExpect(jsonPath("$.items[1].status").value(400))
+            .andExpect(jsonPath("$.items[1].errorCode").value("BAD_REQUEST"))
+            .andReturn();
+
+        String decisionId = objectMapper.readTree(decided.getResponse().getContentAsString())
+            .at("/items/0/result/id").asText();
+
+        mockMvc.perform(get("/api/requests/" + first.requestId())
+                .header("Authorization", "Bearer " + first.requestorToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("APPROVED"));
+
+        mockMvc.perform(post("/api/tasks/bulk/decisions")
+                .header("Authorization", "Bearer " + first.approverToken())
+                .contentType("application/json")
+                .content(decisions))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[0].result.id").value(decisionId));
+    }
+
+    @Test
+    void bulkClaimRejectsDuplicateTaskIds() throws Exception {
+        TaskContext taskContext = createSubmittedExpenseTask("Bulk duplicate");
+
+        mockMvc.perform(post("/api/tasks/bulk/claims")
+                .header("Authorization", "Bearer " + taskContext.approverToken())
+                .contentType("application/json")
+                .content("""
+                    {"items":[
+                      {"taskId":"%s","idempotencyKey":"bulk-dup-one"},
+                      {"taskId":"%s","idempotencyKey":"bulk-dup-two"}
+                    ]}
+                    """.formatted(taskContext.taskId(), taskContext.taskId())))
+            .andExpect(status().isBadRequest());
+    }
+
     private TaskContext createSubmittedExpenseTask(String title) throws Exception {
         String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
         String approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
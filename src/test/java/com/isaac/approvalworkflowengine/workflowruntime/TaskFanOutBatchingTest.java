@@ -0,0 +1,144 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.isaac.approvalworkflowengine.workflowruntime.repository.entity.TaskEntity;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Counts the JDBC statements Hibernate prepares while a parallel fan-out is created and then cancelled by a
+ * rejection. Task and inbox inserts are batched and sibling cancellation is one set-based update, so a wider
+ * fan-out must not prepare more statements than a narrow one; per-row writes would add at least one per branch.
+ */
+@SpringBootTest(properties = {
+    "app.security.rate-limit.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskFanOutBatchingTest {
+
+    private static final int NARROW = 2;
+    private static final int WIDE = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void widerFanOutPreparesNoExtraStatementsPerTask() throws Exception {
+        String adminToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "admin");
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        String approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
+
+        FanOutStatements narrow = submitAndReject(NARROW, adminToken, requestorToken, approverToken);
+        FanOutStatements wide = submitAndReject(WIDE, adminToken, requestorToken, approverToken);
+
+        assertThat(narrow.insertedTasks()).isEqualTo(NARROW);
+        assertThat(wide.insertedTasks()).isEqualTo(WIDE);
+        assertThat(wide.submitStatements() - narrow.submitStatements()).isLessThan(WIDE - NARROW);
+        assertThat(wide.rejectStatements() - narrow.rejectStatements()).isLessThan(WIDE - NARROW);
+    }
+
+    private FanOutStatements submitAndReject(
+        int branches,
+        String adminToken,
+        String requestorToken,
+        String approverToken
+    ) throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String requestType = "FAN_OUT_" + suffix;
+        RuntimeTestSupport.createAndActivateWorkflow(
+            mockMvc,
+            objectMapper,
+            adminToken,
+            "WF_FAN_OUT_" + suffix,
+            requestType,
+            fanOutGraph(branches)
+        );
+        JsonNode created = RuntimeTestSupport.createRequest(
+            mockMvc,
+            objectMapper,
+            requestorToken,
+            requestType,
+            "Fan-out batching",
+            1500
+        );
+        UUID requestId = UUID.fromString(created.get("id").asText());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, requestId, "fan-out-submit-" + suffix);
+        long submitStatements = statistics.getPrepareStatementCount();
+        long insertedTasks = statistics.getEntityStatistics(TaskEntity.class.getName()).getInsertCount();
+
+        UUID rejectedTask = jdbcTemplate.queryForList(
+            "select id from tasks where request_id = ? and status = 'PENDING' order by step_key",
+            UUID.class,
+            requestId
+        ).getFirst();
+        mockMvc.perform(post("/api/tasks/" + rejectedTask + "/claim")
+                .header("Authorization", "Bearer " + approverToken)
+                .header("Idempotency-Key", "fan-out-claim-" + suffix))
+            .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(post("/api/tasks/" + rejectedTask + "/decisions")
+                .header("Authorization", "Bearer " + approverToken)
+                .header("Idempotency-Key", "fan-out-reject-" + suffix)
+                .contentType("application/json")
+                .content("{\"action\":\"REJECT\",\"comment\":\"Out of budget\"}"))
+            .andExpect(status().isOk());
+        long rejectStatements = statistics.getPrepareStatementCount();
+
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from tasks where request_id = ? and status = 'CANCELLED'",
+            Integer.class,
+            requestId
+        )).isEqualTo(branches - 1);
+
+        return new FanOutStatements(insertedTasks, submitStatements, rejectStatements);
+    }
+
+    private String fanOutGraph(int branches) {
+        List<String> nodes = new ArrayList<>();
+        List<String> edges = new ArrayList<>();
+        nodes.add("{\"id\":\"start\",\"type\":\"START\"}");
+        for (int branch = 1; branch <= branches; branch++) {
+            String stepKey = "approve_" + branch;
+            nodes.add("{\"id\":\"" + stepKey + "\",\"type\":\"APPROVAL\","
+                + "\"assignment\":{\"strategy\":\"ROLE\",\"role\":\"APPROVER\"}}");
+            edges.add("{\"from\":\"start\",\"to\":\"" + stepKey + "\"}");
+            edges.add("{\"from\":\"" + stepKey + "\",\"to\":\"end\"}");
+        }
+        nodes.add("{\"id\":\"end\",\"type\":\"END\"}");
+        return "{\"nodes\":[" + String.join(",", nodes) + "],\"edges\":[" + String.join(",", edges) + "]}";
+    }
+
+    private record FanOutStatements(long insertedTasks, long submitStatements, long rejectStatements) {
+    }
+}
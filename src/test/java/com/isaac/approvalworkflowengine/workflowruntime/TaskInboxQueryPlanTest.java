@@ -0,0 +1,156 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Explains the SQL Hibernate actually generates for inbox listings. Statements are captured through a
+ * {@link StatementInspector}; criteria values are rendered inline so the captured text can be explained as is.
+ * Limit/offset placeholders are filled with a page size and the bound values of the native page query with a
+ * UUID literal, which every compared column accepts.
+ */
+@SpringBootTest(properties = {
+    "app.security.rate-limit.enabled=false",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.isaac.approvalworkflowengine.workflowruntime.TaskInboxQueryPlanTest$CapturingStatementInspector",
+    "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskInboxQueryPlanTest {
+
+    private static final String PLACEHOLDER_VALUE = "'00000000-0000-0000-0000-000000000020'";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String approverToken;
+
+    @BeforeEach
+    void submitTaskForApprover() throws Exception {
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
+
+        JsonNode created = RuntimeTestSupport.createRequest(mockMvc, objectMapper, requestorToken, "EXPENSE", "Inbox plan", 1200);
+        UUID requestId = UUID.fromString(created.get("id").asText());
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, requestId, "plan-submit-" + requestId);
+    }
+
+    @Test
+    void defaultListingCountsAndReadsEveryBranchThroughPrincipalIndex() throws Exception {
+        List<String> statements = inboxStatements(get("/api/tasks"));
+
+        assertThat(statements).anyMatch(sql -> sql.contains("count("));
+        assertThat(statements).anyMatch(sql -> !sql.contains("count("));
+        assertUsesPrincipalIndex(statements);
+    }
+
+    @Test
+    void offsetPageSkipsRowsInOneUnionStatement() throws Exception {
+        List<String> statements = inboxStatements(get("/api/tasks").param("page", "0").param("size", "1"));
+
+        assertThat(statements.stream().filter(sql -> !sql.contains("count(")))
+            .singleElement()
+            .asString()
+            .contains("union all")
+            .contains(" offset ");
+        assertUsesPrincipalIndex(statements);
+    }
+
+    @Test
+    void createdAtCursorPageSeeksOnCreatedIndex() throws Exception {
+        String raw = "createdAt|" + Instant.now() + "|" + UUID.randomUUID();
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        List<String> statements = inboxStatements(get("/api/tasks").param("status", "PENDING").param("after", cursor));
+
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            assertThat(explain(sql))
+                .as(sql)
+                .contains("idx_task_inbox_principal_status_created")
+                .doesNotContain("tablescan");
+        }
+    }
+
+    @Test
+    void statusFilteredListingUsesPrincipalIndex() throws Exception {
+        List<String> statements = inboxStatements(get("/api/tasks").param("status", "PENDING"));
+
+        assertThat(statements).isNotEmpty();
+        assertUsesPrincipalIndex(statements);
+    }
+
+    @Test
+    void roleListingIncludingClaimedRoleTasksUsesPrincipalIndex() throws Exception {
+        List<String> statements = inboxStatements(get("/api/tasks").param("assignedTo", "role"));
+
+        assertThat(statements).anyMatch(sql -> sql.contains("claimed_by_user_id"));
+        assertUsesPrincipalIndex(statements);
+    }
+
+    private List<String> inboxStatements(MockHttpServletRequestBuilder request) throws Exception {
+        CapturingStatementInspector.STATEMENTS.clear();
+        mockMvc.perform(request.header("Authorization", "Bearer " + approverToken))
+            .andExpect(status().isOk());
+
+        return CapturingStatementInspector.STATEMENTS.stream()
+            .map(sql -> sql.toLowerCase(Locale.ROOT))
+            .filter(sql -> sql.startsWith("select") && sql.contains("task_inbox_entries"))
+            .toList();
+    }
+
+    private void assertUsesPrincipalIndex(List<String> statements) {
+        for (String sql : statements) {
+            assertThat(explain(sql))
+                .as(sql)
+                .contains("idx_task_inbox_principal_status_")
+                .doesNotContain("tablescan");
+        }
+    }
+
+    private String explain(String sql) {
+        String explainable = sql.replaceAll("(limit|offset|first|next) \\?", "$1 20").replace("?", PLACEHOLDER_VALUE);
+        return String.join("\n", jdbcTemplate.queryForList("explain " + explainable, String.class))
+            .toLowerCase(Locale.ROOT);
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
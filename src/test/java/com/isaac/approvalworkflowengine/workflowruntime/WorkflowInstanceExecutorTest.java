@@ -0,0 +1,105 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.isaac.approvalworkflowengine.workflowruntime.config.WorkflowRuntimeProperties;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowInstanceExecutor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class WorkflowInstanceExecutorTest {
+
+    @Test
+    void runsWorkForOneInstanceOneAtATime() throws Exception {
+        WorkflowInstanceExecutor executor = new WorkflowInstanceExecutor(new WorkflowRuntimeProperties());
+        UUID instanceId = UUID.randomUUID();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> calls = new ArrayList<>();
+            for (int index = 0; index < 8; index++) {
+                calls.add(CompletableFuture.runAsync(() -> executor.execute(instanceId, () -> {
+                    maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                    sleep(Duration.ofMillis(10));
+                    return inside.decrementAndGet();
+                }), callers));
+            }
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(maxInside).hasValue(1);
+    }
+
+    @Test
+    void differentInstancesDoNotWaitForEachOther() throws Exception {
+        WorkflowInstanceExecutor executor = new WorkflowInstanceExecutor(new WorkflowRuntimeProperties());
+        CountDownLatch otherInstanceRan = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> executor.execute(
+            UUID.randomUUID(),
+            () -> await(otherInstanceRan)
+        ));
+        executor.execute(UUID.randomUUID(), () -> {
+            otherInstanceRan.countDown();
+            return null;
+        });
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void callerGivesUpAfterQueueTimeout() throws Exception {
+        WorkflowRuntimeProperties properties = new WorkflowRuntimeProperties();
+        properties.getInstanceExecutor().setQueueTimeout(Duration.ofMillis(50));
+        WorkflowInstanceExecutor executor = new WorkflowInstanceExecutor(properties);
+        UUID instanceId = UUID.randomUUID();
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> holder = CompletableFuture.supplyAsync(() -> executor.execute(instanceId, () -> {
+            holding.countDown();
+            return await(release);
+        }));
+
+        try {
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThatThrownBy(() -> executor.execute(instanceId, () -> null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("busy");
+        } finally {
+            release.countDown();
+        }
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "app.security.rate-limit.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WorkflowInstanceStepQueryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void listsInstancesByCurrentStepAsTheyAdvance() throws Exception {
+        String adminToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "admin");
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        String approverToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "approver");
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String requestType = "STEP_QUERY_" + suffix;
+        UUID workflowVersionId = RuntimeTestSupport.createAndActivateWorkflow(
+            mockMvc,
+            objectMapper,
+            adminToken,
+            "WF_STEP_QUERY_" + suffix,
+            requestType,
+            """
+                {
+                  "nodes":[
+                    {"id":"start","type":"START"},
+                    {"id":"approve_first","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                    {"id":"approve_second","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                    {"id":"end","type":"END"}
+                  ],
+                  "edges":[
+                    {"from":"start","to":"approve_first"},
+                    {"from":"approve_first","to":"approve_second"},
+                    {"from":"approve_second","to":"end"}
+                  ]
+                }
+                """
+        );
+
+        JsonNode created = RuntimeTestSupport.createRequest(
+            mockMvc,
+            objectMapper,
+            requestorToken,
+            requestType,
+            "Step query",
+            700
+        );
+        UUID requestId = UUID.fromString(created.get("id").asText());
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, requestId, "step-query-submit-" + suffix);
+
+        expectSingleInstanceAt(adminToken, workflowVersionId, "approve_first", requestId);
+        expectNoInstanceAt(adminToken, workflowVersionId, "approve_second");
+
+        UUID firstTask = jdbcTemplate.queryForObject(
+            "select id from tasks where request_id = ? and step_key = 'approve_first'",
+            UUID.class,
+            requestId
+        );
+        mockMvc.perform(post("/api/tasks/" + firstTask + "/claim")
+                .header("Authorization", "Bearer " + approverToken)
+                .header("Idempotency-Key", "step-query-claim-" + firstTask))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/api/tasks/" + firstTask + "/decisions")
+                .header("Authorization", "Bearer " + approverToken)
+                .header("Idempotency-Key", "step-query-approve-" + firstTask)
+                .contentType("application/json")
+                .content("{\"action\":\"APPROVE\"}"))
+            .andExpect(status().isOk());
+
+        expectNoInstanceAt(adminToken, workflowVersionId, "approve_first");
+        expectSingleInstanceAt(adminToken, workflowVersionId, "approve_second", requestId);
+    }
+
+    @Test
+    void stepQueryIsRestrictedToWorkflowAdmins() throws Exception {
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+
+        mockMvc.perform(get("/api/workflow-instances")
+                .param("stepKey", "approve_first")
+                .header("Authorization", "Bearer " + requestorToken))
+            .andExpect(status().isForbidden());
+    }
+
+    private void expectSingleInstanceAt(String adminToken, UUID workflowVersionId, String stepKey, UUID requestId)
+        throws Exception {
+        mockMvc.perform(get("/api/workflow-instances")
+                .param("stepKey", stepKey)
+                .param("workflowVersionId", workflowVersionId.toString())
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page.totalElements").value(1))
+            .andExpect(jsonPath("$.items[0].requestId").value(requestId.toString()))
+            .andExpect(jsonPath("$.items[0].status").value("ACTIVE"))
+            .andExpect(jsonPath("$.items[0].currentStepKeys[0]").value(stepKey));
+    }
+
+    private void expectNoInstanceAt(String adminToken, UUID workflowVersionId, String stepKey) throws Exception {
+        mockMvc.perform(get("/api/workflow-instances")
+                .param("stepKey", stepKey)
+                .param("workflowVersionId", workflowVersionId.toString())
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page.totalElements").value(0));
+    }
+}
@@ -0,0 +1,138 @@
+package com.isaac.approvalworkflowengine.workflowruntime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.isaac.approvalworkflowengine.workflowruntime.config.WorkflowRuntimeProperties;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowRuntimeGraph;
+import com.isaac.approvalworkflowengine.workflowruntime.execution.WorkflowRuntimeGraphCache;
+import com.isaac.approvalworkflowengine.workflowtemplate.WorkflowTemplateRuntimeLookup.WorkflowTemplateRuntimeVersion;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowAssignmentInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowEdgeInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowGraphInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowJoinInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.api.WorkflowNodeInput;
+import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowAssignmentStrategy;
+import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowJoinPolicy;
+import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowNodeType;
+import com.isaac.approvalworkflowengine.workflowtemplate.model.WorkflowVersionStatus;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class WorkflowRuntimeGraphCacheTest {
+
+    @Test
+    void compilesImmutableVersionOnceAndReusesGraph() {
+        UUID versionId = UUID.randomUUID();
+        AtomicInteger lookups = new AtomicInteger();
+        WorkflowRuntimeGraphCache cache = new WorkflowRuntimeGraphCache(
+            id -> {
+                lookups.incrementAndGet();
+                return Optional.of(new WorkflowTemplateRuntimeVersion(id, "CACHE", WorkflowVersionStatus.ACTIVE, graph()));
+            },
+            new WorkflowRuntimeProperties()
+        );
+
+        WorkflowRuntimeGraph first = cache.findGraph(versionId).orElseThrow();
+        WorkflowRuntimeGraph second = cache.findGraph(versionId).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(lookups).hasValue(1);
+        assertThat(first.startNode().id()).isEqualTo("start");
+        assertThat(first.successorKeys("start")).containsExactly("approve");
+        assertThat(first.predecessorKeys("end")).containsExactly("approve");
+    }
+
+    @Test
+    void neverCachesDraftVersions() {
+        UUID versionId = UUID.randomUUID();
+        AtomicInteger lookups = new AtomicInteger();
+        WorkflowRuntimeGraphCache cache = new WorkflowRuntimeGraphCache(
+            id -> {
+                lookups.incrementAndGet();
+                return Optional.of(new WorkflowTemplateRuntimeVersion(id, "CACHE", WorkflowVersionStatus.DRAFT, graph()));
+            },
+            new WorkflowRuntimeProperties()
+        );
+
+        cache.findGraph(versionId).orElseThrow();
+        cache.findGraph(versionId).orElseThrow();
+
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedGraphWhenBoundIsReached() {
+        AtomicInteger lookups = new AtomicInteger();
+        WorkflowRuntimeProperties properties = new WorkflowRuntimeProperties();
+        properties.getGraphCache().setMaxEntries(1);
+        WorkflowRuntimeGraphCache cache = new WorkflowRuntimeGraphCache(
+            id -> {
+                lookups.incrementAndGet();
+                return Optional.of(new WorkflowTemplateRuntimeVersion(id, "CACHE", WorkflowVersionStatus.ACTIVE, graph()));
+            },
+            properties
+        );
+
+        UUID firstVersion = UUID.randomUUID();
+        UUID secondVersion = UUID.randomUUID();
+        cache.findGraph(firstVersion);
+        cache.findGraph(secondVersion);
+        cache.findGraph(firstVersion);
+
+        assertThat(lookups).hasValue(3);
+    }
+
+    @Test
+    void marksOnlyApprovalsWhoseBranchReachesAJoin() {
+        WorkflowAssignmentInput approvers = new WorkflowAssignmentInput(WorkflowAssignmentStrategy.ROLE, "APPROVER", null, null);
+        WorkflowRuntimeGraph graph = WorkflowRuntimeGraph.from(new WorkflowGraphInput(
+            List.of(
+                new WorkflowNodeInput("start", WorkflowNodeType.START, null, null, null, null),
+                new WorkflowNodeInput("approve_a", WorkflowNodeType.APPROVAL, approvers, null, null, null),
+                new WorkflowNodeInput("approve_b", WorkflowNodeType.APPROVAL, approvers, null, null, null),
+                new WorkflowNodeInput("approve_c", WorkflowNodeType.APPROVAL, approvers, null, null, null),
+                new WorkflowNodeInput("join", WorkflowNodeType.JOIN, null, null, new WorkflowJoinInput(WorkflowJoinPolicy.ALL, null), null),
+                new WorkflowNodeInput("end", WorkflowNodeType.END, null, null, null, null)
+            ),
+            List.of(
+                new WorkflowEdgeInput("start", "approve_a", null),
+                new WorkflowEdgeInput("start", "approve_b", null),
+                new WorkflowEdgeInput("start", "approve_c", null),
+                new WorkflowEdgeInput("approve_a", "join", null),
+                new WorkflowEdgeInput("approve_b", "join", null),
+                new WorkflowEdgeInput("approve_c", "end", null),
+                new WorkflowEdgeInput("join", "end", null)
+            ),
+            null
+        ));
+
+        assertThat(graph.approvalFeedsJoin("approve_a")).isTrue();
+        assertThat(graph.approvalFeedsJoin("approve_b")).isTrue();
+        assertThat(graph.approvalFeedsJoin("approve_c")).isFalse();
+    }
+
+    private WorkflowGraphInput graph() {
+        return new WorkflowGraphInput(
+            List.of(
+                new WorkflowNodeInput("start", WorkflowNodeType.START, null, null, null, null),
+                new WorkflowNodeInput(
+                    "approve",
+                    WorkflowNodeType.APPROVAL,
+                    new WorkflowAssignmentInput(WorkflowAssignmentStrategy.ROLE, "APPROVER", null, null),
+                    null,
+                    null,
+                    null
+                ),
+                new WorkflowNodeInput("end", WorkflowNodeType.END, null, null, null, null)
+            ),
+            List.of(
+                new WorkflowEdgeInput("start", "approve", null),
+                new WorkflowEdgeInput("approve", "end", null)
+            ),
+            null
+        );
+    }
+}
@@ -69,6 +69,70 @@ class WorkflowRuntimeSubmitIntegrationTest {
         assertThat(pendingTaskCount).isEqualTo(1);
     }
 
+    @Test
+    void submitRoutesDecisionGatewayToTableBranch() throws Exception {
+        String adminToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "admin");
+        String requestorToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "requestor");
+        String suffix = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String ruleSetKey = "ROUTE_TABLE_" + suffix;
+        String requestType = "TABLE_REQ_" + suffix;
+
+        mockMvc.perform(post("/api/rule-sets/" + ruleSetKey + "/versions")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"dsl":{"decisionTable":{
+                      "columns":[{"field":"department","match":"equals"},{"field":"amount","match":"range"}],
+                      "rows":[
+                        {"when":{"department":"Finance","amount":{"min":1000}},"branch":"FINANCE_HIGH"},
+                        {"when":{"department":"Finance"},"branch":"FINANCE"}
+                      ],
+                      "defaultBranch":"MANAGER"
+                    }}}
+                    """))
+            .andExpect(status().isCreated());
+
+        RuntimeTestSupport.createAndActivateWorkflow(
+            mockMvc,
+            objectMapper,
+            adminToken,
+            "WF_TABLE_ROUTE_" + suffix,
+            requestType,
+            """
+            {
+              "nodes":[
+                {"id":"start","type":"START"},
+                {"id":"route","type":"GATEWAY","ruleRef":{"ruleSetKey":"%s","version":1}},
+                {"id":"finance_high","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                {"id":"finance","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                {"id":"manager","type":"APPROVAL","assignment":{"strategy":"ROLE","role":"APPROVER"}},
+                {"id":"end","type":"END"}
+              ],
+              "edges":[
+                {"from":"start","to":"route"},
+                {"from":"route","to":"finance_high","condition":{"branch":"FINANCE_HIGH"}},
+                {"from":"route","to":"finance","condition":{"branch":"FINANCE"}},
+                {"from":"route","to":"manager","condition":{"branch":"MANAGER"}},
+                {"from":"finance_high","to":"end"},
+                {"from":"finance","to":"end"},
+                {"from":"manager","to":"end"}
+              ]
+            }
+            """.formatted(ruleSetKey)
+        );
+
+        JsonNode highAmount = RuntimeTestSupport.createRequest(mockMvc, objectMapper, requestorToken, requestType, "High", 1500);
+        JsonNode lowAmount = RuntimeTestSupport.createRequest(mockMvc, objectMapper, requestorToken, requestType, "Low", 200);
+        UUID highRequestId = UUID.fromString(highAmount.get("id").asText());
+        UUID lowRequestId = UUID.fromString(lowAmount.get("id").asText());
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, highRequestId, "table-high-" + suffix);
+        RuntimeTestSupport.submitRequest(mockMvc, objectMapper, requestorToken, lowRequestId, "table-low-" + suffix);
+
+        String taskStepSql = "select step_key from tasks where request_id = ? and status = 'PENDING'";
+        assertThat(jdbcTemplate.queryForList(taskStepSql, String.class, highRequestId)).containsExactly("finance_high");
+        assertThat(jdbcTemplate.queryForList(taskStepSql, String.class, lowRequestId)).containsExactly("finance");
+    }
+
     @Test
     void submitRejectsRuleAssignmentStrategyAtRuntime() throws Exception {
         String adminToken = RuntimeTestSupport.loginAndExtractToken(mockMvc, objectMapper, "admin");
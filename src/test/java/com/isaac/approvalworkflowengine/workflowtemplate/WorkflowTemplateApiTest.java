@@ -236,6 +236,47 @@ class WorkflowTemplateApiTest {
             .andExpect(jsonPath("$.status").value("ACTIVE"));
     }
 
+    @Test
+    void activationChecksDecisionGatewayEdgesAgainstTableBranches() throws Exception {
+        String adminToken = loginAndExtractToken("admin", "password");
+        String ruleSetKey = "ROUTE_TABLE_" + uniqueSuffix();
+
+        mockMvc.perform(post("/api/rule-sets/" + ruleSetKey + "/versions")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"dsl":{"decisionTable":{
+                      "columns":[{"field":"amount","match":"range"}],
+                      "rows":[{"when":{"amount":{"min":1000}},"branch":"HIGH"}],
+                      "defaultBranch":"LOW"
+                    }}}
+                    """))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.type").value("DECISION_TABLE"));
+
+        JsonNode missingBranch = createDefinitionAndVersion(
+            adminToken,
+            "WF_TABLE_MISSING",
+            "REQ_TABLE_MISSING",
+            decisionGatewayGraphJson(ruleSetKey, "HIGH", "MEDIUM")
+        );
+        mockMvc.perform(post("/api/workflow-versions/" + missingBranch.get("id").asText() + "/activate")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("decision branch LOW")));
+
+        JsonNode complete = createDefinitionAndVersion(
+            adminToken,
+            "WF_TABLE_PRESENT",
+            "REQ_TABLE_PRESENT",
+            decisionGatewayGraphJson(ruleSetKey, "HIGH", "LOW")
+        );
+        mockMvc.perform(post("/api/workflow-versions/" + complete.get("id").asText() + "/activate")
+                .header("Authorization", "Bearer " + adminToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("ACTIVE"));
+    }
+
     @Test
     void activatingNewVersionAutoRetiresExistingActiveVersion() throws Exception {
         String adminToken = loginAndExtractToken("admin", "password");
@@ -477,6 +518,23 @@ class WorkflowTemplateApiTest {
             """;
     }
 
+    private String decisionGatewayGraphJson(String ruleSetKey, String firstBranch, String secondBranch) {
+        return """
+            {
+              "nodes":[
+                {"id":"start","type":"START"},
+                {"id":"gate","type":"GATEWAY","ruleRef":{"ruleSetKey":"%s","version":1}},
+                {"id":"end","type":"END"}
+              ],
+              "edges":[
+                {"from":"start","to":"gate"},
+                {"from":"gate","to":"end","condition":{"branch":"%s"}},
+                {"from":"gate","to":"end","condition":{"branch":"%s"}}
+              ]
+            }
+            """.formatted(ruleSetKey, firstBranch, secondBranch);
+    }
+
     private String gatewayRuleRefGraphJson(String ruleSetKey, int version) {
         return """
             {